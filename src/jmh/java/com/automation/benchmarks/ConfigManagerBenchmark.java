@@ -0,0 +1,62 @@
+package com.automation.benchmarks;
+
+import com.automation.config.ConfigManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration lookups as done by every page object and wait, single threaded and under contention
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigManagerBenchmark {
+
+    private final ConfigManager config = ConfigManager.getInstance();
+
+    @Benchmark
+    public ConfigManager getInstance() {
+        return ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    public String getProperty() {
+        return config.getProperty("base.url");
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return config.getIntProperty("explicit.wait", 10);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ConfigManager getInstanceContended() {
+        return ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String getPropertyContended() {
+        return config.getProperty("base.url");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int getIntPropertyContended() {
+        return config.getIntProperty("explicit.wait", 10);
+    }
+}
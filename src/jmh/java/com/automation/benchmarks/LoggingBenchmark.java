@@ -0,0 +1,44 @@
+package com.automation.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a disabled debug statement as written in BasePage and WaitUtils, before and after
+ * switching from string concatenation to parameterized messages; compare gc.alloc.rate.norm
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggingBenchmark {
+    private static final Logger logger = LogManager.getLogger("com.automation.base.BasePage");
+
+    private final By locator = By.id("login-button");
+    private final String attribute = "class";
+    private final String value = "btn_action";
+
+    @Benchmark
+    public void concatenatedDebug() {
+        logger.debug("Got attribute '" + attribute + "' = '" + value + "' from element: " + locator);
+    }
+
+    @Benchmark
+    public void parameterizedDebug() {
+        logger.debug("Got attribute '{}' = '{}' from element: {}", attribute, value, locator);
+    }
+}
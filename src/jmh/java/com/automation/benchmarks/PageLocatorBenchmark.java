@@ -0,0 +1,68 @@
+package com.automation.benchmarks;
+
+import com.automation.pages.CartPage;
+import com.automation.pages.InventoryPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name and index based locator resolution in InventoryPage and CartPage, including the element lookup around it
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageLocatorBenchmark {
+
+    @Param({"Sauce Labs Backpack", "Test.allTheThings() T-Shirt (Red)"})
+    public String productName;
+
+    private InventoryPage inventoryPage;
+    private CartPage cartPage;
+
+    @Setup
+    public void setUp() {
+        WebDriver driver = StubDriver.create("$29.99", 6, new byte[0]);
+        inventoryPage = new InventoryPage(driver);
+        cartPage = new CartPage(driver);
+    }
+
+    @Benchmark
+    public String inventoryButtonTextByName() {
+        return inventoryPage.getProductButtonText(productName);
+    }
+
+    @Benchmark
+    public String inventoryButtonTextByIndex() {
+        return inventoryPage.getProductButtonTextByIndex(3);
+    }
+
+    @Benchmark
+    public void inventoryAddToCartByName() {
+        inventoryPage.addProductToCart(productName);
+    }
+
+    @Benchmark
+    public String cartItemPriceByName() {
+        return cartPage.getItemPrice(productName);
+    }
+
+    @Benchmark
+    public String cartItemPriceByIndex() {
+        return cartPage.getItemPriceByIndex(3);
+    }
+}
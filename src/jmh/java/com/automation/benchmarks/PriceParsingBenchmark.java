@@ -0,0 +1,57 @@
+package com.automation.benchmarks;
+
+import com.automation.pages.CartPage;
+import com.automation.pages.CheckoutPage;
+import com.automation.utils.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Price extraction and summing in CartPage.getTotalPrice and CheckoutPage.getTotalAmount
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriceParsingBenchmark {
+
+    @Param({"1", "6"})
+    public int cartItems;
+
+    private CartPage cartPage;
+    private CheckoutPage checkoutPage;
+
+    @Setup
+    public void setUp() {
+        cartPage = new CartPage(StubDriver.create("$29.99", cartItems, new byte[0]));
+        checkoutPage = new CheckoutPage(StubDriver.create("Total: $140.34", 1, new byte[0]));
+    }
+
+    @Benchmark
+    public Money cartTotalPrice() {
+        return cartPage.getTotalPrice();
+    }
+
+    @Benchmark
+    public Money checkoutTotalAmount() {
+        return checkoutPage.getTotalAmount();
+    }
+
+    @Benchmark
+    public long parseCents() {
+        return Money.parseCents("Item total: $1,129.94");
+    }
+}
@@ -0,0 +1,68 @@
+package com.automation.benchmarks;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.ScreenshotUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Screenshot decoding and persistence for a 1366x768 page, as bytes, base64 and file
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScreenshotBenchmark {
+
+    private WebDriver driver;
+    private Path screenshotDirectory;
+    private long counter;
+
+    @Setup
+    public void setUp() throws IOException {
+        driver = StubDriver.create("", 0, StubDriver.renderScreenshot(1366, 768));
+        screenshotDirectory = Files.createTempDirectory("screenshot-benchmark");
+        ConfigManager.getInstance().setProperty("screenshot.path", screenshotDirectory + "/");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(screenshotDirectory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public byte[] asBytes() {
+        return ScreenshotUtils.takeScreenshotAsBytes(driver);
+    }
+
+    @Benchmark
+    public String asBase64() {
+        return ScreenshotUtils.takeScreenshotAsBase64(driver);
+    }
+
+    @Benchmark
+    public String toFile() {
+        return ScreenshotUtils.takeScreenshot(driver, "benchmark" + counter++, "file");
+    }
+}
@@ -0,0 +1,129 @@
+package com.automation.benchmarks;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * In-memory WebDriver for benchmarks
+ * Every lookup, including scripted lookups, succeeds immediately with visible, enabled elements returning the configured text,
+ * so benchmarks measure framework overhead without browser round trips
+ */
+final class StubDriver {
+
+    private StubDriver() {
+    }
+
+    /**
+     * Create a stub driver
+     * @param elementText text returned by every element
+     * @param elementCount number of elements returned by findElements
+     * @param screenshotPng PNG returned for screenshots
+     * @return driver implementing WebDriver, JavascriptExecutor and TakesScreenshot
+     */
+    static WebDriver create(String elementText, int elementCount, byte[] screenshotPng) {
+        WebElement element = createElement(elementText);
+        List<WebElement> elements = Collections.unmodifiableList(new ArrayList<>(Collections.nCopies(elementCount, element)));
+        return (WebDriver) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findElement":
+                        return element;
+                    case "findElements":
+                        return elements;
+                    case "executeScript":
+                        // Scripted locators resolve to a single element
+                        return Collections.singletonList(element);
+                    case "getScreenshotAs":
+                        return ((OutputType<?>) args[0]).convertFromPngBytes(screenshotPng);
+                    case "getCurrentUrl":
+                        return "http://localhost/inventory.html";
+                    case "getTitle":
+                        return "Swag Labs";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "StubDriver";
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    /**
+     * Render a screenshot-sized PNG with enough detail to compress like a real page
+     * @param width image width
+     * @param height image height
+     * @return PNG bytes
+     */
+    static byte[] renderScreenshot(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        Random random = new Random(42);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        for (int y = 60; y < height; y += 24) {
+            for (int x = 20; x < width - 40; x += 8 + random.nextInt(40)) {
+                graphics.setColor(new Color(random.nextInt(80), random.nextInt(80), random.nextInt(80)));
+                graphics.fillRect(x, y, 2 + random.nextInt(30), 12);
+            }
+        }
+        graphics.dispose();
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static WebElement createElement(String text) {
+        return (WebElement) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+            new Class<?>[] {WebElement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getText":
+                        return text;
+                    case "getAttribute":
+                    case "getDomAttribute":
+                    case "getDomProperty":
+                        return "";
+                    case "isDisplayed":
+                    case "isEnabled":
+                        return true;
+                    case "isSelected":
+                        return false;
+                    case "findElement":
+                        return proxy;
+                    case "findElements":
+                        return Collections.singletonList(proxy);
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    case "toString":
+                        return "StubElement";
+                    default:
+                        return null;
+                }
+            });
+    }
+}
@@ -0,0 +1,62 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.WaitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the wait machinery around every element interaction when the element is already there
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WaitUtilsBenchmark {
+
+    private final By locator = By.id("login-button");
+    private WebDriver driver;
+
+    @Setup
+    public void setUp() {
+        driver = StubDriver.create("Login", 1, new byte[0]);
+    }
+
+    @Benchmark
+    public WebDriverWait constructWait() {
+        return new WebDriverWait(driver, Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public Object constructWaitAndCondition() {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    @Benchmark
+    public WebElement waitForElementVisible() {
+        return WaitUtils.waitForElementVisible(driver, locator);
+    }
+
+    @Benchmark
+    public WebElement waitForElementClickable() {
+        return WaitUtils.waitForElementClickable(driver, locator);
+    }
+}
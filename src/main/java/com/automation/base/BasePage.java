@@ -1,16 +1,20 @@
 package com.automation.base;
 
 import com.automation.config.ConfigManager;
+import com.automation.drivers.RecoveringDriver;
+import com.automation.jfr.PageInteractionEvent;
+import com.automation.network.NetworkActivityTracker;
+import com.automation.utils.PerformanceMetrics;
 import com.automation.utils.ScreenshotUtils;
 import com.automation.utils.WaitUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Base Page class that provides common functionality for all page objects
@@ -21,6 +25,7 @@ public abstract class BasePage {
     protected Logger logger;
     protected ConfigManager config;
     protected Actions actions;
+    protected ElementCache elementCache;
 
     /**
      * Constructor to initialize page object
@@ -31,7 +36,7 @@ public abstract class BasePage {
         this.logger = LogManager.getLogger(this.getClass());
         this.config = ConfigManager.getInstance();
         this.actions = new Actions(driver);
-        PageFactory.initElements(driver, this);
+        this.elementCache = new ElementCache(driver, config.getBooleanProperty("element.cache.enabled", true));
     }
 
     /**
@@ -39,15 +44,29 @@ public abstract class BasePage {
      * @param url URL to navigate to
      */
     public void navigateTo(String url) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "navigate", url);
         try {
             driver.get(url);
-            logger.info("Navigated to: " + url);
+            elementCache.clear();
+            logger.info("Navigated to: {}", url);
+            capturePageMetrics("navigate");
         } catch (Exception e) {
-            logger.error("Failed to navigate to " + url + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to navigate to {}: {}", url, e.getMessage());
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
+    /**
+     * Start a batch of type and click operations performed in one WebDriver round trip
+     * @return empty interaction batch
+     */
+    public InteractionBatch batch() {
+        return new InteractionBatch(this);
+    }
+
     /**
      * Get current page title
      * @return page title
@@ -55,10 +74,10 @@ public abstract class BasePage {
     public String getPageTitle() {
         try {
             String title = driver.getTitle();
-            logger.debug("Page title: " + title);
+            logger.debug("Page title: {}", title);
             return title;
         } catch (Exception e) {
-            logger.error("Failed to get page title: " + e.getMessage());
+            logger.error("Failed to get page title: {}", e.getMessage());
             return "";
         }
     }
@@ -70,10 +89,10 @@ public abstract class BasePage {
     public String getCurrentUrl() {
         try {
             String url = driver.getCurrentUrl();
-            logger.debug("Current URL: " + url);
+            logger.debug("Current URL: {}", url);
             return url;
         } catch (Exception e) {
-            logger.error("Failed to get current URL: " + e.getMessage());
+            logger.error("Failed to get current URL: {}", e.getMessage());
             return "";
         }
     }
@@ -83,14 +102,21 @@ public abstract class BasePage {
      * @param locator element locator
      */
     public void click(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "click", locator);
+        notePageAction("click " + locator);
         try {
-            WebElement element = WaitUtils.waitForElementClickable(driver, locator);
-            element.click();
-            logger.debug("Clicked element: " + locator);
+            withElement(locator, true, element -> {
+                element.click();
+                return null;
+            });
+            logger.debug("Clicked element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to click element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to click element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("click_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -99,15 +125,20 @@ public abstract class BasePage {
      * @param locator element locator
      */
     public void clickWithJavaScript(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "javascript click", locator);
+        notePageAction("javascript click " + locator);
         try {
             WebElement element = WaitUtils.waitForElementVisible(driver, locator);
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].click();", element);
-            logger.debug("Clicked element with JavaScript: " + locator);
+            logger.debug("Clicked element with JavaScript: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to click element with JavaScript " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to click element with JavaScript {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("javascript_click_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -117,15 +148,21 @@ public abstract class BasePage {
      * @param text text to type
      */
     public void type(By locator, String text) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "type", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            element.clear();
-            element.sendKeys(text);
-            logger.debug("Typed text '" + text + "' into element: " + locator);
+            withElement(locator, false, element -> {
+                element.clear();
+                element.sendKeys(text);
+                return null;
+            });
+            logger.debug("Typed text '{}' into element: {}", text, locator);
         } catch (Exception e) {
-            logger.error("Failed to type text into element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to type text into element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("type_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -135,14 +172,17 @@ public abstract class BasePage {
      * @return element text
      */
     public String getText(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "get text", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            String text = element.getText();
-            logger.debug("Got text '" + text + "' from element: " + locator);
+            String text = withElement(locator, false, WebElement::getText);
+            logger.debug("Got text '{}' from element: {}", text, locator);
             return text;
         } catch (Exception e) {
-            logger.debug("Failed to get text from element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.debug("Failed to get text from element {}: {}", locator, e.getMessage());
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -153,15 +193,18 @@ public abstract class BasePage {
      * @return attribute value
      */
     public String getAttribute(By locator, String attribute) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "get attribute", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            String value = element.getAttribute(attribute);
-            logger.debug("Got attribute '" + attribute + "' = '" + value + "' from element: " + locator);
+            String value = withElement(locator, false, element -> element.getAttribute(attribute));
+            logger.debug("Got attribute '{}' = '{}' from element: {}", attribute, value, locator);
             return value;
         } catch (Exception e) {
-            logger.error("Failed to get attribute from element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to get attribute from element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("get_attribute_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -171,14 +214,17 @@ public abstract class BasePage {
      * @return true if element is displayed
      */
     public boolean isElementDisplayed(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "is displayed", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            boolean displayed = element.isDisplayed();
-            logger.debug("Element displayed: " + locator + " = " + displayed);
+            boolean displayed = withElement(locator, false, WebElement::isDisplayed);
+            logger.debug("Element displayed: {} = {}", locator, displayed);
             return displayed;
         } catch (Exception e) {
-            logger.debug("Element not displayed: " + locator);
+            event.failed(e);
+            logger.debug("Element not displayed: {}", locator);
             return false;
+        } finally {
+            event.finish();
         }
     }
 
@@ -188,14 +234,17 @@ public abstract class BasePage {
      * @return true if element is enabled
      */
     public boolean isElementEnabled(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "is enabled", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            boolean enabled = element.isEnabled();
-            logger.debug("Element enabled: " + locator + " = " + enabled);
+            boolean enabled = withElement(locator, false, WebElement::isEnabled);
+            logger.debug("Element enabled: {} = {}", locator, enabled);
             return enabled;
         } catch (Exception e) {
-            logger.error("Failed to check if element is enabled " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to check if element is enabled {}: {}", locator, e.getMessage());
             return false;
+        } finally {
+            event.finish();
         }
     }
 
@@ -205,15 +254,20 @@ public abstract class BasePage {
      * @param visibleText visible text of option to select
      */
     public void selectByVisibleText(By locator, String visibleText) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "select", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            Select select = new Select(element);
-            select.selectByVisibleText(visibleText);
-            logger.debug("Selected option '" + visibleText + "' from element: " + locator);
+            withElement(locator, false, element -> {
+                new Select(element).selectByVisibleText(visibleText);
+                return null;
+            });
+            logger.debug("Selected option '{}' from element: {}", visibleText, locator);
         } catch (Exception e) {
-            logger.error("Failed to select option from element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to select option from element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("select_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -223,15 +277,20 @@ public abstract class BasePage {
      * @param value value of option to select
      */
     public void selectByValue(By locator, String value) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "select", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            Select select = new Select(element);
-            select.selectByValue(value);
-            logger.debug("Selected option with value '" + value + "' from element: " + locator);
+            withElement(locator, false, element -> {
+                new Select(element).selectByValue(value);
+                return null;
+            });
+            logger.debug("Selected option with value '{}' from element: {}", value, locator);
         } catch (Exception e) {
-            logger.error("Failed to select option from element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to select option from element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("select_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -241,15 +300,20 @@ public abstract class BasePage {
      * @param index index of option to select
      */
     public void selectByIndex(By locator, int index) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "select", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            Select select = new Select(element);
-            select.selectByIndex(index);
-            logger.debug("Selected option at index " + index + " from element: " + locator);
+            withElement(locator, false, element -> {
+                new Select(element).selectByIndex(index);
+                return null;
+            });
+            logger.debug("Selected option at index {} from element: {}", index, locator);
         } catch (Exception e) {
-            logger.error("Failed to select option from element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to select option from element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("select_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -258,14 +322,20 @@ public abstract class BasePage {
      * @param locator element locator
      */
     public void hoverOver(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "hover", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            actions.moveToElement(element).perform();
-            logger.debug("Hovered over element: " + locator);
+            withElement(locator, false, element -> {
+                actions.moveToElement(element).perform();
+                return null;
+            });
+            logger.debug("Hovered over element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to hover over element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to hover over element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("hover_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -274,14 +344,20 @@ public abstract class BasePage {
      * @param locator element locator
      */
     public void doubleClick(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "double click", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            actions.doubleClick(element).perform();
-            logger.debug("Double clicked element: " + locator);
+            withElement(locator, false, element -> {
+                actions.doubleClick(element).perform();
+                return null;
+            });
+            logger.debug("Double clicked element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to double click element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to double click element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("double_click_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -290,14 +366,20 @@ public abstract class BasePage {
      * @param locator element locator
      */
     public void rightClick(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "right click", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            actions.contextClick(element).perform();
-            logger.debug("Right clicked element: " + locator);
+            withElement(locator, false, element -> {
+                actions.contextClick(element).perform();
+                return null;
+            });
+            logger.debug("Right clicked element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to right click element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to right click element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("right_click_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -307,15 +389,19 @@ public abstract class BasePage {
      * @param targetLocator target element locator
      */
     public void dragAndDrop(By sourceLocator, By targetLocator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "drag and drop", sourceLocator);
         try {
             WebElement source = WaitUtils.waitForElementVisible(driver, sourceLocator);
             WebElement target = WaitUtils.waitForElementVisible(driver, targetLocator);
             actions.dragAndDrop(source, target).perform();
-            logger.debug("Dragged element " + sourceLocator + " to " + targetLocator);
+            logger.debug("Dragged element {} to {}", sourceLocator, targetLocator);
         } catch (Exception e) {
-            logger.error("Failed to drag and drop element: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to drag and drop element: {}", e.getMessage());
             takeScreenshotOnFailure("drag_drop_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -324,15 +410,18 @@ public abstract class BasePage {
      * @param locator element locator
      */
     public void scrollToElement(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "scroll", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("arguments[0].scrollIntoView(true);", element);
-            logger.debug("Scrolled to element: " + locator);
+            withElement(locator, false, element ->
+                ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element));
+            logger.debug("Scrolled to element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to scroll to element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to scroll to element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("scroll_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -342,14 +431,18 @@ public abstract class BasePage {
      * @return list of elements
      */
     public List<WebElement> findElements(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "find elements", locator);
         try {
             List<WebElement> elements = WaitUtils.waitForAllElementsVisible(driver, locator);
-            logger.debug("Found " + elements.size() + " elements: " + locator);
+            logger.debug("Found {} elements: {}", elements.size(), locator);
             return elements;
         } catch (Exception e) {
-            logger.error("Failed to find elements " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to find elements {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("find_elements_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -359,14 +452,59 @@ public abstract class BasePage {
      * @return element
      */
     public WebElement findElement(By locator) {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "find element", locator);
         try {
-            WebElement element = WaitUtils.waitForElementVisible(driver, locator);
-            logger.debug("Found element: " + locator);
+            WebElement element = locate(locator, false);
+            logger.debug("Found element: {}", locator);
             return element;
         } catch (Exception e) {
-            logger.error("Failed to find element " + locator + ": " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to find element {}: {}", locator, e.getMessage());
             takeScreenshotOnFailure("find_element_failure");
             throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
+    /**
+     * Get element from the page's element cache, or wait for it and cache it
+     * @param locator element locator
+     * @param clickable true to wait until the element is clickable, otherwise until it is visible
+     * @return element
+     */
+    protected WebElement locate(By locator, boolean clickable) {
+        WebElement element = elementCache.get(locator, clickable);
+        if (element == null) {
+            element = clickable
+                ? WaitUtils.waitForElementClickable(driver, locator)
+                : WaitUtils.waitForElementVisible(driver, locator);
+            elementCache.put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Run an action on a located element, locating it again once if it went stale or its browser session was replaced
+     * @param locator element locator
+     * @param clickable true to wait until the element is clickable, otherwise until it is visible
+     * @param action action to run on the element
+     * @return action result
+     */
+    protected <T> T withElement(By locator, boolean clickable, Function<WebElement, T> action) {
+        try {
+            return action.apply(locate(locator, clickable));
+        } catch (StaleElementReferenceException e) {
+            logger.debug("Element went stale, locating again: {}", locator);
+            elementCache.evict(locator);
+            return action.apply(locate(locator, clickable));
+        } catch (WebDriverException e) {
+            RecoveringDriver recovery = RecoveringDriver.of(driver);
+            if (recovery == null || !recovery.recoverIfLost(e)) {
+                throw e;
+            }
+            elementCache.clear();
+            return action.apply(locate(locator, clickable));
         }
     }
 
@@ -378,40 +516,80 @@ public abstract class BasePage {
         if (ScreenshotUtils.isScreenshotEnabled()) {
             String screenshotPath = ScreenshotUtils.takeScreenshot(driver, this.getClass().getSimpleName(), description);
             if (screenshotPath != null) {
-                logger.info("Screenshot taken on failure: " + screenshotPath);
+                logger.info("Screenshot taken on failure: {}", screenshotPath);
             }
         }
     }
 
+    /**
+     * Capture browser performance metrics of the document an explicit navigation loaded
+     * @param action navigation that caused the page transition
+     */
+    protected void capturePageMetrics(String action) {
+        if (PerformanceMetrics.isEnabled()) {
+            PerformanceMetrics.capture(driver, getClass().getSimpleName() + ": " + action);
+        }
+    }
+
+    /**
+     * Note an action that may cause a page transition before performing it: the next network idle wait
+     * expects its requests, and its metrics are captured once the new document loads
+     * @param action action that may cause a page transition
+     */
+    protected void notePageAction(String action) {
+        NetworkActivityTracker tracker = NetworkActivityTracker.get(driver);
+        if (tracker != null) {
+            tracker.arm();
+        }
+        if (PerformanceMetrics.isEnabled()) {
+            PerformanceMetrics.noteAction(driver, getClass().getSimpleName() + ": " + action);
+        }
+    }
+
     /**
      * Wait for page to load completely
      */
     public void waitForPageLoad() {
         try {
-            WaitUtils.waitForCondition(driver, 
-                webDriver -> ((JavascriptExecutor) webDriver)
-                    .executeScript("return document.readyState").equals("complete"), 
-                config.getPageLoadTimeout());
-            logger.debug("Page loaded completely");
+            WaitUtils.waitForPageLoad(driver);
         } catch (Exception e) {
-            logger.error("Page did not load completely: " + e.getMessage());
             takeScreenshotOnFailure("page_load_failure");
             throw e;
         }
     }
 
+    /**
+     * Wait until the browser network is idle
+     * @param quietMillis time without network activity required to consider the page idle
+     * @param maxInflight number of requests allowed to stay open
+     */
+    public void waitForNetworkIdle(long quietMillis, int maxInflight) {
+        try {
+            WaitUtils.waitForNetworkIdle(driver, quietMillis, maxInflight);
+        } catch (Exception e) {
+            takeScreenshotOnFailure("network_idle_failure");
+            throw e;
+        }
+    }
+
     /**
      * Refresh the current page
      */
     public void refreshPage() {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "refresh", null);
         try {
+            notePageAction("refresh");
             driver.navigate().refresh();
+            elementCache.clear();
             waitForPageLoad();
             logger.info("Page refreshed successfully");
         } catch (Exception e) {
-            logger.error("Failed to refresh page: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to refresh page: {}", e.getMessage());
             takeScreenshotOnFailure("refresh_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -419,14 +597,20 @@ public abstract class BasePage {
      * Navigate back to previous page
      */
     public void navigateBack() {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "back", null);
         try {
+            notePageAction("back");
             driver.navigate().back();
+            elementCache.clear();
             waitForPageLoad();
             logger.info("Navigated back successfully");
         } catch (Exception e) {
-            logger.error("Failed to navigate back: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to navigate back: {}", e.getMessage());
             takeScreenshotOnFailure("navigate_back_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -434,14 +618,20 @@ public abstract class BasePage {
      * Navigate forward to next page
      */
     public void navigateForward() {
+        PageInteractionEvent event = PageInteractionEvent.begin(getClass().getSimpleName(), "forward", null);
         try {
+            notePageAction("forward");
             driver.navigate().forward();
+            elementCache.clear();
             waitForPageLoad();
             logger.info("Navigated forward successfully");
         } catch (Exception e) {
-            logger.error("Failed to navigate forward: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to navigate forward: {}", e.getMessage());
             takeScreenshotOnFailure("navigate_forward_failure");
             throw e;
+        } finally {
+            event.finish();
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.automation.base;
+
+import com.automation.config.ConfigManager;
+import com.automation.network.NetworkActivityTracker;
+import com.automation.utils.WaitUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resolves clickable elements by their visible text
+ * One script call indexes the normalized text of all buttons and links of the page, including
+ * entries of collapsed menus together with the control that reveals them. The index is reused
+ * while the page epoch marker is unchanged, so repeated lookups on the same page only re-check
+ * that the chosen element is still attached and whether it is visible.
+ */
+public class ClickableResolver {
+    private static final Logger logger = LogManager.getLogger(ClickableResolver.class);
+
+    // Collapsed containers and the control that opens them: the Sauce Demo burger menu
+    private static final String REVEAL_RULES = "[['.bm-menu-wrap', '#react-burger-menu-btn']]";
+
+    // Texts tried in order when a feature's text is not on the page: older Sauce Demo releases label the
+    // product detail back button "<- Back", and the burger menu's All Items link leads to the same page
+    private static final Map<String, List<String>> ALIASES = Map.of(
+        "back to products", List.of("<- back", "all items"));
+
+    // arguments: known epoch or '', optional candidate element of the cached index;
+    // returns {epoch, visible} while the epoch is unchanged, otherwise {epoch, entries} with a fresh index
+    private static final String INDEX_SCRIPT =
+        ElementCache.EPOCH_MARKER_SCRIPT
+        + "function visible(el) {"
+        + "  return el.isConnected && el.getClientRects().length > 0 && window.getComputedStyle(el).visibility !== 'hidden'"
+        + "    && !el.closest('[aria-hidden=\"true\"]');"
+        + "}"
+        + "var epoch = window.__automationEpoch;"
+        + "if (arguments[0] === epoch && arguments[1] && arguments[1].isConnected) {"
+        + "  return {epoch: epoch, visible: visible(arguments[1])};"
+        + "}"
+        + "var rules = " + REVEAL_RULES + ";"
+        + "var nodes = document.querySelectorAll('button, a, [role=\"button\"], input[type=\"button\"], input[type=\"submit\"]');"
+        + "var entries = [];"
+        + "for (var i = 0; i < nodes.length; i++) {"
+        + "  var el = nodes[i];"
+        + "  var text = (el.tagName === 'INPUT' ? el.value : el.textContent) || el.getAttribute('aria-label') || '';"
+        + "  text = text.replace(/\\s+/g, ' ').trim().toLowerCase();"
+        + "  if (!text || el.disabled) { continue; }"
+        + "  var reveal = null;"
+        + "  for (var r = 0; r < rules.length; r++) {"
+        + "    if (el.closest(rules[r][0])) { reveal = rules[r][1]; break; }"
+        + "  }"
+        + "  entries.push({element: el, text: text, visible: visible(el), reveal: reveal});"
+        + "}"
+        + "return {epoch: epoch, entries: entries};";
+
+    private final WebDriver driver;
+    private final int timeout;
+    private String epoch;
+    private List<Clickable> index = new ArrayList<>();
+
+    /**
+     * Indexed clickable element
+     */
+    public static final class Clickable {
+        private final WebElement element;
+        private final String text;
+        private final String reveal;
+        private boolean visible;
+
+        private Clickable(WebElement element, String text, boolean visible, String reveal) {
+            this.element = element;
+            this.text = text;
+            this.visible = visible;
+            this.reveal = reveal;
+        }
+
+        /**
+         * Get matched element
+         * @return element
+         */
+        public WebElement getElement() {
+            return element;
+        }
+
+        /**
+         * Get normalized text of the element
+         * @return lower-case text with collapsed whitespace
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Check if the element is currently visible
+         * @return true if visible
+         */
+        public boolean isVisible() {
+            return visible;
+        }
+
+        /**
+         * Get locator of the control that reveals the element
+         * @return reveal locator, or null if the element is not inside a collapsed menu
+         */
+        public By getRevealLocator() {
+            return reveal != null ? By.cssSelector(reveal) : null;
+        }
+
+        @Override
+        public String toString() {
+            return "'" + text + "'" + (visible ? "" : reveal != null ? " (behind " + reveal + ")" : " (hidden)");
+        }
+    }
+
+    /**
+     * Create a resolver for a driver
+     * @param driver WebDriver instance
+     */
+    public ClickableResolver(WebDriver driver) {
+        this.driver = driver;
+        this.timeout = ConfigManager.getInstance().getIntProperty("explicit.wait", 20);
+    }
+
+    /**
+     * Find the best clickable match for a text
+     * Exact matches win over prefix and substring matches, visible elements over hidden ones.
+     * Only if nothing matches are the known aliases of the text tried, in order.
+     * @param text button or link text, case and whitespace insensitive
+     * @return best match
+     * @throws NoSuchElementException if no clickable element contains the text
+     */
+    public Clickable resolve(String text) {
+        String wanted = normalize(text);
+        Clickable match = bestMatch(wanted);
+        try {
+            refresh(match);
+        } catch (StaleElementReferenceException | NoSuchElementException e) {
+            // The cached element is gone, e.g. after the browser session was replaced
+            invalidate();
+            match = null;
+            refresh(null);
+        }
+        if (match == null || !index.contains(match)) {
+            match = bestMatch(wanted);
+        }
+        for (String alias : ALIASES.getOrDefault(wanted, List.of())) {
+            if (match != null) {
+                break;
+            }
+            match = bestMatch(alias);
+            if (match != null) {
+                logger.debug("No '{}' on the page, using alias '{}'", text, alias);
+            }
+        }
+        if (match == null) {
+            throw new NoSuchElementException("No button or link with text '" + text + "' on " + driver.getCurrentUrl());
+        }
+        logger.debug("Resolved '{}' to {}", text, match);
+        return match;
+    }
+
+    /**
+     * Click the best clickable match for a text, opening its menu first if needed
+     * @param text button or link text, case and whitespace insensitive
+     */
+    public void click(String text) {
+        Clickable match = resolve(text);
+        if (!match.visible && match.reveal != null) {
+            logger.debug("Opening {} to reveal '{}'", match.reveal, match.text);
+            driver.findElement(match.getRevealLocator()).click();
+        }
+        WaitUtils.waitForCondition(driver, ExpectedConditions.elementToBeClickable(match.element), timeout);
+        NetworkActivityTracker tracker = NetworkActivityTracker.get(driver);
+        if (tracker != null) {
+            tracker.arm();
+        }
+        match.element.click();
+    }
+
+    /**
+     * Drop the cached index, e.g. after the page changed without a navigation
+     */
+    public void invalidate() {
+        epoch = null;
+        index = new ArrayList<>();
+    }
+
+    /**
+     * Re-check the candidate while the page epoch is unchanged, otherwise rebuild the index
+     */
+    @SuppressWarnings("unchecked")
+    private void refresh(Clickable candidate) {
+        // Null arguments are rejected by some drivers, e.g. HtmlUnit, so the candidate is left out when there is none
+        Object[] args = candidate != null ? new Object[] {epoch, candidate.element} : new Object[] {epoch != null ? epoch : ""};
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(INDEX_SCRIPT, args);
+        // Strings built in the page may come back as driver-specific CharSequences, e.g. in HtmlUnit
+        String resultEpoch = String.valueOf(result.get("epoch"));
+        List<Map<String, Object>> entries = (List<Map<String, Object>>) result.get("entries");
+        if (entries == null) {
+            candidate.visible = Boolean.TRUE.equals(result.get("visible"));
+            return;
+        }
+        List<Clickable> fresh = new ArrayList<>(entries.size());
+        for (Map<String, Object> entry : entries) {
+            fresh.add(new Clickable((WebElement) entry.get("element"), String.valueOf(entry.get("text")),
+                Boolean.TRUE.equals(entry.get("visible")), Objects.toString(entry.get("reveal"), null)));
+        }
+        logger.debug("Indexed {} clickable elements (epoch {})", fresh.size(), resultEpoch);
+        epoch = resultEpoch;
+        index = fresh;
+    }
+
+    private Clickable bestMatch(String wanted) {
+        Clickable best = null;
+        int bestScore = 0;
+        for (Clickable clickable : index) {
+            int score = score(clickable, wanted);
+            if (score > bestScore) {
+                best = clickable;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Score a match: exact 6, prefix 4, substring 2, plus 1 if reachable without hidden ancestors
+     */
+    private static int score(Clickable clickable, String wanted) {
+        int score;
+        if (clickable.text.equals(wanted)) {
+            score = 6;
+        } else if (clickable.text.startsWith(wanted)) {
+            score = 4;
+        } else if (clickable.text.contains(wanted)) {
+            score = 2;
+        } else {
+            return 0;
+        }
+        return clickable.visible || clickable.reveal != null ? score + 1 : score;
+    }
+
+    private static String normalize(String text) {
+        return text.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT);
+    }
+}
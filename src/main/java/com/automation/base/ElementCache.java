@@ -0,0 +1,188 @@
+package com.automation.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of located elements of one page object, keyed by locator
+ * A cached element is reused after a single script call that checks it is still attached and usable
+ * and reads a page epoch marker from window; a different marker means the page navigated since the
+ * element was found and clears the whole cache. Stale elements are dropped and located again.
+ */
+public class ElementCache {
+    private static final Logger logger = LogManager.getLogger(ElementCache.class);
+
+    // Creates the page epoch marker on first use in each document; shared with ClickableResolver
+    static final String EPOCH_MARKER_SCRIPT =
+        "if (!window.__automationEpoch) {"
+        + "  window.__automationEpoch = Date.now().toString(36) + Math.random().toString(36).slice(2);"
+        + "}";
+
+    // Returns [epoch, usable]
+    private static final String VALIDATE_SCRIPT =
+        "var el = arguments[0];"
+        + EPOCH_MARKER_SCRIPT
+        + "var usable = el.isConnected && el.getClientRects().length > 0"
+        + "  && window.getComputedStyle(el).visibility !== 'hidden' && !(arguments[1] && el.disabled);"
+        + "return [window.__automationEpoch, usable];";
+
+    private static final ThreadLocal<Statistics> statistics = ThreadLocal.withInitial(Statistics::new);
+
+    private final WebDriver driver;
+    private final boolean enabled;
+    private final Map<By, Entry> entries = new HashMap<>();
+
+    /**
+     * Cached element and the epoch of the document it was found in, once known
+     */
+    private static final class Entry {
+        private final WebElement element;
+        private String epoch;
+
+        private Entry(WebElement element) {
+            this.element = element;
+        }
+    }
+
+    /**
+     * Cache counters of the current thread
+     */
+    public static final class Statistics {
+        private long hits;
+        private long misses;
+        private long staleRecoveries;
+        private long invalidations;
+
+        /**
+         * Get share of lookups served from the cache
+         * @return hit rate between 0 and 1
+         */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        /**
+         * Get number of lookups served from the cache
+         * @return hits
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Get number of lookups that located the element through WebDriver
+         * @return misses
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d misses=%d hit rate=%.1f%% stale recoveries=%d navigations=%d",
+                hits, misses, getHitRate() * 100, staleRecoveries, invalidations);
+        }
+    }
+
+    /**
+     * Create an element cache
+     * @param driver WebDriver instance
+     * @param enabled false to make every lookup a miss
+     */
+    public ElementCache(WebDriver driver, boolean enabled) {
+        this.driver = driver;
+        this.enabled = enabled && driver instanceof JavascriptExecutor;
+    }
+
+    /**
+     * Get cache counters of the current thread
+     * @return statistics
+     */
+    public static Statistics getStatistics() {
+        return statistics.get();
+    }
+
+    /**
+     * Reset cache counters of the current thread
+     */
+    public static void resetStatistics() {
+        statistics.remove();
+    }
+
+    /**
+     * Get a cached element if it is still attached to the current document and usable
+     * @param locator element locator
+     * @param clickable true if the element must also be enabled
+     * @return cached element, or null on a miss
+     */
+    @SuppressWarnings("unchecked")
+    public WebElement get(By locator, boolean clickable) {
+        Entry entry = enabled ? entries.get(locator) : null;
+        if (entry == null) {
+            statistics.get().misses++;
+            return null;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(VALIDATE_SCRIPT, entry.element, clickable);
+            List<Object> state = result instanceof List ? (List<Object>) result : List.of();
+            if (state.size() != 2 || !(state.get(0) instanceof String)) {
+                entries.remove(locator);
+            } else if (entry.epoch != null && !entry.epoch.equals(state.get(0))) {
+                logger.debug("Page epoch changed, clearing {} cached elements", entries.size());
+                entries.clear();
+                statistics.get().invalidations++;
+            } else if (Boolean.TRUE.equals(state.get(1))) {
+                entry.epoch = (String) state.get(0);
+                statistics.get().hits++;
+                return entry.element;
+            } else {
+                entries.remove(locator);
+            }
+        } catch (StaleElementReferenceException | NoSuchElementException e) {
+            // An unknown element reference means the element belongs to a replaced browser session
+            entries.remove(locator);
+            statistics.get().staleRecoveries++;
+        }
+        statistics.get().misses++;
+        return null;
+    }
+
+    /**
+     * Cache a located element
+     * @param locator element locator
+     * @param element located element
+     */
+    public void put(By locator, WebElement element) {
+        if (enabled) {
+            entries.put(locator, new Entry(element));
+        }
+    }
+
+    /**
+     * Drop an element that went stale while it was used
+     * @param locator element locator
+     */
+    public void evict(By locator) {
+        if (entries.remove(locator) != null) {
+            statistics.get().staleRecoveries++;
+        }
+    }
+
+    /**
+     * Drop all cached elements, e.g. after a navigation
+     */
+    public void clear() {
+        entries.clear();
+    }
+}
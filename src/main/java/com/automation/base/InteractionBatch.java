@@ -0,0 +1,212 @@
+package com.automation.base;
+
+import com.automation.jfr.PageInteractionEvent;
+import com.automation.utils.WaitUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builder collecting type and click operations of a page and performing them in a single executeScript
+ * Values are set through the native value setter followed by input and change events, so React and
+ * plain DOM listeners see the same state as after typing; clicks use HTMLElement.click()
+ * In fidelity mode, or when the batch cannot be scripted, the operations run one by one through
+ * BasePage.type and BasePage.click with real key events
+ */
+public class InteractionBatch {
+    private static final Logger logger = LogManager.getLogger(InteractionBatch.class);
+
+    // Checks every element before touching any, so a failed check leaves the page unchanged;
+    // returns null on success or the index of the first element that is not ready
+    private static final String BATCH_SCRIPT =
+        "var ops = arguments[0];"
+        + "function find(op) {"
+        + "  if (op.using === 'css selector') { return document.querySelector(op.value); }"
+        + "  if (op.using === 'xpath') {"
+        + "    return document.evaluate(op.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+        + "  }"
+        + "  var links = document.getElementsByTagName('a');"
+        + "  for (var i = 0; i < links.length; i++) {"
+        + "    var text = links[i].innerText.trim();"
+        + "    if (op.using === 'link text' ? text === op.value : text.indexOf(op.value) >= 0) { return links[i]; }"
+        + "  }"
+        + "  return null;"
+        + "}"
+        + "var elements = [];"
+        + "for (var i = 0; i < ops.length; i++) {"
+        + "  var el = find(ops[i]);"
+        + "  if (!el) { return {index: i, reason: 'not found'}; }"
+        + "  if (el.getClientRects().length === 0) { return {index: i, reason: 'not visible'}; }"
+        + "  if (el.disabled) { return {index: i, reason: 'disabled'}; }"
+        + "  elements.push(el);"
+        + "}"
+        + "for (var i = 0; i < ops.length; i++) {"
+        + "  var el = elements[i];"
+        + "  if (ops[i].action === 'click') { el.click(); continue; }"
+        + "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+        + "  var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;"
+        + "  el.focus();"
+        + "  setter.call(el, ops[i].text);"
+        + "  el.dispatchEvent(new Event('input', {bubbles: true}));"
+        + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+        + "  el.blur();"
+        + "}"
+        + "return null;";
+
+    private static final Set<String> SCRIPTABLE_STRATEGIES =
+        Set.of("css selector", "xpath", "link text", "partial link text");
+
+    private final BasePage page;
+    private final List<Operation> operations = new ArrayList<>();
+    private boolean fidelity;
+
+    /**
+     * Single type or click operation
+     */
+    private static final class Operation {
+        private final String action;
+        private final By locator;
+        private final String text;
+
+        private Operation(String action, By locator, String text) {
+            this.action = action;
+            this.locator = locator;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return action + " " + locator;
+        }
+    }
+
+    InteractionBatch(BasePage page) {
+        this.page = page;
+        this.fidelity = page.config.getBooleanProperty("interaction.batch.fidelity", false);
+    }
+
+    /**
+     * Replace the value of an input or textarea
+     * @param locator element locator
+     * @param text text to set
+     * @return this batch
+     */
+    public InteractionBatch type(By locator, String text) {
+        operations.add(new Operation("type", locator, text));
+        return this;
+    }
+
+    /**
+     * Click an element
+     * @param locator element locator
+     * @return this batch
+     */
+    public InteractionBatch click(By locator) {
+        operations.add(new Operation("click", locator, null));
+        return this;
+    }
+
+    /**
+     * Perform operations one by one with real key and mouse events, for fields whose
+     * keydown or keypress handlers matter
+     * @param fidelity true to use real input events
+     * @return this batch
+     */
+    public InteractionBatch withFidelity(boolean fidelity) {
+        this.fidelity = fidelity;
+        return this;
+    }
+
+    /**
+     * Perform all collected operations in order
+     */
+    public void perform() {
+        if (operations.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> script = fidelity ? null : toScriptOperations();
+        if (script == null || !(page.driver instanceof JavascriptExecutor)) {
+            performIndividually();
+            return;
+        }
+
+        PageInteractionEvent event = PageInteractionEvent.begin(page.getClass().getSimpleName(), "batch", operations);
+        if (operations.stream().anyMatch(operation -> operation.action.equals("click"))) {
+            page.notePageAction("batch " + operations);
+        }
+        try {
+            performScripted(script);
+            logger.debug("Performed batch of {} operations: {}", operations.size(), operations);
+        } catch (Exception e) {
+            event.failed(e);
+            logger.error("Failed to perform batch {}: {}", operations, e.getMessage());
+            page.takeScreenshotOnFailure("batch_failure");
+            throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void performScripted(List<Map<String, Object>> script) {
+        JavascriptExecutor js = (JavascriptExecutor) page.driver;
+        // Each retry follows a successful wait for the element that was not ready; give up
+        // on scripting if the page keeps disagreeing with Selenium about an element
+        for (int attempt = 0; attempt <= operations.size(); attempt++) {
+            Map<String, Object> notReady = (Map<String, Object>) js.executeScript(BATCH_SCRIPT, script);
+            if (notReady == null) {
+                return;
+            }
+            Operation operation = operations.get(((Number) notReady.get("index")).intValue());
+            logger.debug("Batch element {} {}, waiting for it", operation.locator, notReady.get("reason"));
+            if (operation.action.equals("click")) {
+                WaitUtils.waitForElementClickable(page.driver, operation.locator);
+            } else {
+                WaitUtils.waitForElementVisible(page.driver, operation.locator);
+            }
+        }
+        logger.warn("Batch could not be scripted, performing operations one by one: {}", operations);
+        performIndividually();
+    }
+
+    private void performIndividually() {
+        for (Operation operation : operations) {
+            if (operation.action.equals("click")) {
+                page.click(operation.locator);
+            } else {
+                page.type(operation.locator, operation.text);
+            }
+        }
+    }
+
+    /**
+     * Convert operations to script arguments
+     * @return operations for the batch script, or null if a locator cannot be resolved in the script
+     */
+    private List<Map<String, Object>> toScriptOperations() {
+        List<Map<String, Object>> script = new ArrayList<>();
+        for (Operation operation : operations) {
+            if (!(operation.locator instanceof By.Remotable)) {
+                return null;
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) operation.locator).getRemoteParameters();
+            if (!SCRIPTABLE_STRATEGIES.contains(parameters.using())) {
+                return null;
+            }
+            Map<String, Object> scriptOperation = new LinkedHashMap<>();
+            scriptOperation.put("action", operation.action);
+            scriptOperation.put("using", parameters.using());
+            scriptOperation.put("value", parameters.value());
+            scriptOperation.put("text", operation.text != null ? operation.text : "");
+            script.add(scriptOperation);
+        }
+        return script;
+    }
+}
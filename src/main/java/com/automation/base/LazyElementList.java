@@ -0,0 +1,58 @@
+package com.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Element list that is located again on every call, like the PageFactory proxies it replaces
+ * Iteration and streams locate the elements once for the whole pass
+ */
+public class LazyElementList extends AbstractList<WebElement> {
+    private final SearchContext context;
+    private final By locator;
+
+    /**
+     * Create a lazily located element list
+     * @param context driver or element to search in
+     * @param locator elements locator
+     */
+    public LazyElementList(SearchContext context, By locator) {
+        this.context = context;
+        this.locator = locator;
+    }
+
+    private List<WebElement> elements() {
+        return context.findElements(locator);
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public Spliterator<WebElement> spliterator() {
+        return elements().spliterator();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyElementList(" + locator + ")";
+    }
+}
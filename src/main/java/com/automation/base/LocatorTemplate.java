@@ -0,0 +1,192 @@
+package com.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameterized locator for an element inside a repeated item, e.g. the button of a product card
+ * Items are found with CSS and matched by the exact text of their name element in one DOM scan,
+ * so names are passed as script arguments and never need quoting or escaping.
+ * Locators are cached per name and index, so repeated lookups reuse the same By instance; each cache keeps
+ * the most recently used MAX_CACHED_LOCATORS entries, so templates held in static fields cannot grow without bound.
+ */
+public final class LocatorTemplate {
+
+    private static final int MAX_CACHED_LOCATORS = 64;
+
+    // arguments: item CSS, name CSS, name, target CSS or "" for the name element, optional root element;
+    // no argument is ever null, which not every driver accepts
+    private static final String FIND_BY_NAME_SCRIPT =
+        "var root = arguments[4] || document;"
+        + "var items = root.querySelectorAll(arguments[0]);"
+        + "for (var i = 0; i < items.length; i++) {"
+        + "  var name = items[i].querySelector(arguments[1]);"
+        + "  if (name && name.textContent.trim() === arguments[2]) {"
+        + "    return arguments[3] ? Array.prototype.slice.call(items[i].querySelectorAll(arguments[3])) : [name];"
+        + "  }"
+        + "}"
+        + "return [];";
+
+    // arguments: target CSS, index, optional root element
+    private static final String FIND_BY_INDEX_SCRIPT =
+        "var root = arguments[2] || document;"
+        + "return Array.prototype.slice.call(root.querySelectorAll(arguments[0]), arguments[1], arguments[1] + 1);";
+
+    private final String itemCss;
+    private final String nameCss;
+    private final String targetCss;
+    private final Map<String, By> byName = boundedCache();
+    private final Map<Integer, By> byIndex = boundedCache();
+
+    private LocatorTemplate(String itemCss, String nameCss, String targetCss) {
+        this.itemCss = itemCss;
+        this.nameCss = nameCss;
+        this.targetCss = targetCss;
+    }
+
+    /**
+     * Create a template for an element inside repeated items
+     * @param itemCss CSS selector of the repeated item, e.g. ".cart_item"
+     * @param nameCss CSS selector of the name element inside the item
+     * @param targetCss CSS selector of the target inside the item, or null to target the name element
+     * @return locator template
+     */
+    public static LocatorTemplate within(String itemCss, String nameCss, String targetCss) {
+        return new LocatorTemplate(itemCss, nameCss, targetCss);
+    }
+
+    /**
+     * Get locator of the target in the item with the given name
+     * @param name exact item name, may contain quotes
+     * @return cached locator
+     */
+    public By byName(String name) {
+        return byName.computeIfAbsent(name, ItemNameLocator::new);
+    }
+
+    /**
+     * Get locator of the n-th target in document order
+     * @param index index of the target (0-based)
+     * @return cached locator
+     */
+    public By byIndex(int index) {
+        return byIndex.computeIfAbsent(index, ItemIndexLocator::new);
+    }
+
+    private static <K> Map<K, By> boundedCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<K, By>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, By> eldest) {
+                return size() > MAX_CACHED_LOCATORS;
+            }
+        });
+    }
+
+    private String targetSelector() {
+        return targetCss != null ? itemCss + " " + targetCss : itemCss + " " + nameCss;
+    }
+
+    /**
+     * Get script executor of a search context, or null if it cannot run scripts
+     */
+    private static JavascriptExecutor executorOf(SearchContext context) {
+        if (context instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) context;
+        }
+        if (context instanceof WrapsDriver && ((WrapsDriver) context).getWrappedDriver() instanceof JavascriptExecutor) {
+            return (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+        }
+        return null;
+    }
+
+    private static WebElement first(List<WebElement> elements, By locator) {
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Cannot locate an element using " + locator);
+        }
+        return elements.get(0);
+    }
+
+    /**
+     * Target inside the item whose name matches exactly
+     */
+    private final class ItemNameLocator extends By {
+        private final String name;
+
+        private ItemNameLocator(String name) {
+            this.name = name;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<WebElement> findElements(SearchContext context) {
+            JavascriptExecutor js = executorOf(context);
+            if (js != null) {
+                String target = targetCss != null ? targetCss : "";
+                return (List<WebElement>) (context instanceof WebElement
+                    ? js.executeScript(FIND_BY_NAME_SCRIPT, itemCss, nameCss, name, target, context)
+                    : js.executeScript(FIND_BY_NAME_SCRIPT, itemCss, nameCss, name, target));
+            }
+            for (WebElement item : context.findElements(By.cssSelector(itemCss))) {
+                List<WebElement> names = item.findElements(By.cssSelector(nameCss));
+                if (!names.isEmpty() && names.get(0).getText().trim().equals(name)) {
+                    return targetCss != null ? item.findElements(By.cssSelector(targetCss)) : names.subList(0, 1);
+                }
+            }
+            return new ArrayList<>();
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            return first(findElements(context), this);
+        }
+
+        @Override
+        public String toString() {
+            return "By.itemName: " + itemCss + " [" + nameCss + "=\"" + name + "\"]" + (targetCss != null ? " " + targetCss : "");
+        }
+    }
+
+    /**
+     * N-th target in document order
+     */
+    private final class ItemIndexLocator extends By {
+        private final int index;
+
+        private ItemIndexLocator(int index) {
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<WebElement> findElements(SearchContext context) {
+            JavascriptExecutor js = executorOf(context);
+            if (js != null) {
+                return (List<WebElement>) (context instanceof WebElement
+                    ? js.executeScript(FIND_BY_INDEX_SCRIPT, targetSelector(), index, context)
+                    : js.executeScript(FIND_BY_INDEX_SCRIPT, targetSelector(), index));
+            }
+            List<WebElement> targets = context.findElements(By.cssSelector(targetSelector()));
+            return index >= 0 && index < targets.size() ? targets.subList(index, index + 1) : new ArrayList<>();
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            return first(findElements(context), this);
+        }
+
+        @Override
+        public String toString() {
+            return "By.itemIndex: " + targetSelector() + " [" + index + "]";
+        }
+    }
+}
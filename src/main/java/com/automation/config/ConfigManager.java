@@ -41,7 +41,7 @@ public class ConfigManager {
             properties.load(input);
             logger.info("Configuration properties loaded successfully");
         } catch (IOException e) {
-            logger.error("Error loading configuration properties: " + e.getMessage());
+            logger.error("Error loading configuration properties: {}", e.getMessage());
             setDefaultProperties();
         }
         
@@ -57,14 +57,58 @@ public class ConfigManager {
         String browser = System.getProperty("browser");
         if (browser != null) {
             properties.setProperty("browser", browser);
-            logger.info("Browser overridden: " + browser);
+            logger.info("Browser overridden: {}", browser);
         }
         
         // Headless mode
         String headless = System.getProperty("headless");
         if (headless != null) {
             properties.setProperty("headless", headless);
-            logger.info("Headless mode: " + headless);
+            logger.info("Headless mode: {}", headless);
+        }
+        
+        // Application URL and local infrastructure switches
+        overrideWithSystemProperty("base.url");
+        overrideWithSystemProperty("network.recording.mode");
+        overrideWithSystemProperty("stub.server.enabled");
+        overrideWithSystemProperty("performance.metrics.enabled");
+        overrideWithSystemProperty("jfr.recording.enabled");
+        overrideWithSystemProperty("scenario.log.write.passed");
+        overrideWithSystemProperty("interaction.batch.fidelity");
+        overrideWithSystemProperty("element.cache.enabled");
+        overrideWithSystemProperty("browser.monitor.enabled");
+        overrideWithSystemProperty("driver.reuse.enabled");
+        overrideWithSystemProperty("driver.max.concurrent");
+        overrideWithSystemProperty("driver.resolution.offline");
+        overrideWithSystemProperty("chrome.driver.path");
+        overrideWithSystemProperty("lightweight.enabled");
+        overrideWithSystemProperty("session.recovery.enabled");
+        overrideWithSystemProperty("page.benchmark.iterations");
+        overrideWithSystemProperty("page.benchmark.update.baseline");
+        overrideWithSystemProperty("load.base.url");
+        overrideWithSystemProperty("load.users");
+        overrideWithSystemProperty("load.rampup.seconds");
+        overrideWithSystemProperty("load.steady.seconds");
+        overrideWithSystemProperty("load.rampdown.seconds");
+        overrideWithSystemProperty("load.journeys");
+        overrideWithSystemProperty("traffic.recording.enabled");
+        overrideWithSystemProperty("replay.script");
+        overrideWithSystemProperty("replay.base.url");
+        overrideWithSystemProperty("replay.users");
+        overrideWithSystemProperty("replay.rampup.seconds");
+        overrideWithSystemProperty("replay.duration.seconds");
+        overrideWithSystemProperty("replay.think.time.percent");
+    }
+    
+    /**
+     * Override a single property when a system property with the same key is set
+     * @param key property key
+     */
+    private void overrideWithSystemProperty(String key) {
+        String value = System.getProperty(key);
+        if (value != null) {
+            properties.setProperty(key, value);
+            logger.info("Property overridden by system property: {}={}", key, value);
         }
     }
 
@@ -114,6 +158,16 @@ public class ConfigManager {
         return properties.getProperty(key, defaultValue);
     }
 
+    /**
+     * Set property value at runtime (not persisted)
+     * @param key property key
+     * @param value property value
+     */
+    public void setProperty(String key, String value) {
+        properties.setProperty(key, value);
+        logger.info("Property overridden at runtime: {}={}", key, value);
+    }
+
     /**
      * Get property value as Integer
      * @param key property key
@@ -0,0 +1,380 @@
+package com.automation.drivers;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples memory and CPU of the local browser process tree of a driver through /proc, one monitor per driver
+ * The browser root process is found from the session capabilities (Chrome and Edge user data
+ * directory, Firefox process id), its descendants from the parent pids in /proc. Samples are kept
+ * as a timeline that is written to a JSON lines file when the monitor is detached, and decide when
+ * a reused driver should be recycled. RSS is summed per process, so shared pages count more than once.
+ * Only available on Linux with a local browser.
+ */
+public class BrowserProcessMonitor {
+    private static final Logger logger = LogManager.getLogger(BrowserProcessMonitor.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Json json = new Json();
+    private static final Path PROC = Paths.get("/proc");
+    // Unit of utime and stime in /proc/pid/stat; 100 on common kernels, but configurable at kernel build time
+    private static final long CLOCK_TICKS_PER_SECOND = clockTicksPerSecond();
+    private static final Map<WebDriver, BrowserProcessMonitor> monitors = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "browser-process-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String sessionId;
+    private final int rootPid;
+    private final long startMillis = System.currentTimeMillis();
+    private final List<Map<String, Object>> timeline = new ArrayList<>();
+    private final ScheduledFuture<?> sampling;
+    private volatile String scenarioName;
+    private long peakRssBytes;
+    private long lastRssBytes;
+    private long lastCpuTicks = -1;
+    private long lastSampleNanos;
+    private String timelinePath;
+
+    private BrowserProcessMonitor(String sessionId, int rootPid) {
+        this.sessionId = sessionId;
+        this.rootPid = rootPid;
+        long interval = Math.max(100, config.getIntProperty("browser.monitor.interval.ms", 5000));
+        this.sampling = sampler.scheduleAtFixedRate(this::sample, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check if browser process monitoring is enabled in configuration
+     * @return true if browser.monitor.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("browser.monitor.enabled", false);
+    }
+
+    /**
+     * Start sampling the browser process tree of a driver
+     * @param driver WebDriver instance
+     * @return monitor, or null if the browser process cannot be found on this machine
+     */
+    public static BrowserProcessMonitor attach(WebDriver driver) {
+        if (!Files.isDirectory(PROC) || !(driver instanceof HasCapabilities)) {
+            logger.debug("No /proc or capabilities - browser process monitoring not available");
+            return null;
+        }
+        synchronized (monitors) {
+            BrowserProcessMonitor monitor = monitors.get(driver);
+            if (monitor == null) {
+                int pid = findBrowserPid(((HasCapabilities) driver).getCapabilities());
+                if (pid < 0) {
+                    logger.debug("Browser process not found - browser process monitoring not available");
+                    return null;
+                }
+                WebDriver session = driver instanceof WrapsDriver ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+                String sessionId = session instanceof RemoteWebDriver
+                    ? String.valueOf(((RemoteWebDriver) session).getSessionId()) : "pid" + pid;
+                monitor = new BrowserProcessMonitor(sessionId, pid);
+                monitors.put(driver, monitor);
+                logger.debug("Monitoring browser process {} of session {}", pid, sessionId);
+            }
+            return monitor;
+        }
+    }
+
+    /**
+     * Get the monitor attached to a driver
+     * @param driver WebDriver instance
+     * @return monitor, or null if none is attached
+     */
+    public static BrowserProcessMonitor get(WebDriver driver) {
+        return driver != null ? monitors.get(driver) : null;
+    }
+
+    /**
+     * Stop sampling a driver and write its resource timeline
+     * @param driver WebDriver instance
+     * @return detached monitor, or null if none was attached
+     */
+    public static BrowserProcessMonitor detach(WebDriver driver) {
+        BrowserProcessMonitor monitor = monitors.remove(driver);
+        if (monitor != null) {
+            monitor.sampling.cancel(false);
+            monitor.sample();
+            monitor.writeTimeline();
+        }
+        return monitor;
+    }
+
+    /**
+     * Label the following samples with a scenario
+     * @param scenarioName scenario name, or null between scenarios
+     */
+    public void setScenario(String scenarioName) {
+        this.scenarioName = scenarioName;
+    }
+
+    /**
+     * Get scenario the following samples are labelled with
+     * @return scenario name, or null between scenarios
+     */
+    public String getScenario() {
+        return scenarioName;
+    }
+
+    /**
+     * Get reason to replace the driver before the next scenario
+     * @return exceeded threshold, or null if the driver can be reused
+     */
+    public String getRecycleReason() {
+        long maxRssMb = config.getIntProperty("driver.recycle.max.rss.mb", 0);
+        long maxAgeMinutes = config.getIntProperty("driver.recycle.max.age.minutes", 0);
+        long rssMb;
+        synchronized (this) {
+            rssMb = lastRssBytes / (1024 * 1024);
+        }
+        if (maxRssMb > 0 && rssMb > maxRssMb) {
+            return "RSS " + rssMb + " MB > " + maxRssMb + " MB";
+        }
+        long ageMinutes = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - startMillis);
+        if (maxAgeMinutes > 0 && ageMinutes >= maxAgeMinutes) {
+            return "age " + ageMinutes + " min >= " + maxAgeMinutes + " min";
+        }
+        return null;
+    }
+
+    /**
+     * Get highest resident memory of the browser process tree seen so far
+     * @return peak RSS in megabytes
+     */
+    public synchronized long getPeakRssMb() {
+        return peakRssBytes / (1024 * 1024);
+    }
+
+    /**
+     * Get path of the written resource timeline
+     * @return timeline file, or null until the monitor is detached
+     */
+    public synchronized String getTimelinePath() {
+        return timelinePath;
+    }
+
+    /**
+     * Get one-line summary of the latest and peak resource use
+     * @return summary
+     */
+    public synchronized String getSummary() {
+        Map<String, Object> last = timeline.isEmpty() ? Map.of() : timeline.get(timeline.size() - 1);
+        return String.format("session %s: %s processes, RSS %d MB (peak %d MB), CPU %s ms, %d samples",
+            sessionId, last.getOrDefault("processes", 0), lastRssBytes / (1024 * 1024),
+            peakRssBytes / (1024 * 1024), last.getOrDefault("cpuMillis", 0), timeline.size());
+    }
+
+    /**
+     * Sample RSS and CPU time of the browser process tree
+     */
+    private void sample() {
+        try {
+            List<Integer> tree = processTree(rootPid);
+            long rssBytes = 0;
+            long cpuTicks = 0;
+            for (int pid : tree) {
+                rssBytes += readRssBytes(pid);
+                cpuTicks += readCpuTicks(pid);
+            }
+            long now = System.nanoTime();
+            synchronized (this) {
+                Map<String, Object> sample = new LinkedHashMap<>();
+                sample.put("time", System.currentTimeMillis());
+                sample.put("scenario", scenarioName);
+                sample.put("processes", tree.size());
+                sample.put("rssBytes", rssBytes);
+                sample.put("cpuMillis", cpuTicks * 1000 / CLOCK_TICKS_PER_SECOND);
+                if (lastCpuTicks >= 0 && now > lastSampleNanos) {
+                    // Exited processes take their CPU time with them, so the delta can be negative
+                    long deltaMillis = Math.max(0, cpuTicks - lastCpuTicks) * 1000 / CLOCK_TICKS_PER_SECOND;
+                    sample.put("cpuPercent", Math.round(deltaMillis * 1000.0 / TimeUnit.NANOSECONDS.toMillis(now - lastSampleNanos)) / 10.0);
+                }
+                timeline.add(sample);
+                lastRssBytes = rssBytes;
+                peakRssBytes = Math.max(peakRssBytes, rssBytes);
+                lastCpuTicks = cpuTicks;
+                lastSampleNanos = now;
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Failed to sample browser process {}: {}", rootPid, e.getMessage());
+        }
+    }
+
+    private synchronized void writeTimeline() {
+        if (timeline.isEmpty()) {
+            return;
+        }
+        try {
+            Path directory = Paths.get(config.getProperty("browser.monitor.path", "reports/browser-resources/"));
+            Files.createDirectories(directory);
+            Path file = directory.resolve(sessionId.replaceAll("[^a-zA-Z0-9-_]", "_") + ".jsonl");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Map<String, Object> sample : timeline) {
+                    writer.write(json.toJson(sample).replaceAll("\\s*\\n\\s*", " "));
+                    writer.write(System.lineSeparator());
+                }
+            }
+            timelinePath = file.toString();
+            logger.info("Browser resource timeline with {} samples saved: {}", timeline.size(), file);
+        } catch (IOException e) {
+            logger.error("Failed to write browser resource timeline: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Find the browser root process of a session
+     * @return pid, or -1 if it is not a local process
+     */
+    @SuppressWarnings("unchecked")
+    private static int findBrowserPid(Capabilities capabilities) {
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            return ((Number) firefoxPid).intValue();
+        }
+        for (String vendor : new String[] {"chrome", "msedge"}) {
+            Object options = capabilities.getCapability(vendor);
+            Object userDataDir = options instanceof Map ? ((Map<String, Object>) options).get("userDataDir") : null;
+            if (userDataDir != null) {
+                return findRootByArgument("--user-data-dir=" + userDataDir);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the process whose command line contains an argument and that is not a child process type
+     */
+    private static int findRootByArgument(String argument) {
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path process : processes) {
+                String commandLine = readCommandLine(process);
+                if (commandLine.contains(argument) && !commandLine.contains("--type=")) {
+                    return Integer.parseInt(process.getFileName().toString());
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to list processes: {}", e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * Get a process and all of its descendants
+     */
+    private static List<Integer> processTree(int rootPid) {
+        Map<Integer, List<Integer>> children = new HashMap<>();
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path process : processes) {
+                String[] stat = readStat(Integer.parseInt(process.getFileName().toString()));
+                if (stat != null) {
+                    children.computeIfAbsent(Integer.parseInt(stat[1]), parent -> new ArrayList<>())
+                        .add(Integer.parseInt(process.getFileName().toString()));
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to list processes: {}", e.getMessage());
+        }
+        List<Integer> tree = new ArrayList<>();
+        if (!Files.isDirectory(PROC.resolve(String.valueOf(rootPid)))) {
+            return tree;
+        }
+        Deque<Integer> pending = new ArrayDeque<>(List.of(rootPid));
+        while (!pending.isEmpty()) {
+            int pid = pending.pop();
+            tree.add(pid);
+            pending.addAll(children.getOrDefault(pid, List.of()));
+        }
+        return tree;
+    }
+
+    /**
+     * Read /proc/pid/stat fields after the command name, starting with the state (field 3)
+     * @return fields, or null if the process exited
+     */
+    private static String[] readStat(int pid) {
+        try {
+            String stat = Files.readString(PROC.resolve(pid + "/stat"));
+            return stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static long readCpuTicks(int pid) {
+        String[] stat = readStat(pid);
+        // utime and stime are fields 14 and 15
+        return stat != null ? Long.parseLong(stat[11]) + Long.parseLong(stat[12]) : 0;
+    }
+
+    /**
+     * Read resident set size from VmRSS in /proc/pid/status, which is in kB whatever the page size of the host
+     */
+    private static long readRssBytes(int pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(pid + "/status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring(6).trim().split("\\s+")[0]) * 1024;
+                }
+            }
+            return 0;
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static long clockTicksPerSecond() {
+        try {
+            Process getconf = new ProcessBuilder("getconf", "CLK_TCK").redirectErrorStream(true).start();
+            String output = new String(getconf.getInputStream().readAllBytes(), StandardCharsets.US_ASCII).trim();
+            if (getconf.waitFor() == 0 && output.matches("\\d+") && Long.parseLong(output) > 0) {
+                return Long.parseLong(output);
+            }
+        } catch (IOException e) {
+            logger.debug("getconf CLK_TCK failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 100;
+    }
+
+    private static String readCommandLine(Path process) {
+        try {
+            return new String(Files.readAllBytes(process.resolve("cmdline")), StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (IOException e) {
+            return "";
+        }
+    }
+}
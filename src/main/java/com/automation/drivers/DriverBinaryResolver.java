@@ -0,0 +1,208 @@
+package com.automation.drivers;
+
+import com.automation.config.ConfigManager;
+import com.automation.jfr.DriverResolutionEvent;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the driver binary of each browser once per JVM and points Selenium at it
+ * A pinned path such as chrome.driver.path wins; otherwise a path resolved by WebDriverManager is reused from the
+ * on-disk cache until driver.resolution.ttl.hours pass. In offline mode WebDriverManager is never called
+ * and an expired cache entry is still used. Scenarios starting concurrently wait for the first resolution.
+ * A cache hit does not check the driver against the installed browser; when a session cannot be created,
+ * invalidate drops the entry so the next setup asks WebDriverManager again.
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<String, CompletableFuture<String>> resolutions = new ConcurrentHashMap<>();
+    // Browsers whose next resolution must bypass the WebDriverManager resolution cache as well
+    private static final Set<String> invalidated = ConcurrentHashMap.newKeySet();
+    private static final Map<String, String> DRIVER_PROPERTIES = Map.of(
+        "chrome", "webdriver.chrome.driver",
+        "firefox", "webdriver.gecko.driver",
+        "edge", "webdriver.edge.driver");
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Make the driver binary of a browser available to Selenium, resolving it on first use
+     * @param browser chrome, firefox or edge
+     * @return path of the driver binary
+     * @throws IllegalStateException if the driver cannot be resolved, e.g. offline without a pinned path
+     */
+    public static String setup(String browser) {
+        CompletableFuture<String> resolution = new CompletableFuture<>();
+        CompletableFuture<String> existing = resolutions.putIfAbsent(browser, resolution);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+        try {
+            String path = resolve(browser);
+            System.setProperty(DRIVER_PROPERTIES.get(browser), path);
+            resolution.complete(path);
+            return path;
+        } catch (RuntimeException e) {
+            // Let a later scenario try again instead of failing every scenario of the run
+            resolutions.remove(browser, resolution);
+            resolution.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Forget the resolved driver of a browser, e.g. after a browser update left it incompatible
+     * @param browser chrome, firefox or edge
+     * @return true if the next setup resolves the driver again, false if it is pinned or resolution is offline
+     */
+    public static boolean invalidate(String browser) {
+        if (!config.getProperty(browser + ".driver.path", "").isBlank()
+            || config.getBooleanProperty("driver.resolution.offline", false)) {
+            return false;
+        }
+        invalidated.add(browser);
+        resolutions.remove(browser);
+        removeCachedPath(browser);
+        logger.info("Dropped cached {} driver resolution", browser);
+        return true;
+    }
+
+    private static String resolve(String browser) {
+        long start = System.nanoTime();
+        DriverResolutionEvent event = DriverResolutionEvent.begin(browser);
+        try {
+            boolean offline = config.getBooleanProperty("driver.resolution.offline", false);
+            String source;
+            String path = pinnedPath(browser);
+            if (path != null) {
+                source = "pinned";
+            } else {
+                path = cachedPath(browser, offline);
+                if (path != null) {
+                    source = "cache";
+                } else if (offline) {
+                    throw new IllegalStateException("Offline driver resolution has no " + browser
+                        + " driver - set " + browser + ".driver.path or resolve once online");
+                } else {
+                    WebDriverManager manager = WebDriverManager.getInstance(browser);
+                    if (invalidated.remove(browser)) {
+                        manager.avoidResolutionCache();
+                    }
+                    manager.setup();
+                    path = manager.getDownloadedDriverPath();
+                    storeCachedPath(browser, path);
+                    source = "webdrivermanager";
+                }
+            }
+            event.setSource(source);
+            logger.info("Resolved {} driver from {} in {} ms: {}", browser, source,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), path);
+            return path;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
+    private static String pinnedPath(String browser) {
+        String pinned = config.getProperty(browser + ".driver.path", "");
+        if (pinned.isBlank()) {
+            return null;
+        }
+        if (!Files.isExecutable(Paths.get(pinned))) {
+            throw new IllegalStateException(browser + ".driver.path is not an executable file: " + pinned);
+        }
+        return pinned;
+    }
+
+    /**
+     * Get a previously resolved path that still exists and, unless offline, is younger than the TTL
+     */
+    private static String cachedPath(String browser, boolean ignoreTtl) {
+        Properties cache = readCache();
+        String path = cache.getProperty(browser + ".path");
+        String resolvedAt = cache.getProperty(browser + ".resolvedAt");
+        if (path == null || resolvedAt == null || !resolvedAt.matches("\\d+") || !Files.isExecutable(Paths.get(path))) {
+            return null;
+        }
+        long ageMillis = System.currentTimeMillis() - Long.parseLong(resolvedAt);
+        long ttlMillis = TimeUnit.HOURS.toMillis(config.getIntProperty("driver.resolution.ttl.hours", 24));
+        if (!ignoreTtl && ageMillis > ttlMillis) {
+            logger.debug("Cached {} driver resolution expired ({} h old)", browser, TimeUnit.MILLISECONDS.toHours(ageMillis));
+            return null;
+        }
+        return path;
+    }
+
+    private static synchronized void storeCachedPath(String browser, String path) {
+        Properties cache = readCache();
+        cache.setProperty(browser + ".path", path);
+        cache.setProperty(browser + ".resolvedAt", String.valueOf(System.currentTimeMillis()));
+        writeCache(cache);
+    }
+
+    private static synchronized void removeCachedPath(String browser) {
+        Properties cache = readCache();
+        if (cache.remove(browser + ".path") != null) {
+            cache.remove(browser + ".resolvedAt");
+            writeCache(cache);
+        }
+    }
+
+    private static void writeCache(Properties cache) {
+        Path file = cacheFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Write and rename, so parallel JVMs never read a half-written cache
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "resolution", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                cache.store(writer, "Driver binaries resolved by WebDriverManager");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to write driver resolution cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Properties readCache() {
+        Properties cache = new Properties();
+        Path file = cacheFile();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                cache.load(reader);
+            } catch (IOException e) {
+                logger.warn("Failed to read driver resolution cache {}: {}", file, e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static Path cacheFile() {
+        return Paths.get(config.getProperty("driver.resolution.cache", ".driver-cache/resolution.properties"));
+    }
+}
@@ -0,0 +1,226 @@
+package com.automation.drivers;
+
+import com.automation.config.ConfigManager;
+import com.automation.jfr.FlightRecording;
+import com.automation.jfr.LiveDriversEvent;
+import jdk.jfr.FlightRecorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Registry of every driver created by WebDriverFactory with its owning thread and scenario
+ * Drivers still attributed to a scenario when it ends, drivers of threads that died and all drivers
+ * left at JVM exit are quit, so a hook failing before cleanup does not leak browser processes.
+ * Creating a driver fails fast once driver.max.concurrent drivers are live.
+ */
+public final class DriverRegistry {
+    private static final Logger logger = LogManager.getLogger(DriverRegistry.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<WebDriver, Entry> drivers = new ConcurrentHashMap<>();
+    private static final AtomicInteger slots = new AtomicInteger();
+    private static final AtomicInteger peak = new AtomicInteger();
+    private static final AtomicLong created = new AtomicLong();
+    private static final AtomicLong reaped = new AtomicLong();
+    private static volatile Consumer<WebDriver> reaper = DriverRegistry::quit;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverRegistry::quitAll, "driver-registry-shutdown"));
+        FlightRecorder.addPeriodicEvent(LiveDriversEvent.class,
+            () -> LiveDriversEvent.emit(getLiveCount(), getIdleCount(), peak.get()));
+    }
+
+    /**
+     * Owner of a registered driver
+     */
+    private static final class Entry {
+        private volatile Thread owner;
+        private volatile String scenario;
+        private volatile WebDriver handle;
+
+        private Entry(WebDriver handle, Thread owner, String scenario) {
+            this.handle = handle;
+            this.owner = owner;
+            this.scenario = scenario;
+        }
+
+        @Override
+        public String toString() {
+            return "thread " + owner.getName() + (scenario != null ? ", scenario '" + scenario + "'" : ", idle");
+        }
+    }
+
+    private DriverRegistry() {
+    }
+
+    /**
+     * Reserve a slot for a driver about to be created
+     * @throws IllegalStateException if driver.max.concurrent drivers are already live
+     */
+    public static void reserve() {
+        reapDeadThreads();
+        int cap = config.getIntProperty("driver.max.concurrent", 0);
+        int reserved = slots.incrementAndGet();
+        if (cap > 0 && reserved > cap) {
+            slots.decrementAndGet();
+            throw new IllegalStateException("Cannot create driver: " + cap + " drivers already live (driver.max.concurrent), owned by "
+                + new ArrayList<>(drivers.values()));
+        }
+    }
+
+    /**
+     * Give back a reserved slot after driver creation failed
+     */
+    public static void cancelReservation() {
+        slots.decrementAndGet();
+    }
+
+    /**
+     * Register a created driver for the current thread and scenario, using a reserved slot
+     * @param driver created driver
+     */
+    public static void register(WebDriver driver) {
+        drivers.put(driver, new Entry(driver, Thread.currentThread(), FlightRecording.getScenario()));
+        created.incrementAndGet();
+        peak.accumulateAndGet(drivers.size(), Math::max);
+        logger.debug("Registered driver for {}, {} live", drivers.get(driver), drivers.size());
+    }
+
+    /**
+     * Set how reaped drivers are quit, e.g. to detach per-driver services first
+     * @param quitter receives the outermost wrapper seen for the driver
+     */
+    public static void setReaper(Consumer<WebDriver> quitter) {
+        reaper = quitter;
+    }
+
+    /**
+     * Attribute a driver to the scenario running on the current thread
+     * @param driver registered driver or a wrapper of it, used when the driver is reaped
+     */
+    public static void markInUse(WebDriver driver) {
+        Entry entry = drivers.get(unwrap(driver));
+        if (entry != null) {
+            entry.handle = driver;
+            entry.owner = Thread.currentThread();
+            entry.scenario = FlightRecording.getScenario();
+        }
+    }
+
+    /**
+     * Detach a driver that is kept for reuse from its scenario, so it is not reaped at scenario end
+     * @param driver registered driver or a wrapper of it
+     */
+    public static void markIdle(WebDriver driver) {
+        Entry entry = drivers.get(unwrap(driver));
+        if (entry != null) {
+            entry.scenario = null;
+        }
+    }
+
+    /**
+     * Quit a driver and remove it from the registry
+     * @param driver registered driver or a wrapper of it
+     */
+    public static void quit(WebDriver driver) {
+        WebDriver registered = unwrap(driver);
+        try {
+            driver.quit();
+        } finally {
+            if (drivers.remove(registered) != null) {
+                slots.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Quit drivers of the current thread that are still attributed to a scenario after it ended
+     * @return number of reaped drivers
+     */
+    public static int reapScenarioDrivers() {
+        List<WebDriver> orphans = new ArrayList<>();
+        drivers.forEach((driver, entry) -> {
+            if (entry.owner == Thread.currentThread() && entry.scenario != null) {
+                orphans.add(driver);
+            }
+        });
+        return reap(orphans, "left behind by its scenario");
+    }
+
+    /**
+     * Get number of drivers created and not yet quit
+     * @return live drivers
+     */
+    public static int getLiveCount() {
+        return drivers.size();
+    }
+
+    /**
+     * Get number of live drivers kept for reuse between scenarios
+     * @return idle drivers
+     */
+    public static int getIdleCount() {
+        return (int) drivers.values().stream().filter(entry -> entry.scenario == null).count();
+    }
+
+    /**
+     * Get one-line summary of the driver counts
+     * @return summary
+     */
+    public static String getSummary() {
+        return String.format("live=%d idle=%d peak=%d created=%d reaped=%d",
+            getLiveCount(), getIdleCount(), peak.get(), created.get(), reaped.get());
+    }
+
+    private static void reapDeadThreads() {
+        List<WebDriver> orphans = new ArrayList<>();
+        drivers.forEach((driver, entry) -> {
+            if (!entry.owner.isAlive()) {
+                orphans.add(driver);
+            }
+        });
+        reap(orphans, "owned by a finished thread");
+    }
+
+    private static void quitAll() {
+        reap(new ArrayList<>(drivers.keySet()), "still open at JVM exit");
+    }
+
+    private static int reap(List<WebDriver> orphans, String reason) {
+        int count = 0;
+        for (WebDriver driver : orphans) {
+            // Removing first claims the driver, so a driver quit or reaped meanwhile by another thread is skipped
+            Entry entry = drivers.remove(driver);
+            if (entry == null) {
+                continue;
+            }
+            slots.decrementAndGet();
+            logger.warn("Reaping driver {} ({})", reason, entry);
+            try {
+                reaper.accept(entry.handle);
+            } catch (WebDriverException e) {
+                logger.debug("Failed to quit reaped driver: {}", e.getMessage());
+            }
+            reaped.incrementAndGet();
+            count++;
+        }
+        return count;
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver && ((WrapsDriver) driver).getWrappedDriver() != driver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        return driver;
+    }
+}
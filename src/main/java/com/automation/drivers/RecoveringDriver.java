@@ -0,0 +1,342 @@
+package com.automation.drivers;
+
+import com.automation.config.ConfigManager;
+import com.automation.jfr.SessionRecoveryEvent;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * WebDriver proxy that replaces a crashed or unreachable browser session and retries the failed command
+ * A command failing with a session error is followed by a liveness probe with a short timeout; if the
+ * session is dead, a new driver is created, the last checkpoint (URL, cookies, local and session storage)
+ * is restored and the command is retried once. manage(), navigate() and switchTo() are proxied as well,
+ * so they always act on the current session. Element references of the lost session are not carried
+ * over; page objects locate their elements again.
+ */
+public final class RecoveringDriver implements InvocationHandler {
+    private static final Logger logger = LogManager.getLogger(RecoveringDriver.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final String CHECKPOINT_SCRIPT =
+        "function copy(storage) {"
+        + "  var items = {};"
+        + "  try { for (var i = 0; i < storage.length; i++) { items[storage.key(i)] = storage.getItem(storage.key(i)); } } catch (e) {}"
+        + "  return items;"
+        + "}"
+        + "return {url: location.href, local: copy(window.localStorage), session: copy(window.sessionStorage)};";
+
+    private static final String RESTORE_STORAGE_SCRIPT =
+        "var local = arguments[0], session = arguments[1];"
+        + "try {"
+        + "  Object.keys(local).forEach(function(key) { window.localStorage.setItem(key, local[key]); });"
+        + "  Object.keys(session).forEach(function(key) { window.sessionStorage.setItem(key, session[key]); });"
+        + "} catch (e) {}";
+
+    // A probe of a hung browser blocks its thread until the HTTP read timeout, so probes get their own daemon
+    // threads instead of the common pool, where they would starve unrelated parallel work
+    private static final ExecutorService prober = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "session-probe");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Set<Class<?>> CHAINED_TYPES = Set.of(WebDriver.Options.class, WebDriver.Navigation.class,
+        WebDriver.TargetLocator.class, WebDriver.Timeouts.class, WebDriver.Window.class);
+
+    private final Supplier<WebDriver> factory;
+    private final List<String> recoveries = new ArrayList<>();
+    private volatile WebDriver current;
+    private volatile Consumer<WebDriver> recreatedListener;
+    private WebDriver proxy;
+    private boolean recovering;
+    private boolean quit;
+    private String checkpointUrl;
+    private Set<Cookie> checkpointCookies = Set.of();
+    private Map<String, Object> checkpointLocalStorage = Map.of();
+    private Map<String, Object> checkpointSessionStorage = Map.of();
+
+    private RecoveringDriver(WebDriver driver, Supplier<WebDriver> factory) {
+        this.current = driver;
+        this.factory = factory;
+    }
+
+    /**
+     * Check if session recovery is enabled in configuration
+     * @return true if session.recovery.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("session.recovery.enabled", false);
+    }
+
+    /**
+     * Wrap a driver so lost sessions are replaced transparently
+     * @param driver driver to wrap
+     * @param factory creates replacement drivers
+     * @return proxy implementing the interfaces of the driver and WrapsDriver
+     */
+    public static WebDriver wrap(WebDriver driver, Supplier<WebDriver> factory) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = driver.getClass(); type != null; type = type.getSuperclass()) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Modifier.isPublic(candidate.getModifiers())) {
+                    interfaces.add(candidate);
+                }
+            }
+        }
+        interfaces.add(WrapsDriver.class);
+        RecoveringDriver handler = new RecoveringDriver(driver, factory);
+        handler.proxy = (WebDriver) Proxy.newProxyInstance(RecoveringDriver.class.getClassLoader(),
+            interfaces.toArray(new Class<?>[0]), handler);
+        return handler.proxy;
+    }
+
+    /**
+     * Get the recovery handler of a wrapped driver
+     * @param driver WebDriver instance
+     * @return handler, or null if the driver is not wrapped
+     */
+    public static RecoveringDriver of(WebDriver driver) {
+        if (driver != null && Proxy.isProxyClass(driver.getClass())
+                && Proxy.getInvocationHandler(driver) instanceof RecoveringDriver) {
+            return (RecoveringDriver) Proxy.getInvocationHandler(driver);
+        }
+        return null;
+    }
+
+    /**
+     * Set the callback run with the proxy after a new session was created and before state is restored,
+     * e.g. to attach DevTools listeners to the new session
+     * @param listener recreated session callback
+     */
+    public void setRecreatedListener(Consumer<WebDriver> listener) {
+        this.recreatedListener = listener;
+    }
+
+    /**
+     * Remember URL, cookies and storage of the current page as the state to restore after a crash
+     * Costs two browser round trips; failures are ignored and the previous checkpoint is kept.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void checkpoint() {
+        try {
+            Map<String, Object> state = (Map<String, Object>) ((JavascriptExecutor) current).executeScript(CHECKPOINT_SCRIPT);
+            Set<Cookie> cookies = current.manage().getCookies();
+            checkpointUrl = (String) state.get("url");
+            checkpointLocalStorage = (Map<String, Object>) state.get("local");
+            checkpointSessionStorage = (Map<String, Object>) state.get("session");
+            checkpointCookies = cookies;
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("Failed to checkpoint session state: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Check with a cheap command whether the browser session still responds
+     * @return true if the session answered within session.recovery.probe.timeout.ms
+     */
+    public boolean isAlive() {
+        WebDriver driver = current;
+        CompletableFuture<String> probe = CompletableFuture.supplyAsync(driver::getWindowHandle, prober);
+        try {
+            probe.get(config.getIntProperty("session.recovery.probe.timeout.ms", 5000), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            probe.cancel(true);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Replace the session if an error from outside the proxy, e.g. from an element, means it was lost
+     * @param cause error of the failed command
+     * @return true if a new session was created and the command can be repeated
+     */
+    public boolean recoverIfLost(WebDriverException cause) {
+        return isSessionLoss(cause) && recover(cause);
+    }
+
+    /**
+     * Get descriptions of the recoveries since the last call
+     * @return recovery descriptions
+     */
+    public synchronized List<String> drainRecoveries() {
+        List<String> drained = new ArrayList<>(recoveries);
+        recoveries.clear();
+        return drained;
+    }
+
+    @Override
+    public Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        return invokeChained(List.of(), method, args);
+    }
+
+    /**
+     * Invoke a method on the object reached from the current driver through a chain of accessor calls
+     */
+    private Object invokeChained(List<Object[]> chain, Method method, Object[] args) throws Throwable {
+        if (chain.isEmpty()) {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(method, args);
+            }
+            if (method.getDeclaringClass() == WrapsDriver.class) {
+                return current;
+            }
+            if (method.getName().equals("quit")) {
+                synchronized (this) {
+                    quit = true;
+                }
+                current.quit();
+                return null;
+            }
+        }
+        if (CHAINED_TYPES.contains(method.getReturnType())) {
+            List<Object[]> next = new ArrayList<>(chain);
+            next.add(new Object[] {method, args});
+            return Proxy.newProxyInstance(RecoveringDriver.class.getClassLoader(), new Class<?>[] {method.getReturnType()},
+                (target, chainedMethod, chainedArgs) -> chainedMethod.getDeclaringClass() == Object.class
+                    ? chainedMethod.invoke(this, chainedArgs) : invokeChained(next, chainedMethod, chainedArgs));
+        }
+        try {
+            return invokeOnCurrent(chain, method, args);
+        } catch (WebDriverException e) {
+            if (!isSessionLoss(e) || !recover(e)) {
+                throw e;
+            }
+            logger.info("Retrying {} on the recovered session", method.getName());
+            return invokeOnCurrent(chain, method, args);
+        }
+    }
+
+    private Object invokeOnCurrent(List<Object[]> chain, Method method, Object[] args) throws Throwable {
+        try {
+            Object target = current;
+            for (Object[] call : chain) {
+                target = ((Method) call[0]).invoke(target, (Object[]) call[1]);
+            }
+            Object result = method.invoke(target, args);
+            if (chain.isEmpty() && method.getName().equals("get") && args != null && args.length == 1) {
+                synchronized (this) {
+                    checkpointUrl = (String) args[0];
+                }
+            }
+            return result;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object invokeObjectMethod(Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "RecoveringDriver(" + current + ")";
+        }
+    }
+
+    /**
+     * Replace the session if the probe confirms it is dead
+     * @return true if a new session was created and the command can be retried
+     */
+    private synchronized boolean recover(WebDriverException cause) {
+        if (quit || recovering || isAlive()) {
+            return false;
+        }
+        String reason = cause.getClass().getSimpleName() + ": " + firstLine(cause.getMessage());
+        logger.warn("Browser session lost ({}), creating a new session", reason);
+        SessionRecoveryEvent event = SessionRecoveryEvent.begin(reason, checkpointUrl);
+        recovering = true;
+        try {
+            WebDriver lost = current;
+            try {
+                DriverRegistry.quit(lost);
+            } catch (WebDriverException e) {
+                logger.debug("Failed to quit lost session: {}", e.getMessage());
+            }
+            current = factory.get();
+            if (recreatedListener != null) {
+                recreatedListener.accept(proxy);
+            }
+            restoreCheckpoint();
+            recoveries.add(reason + (checkpointUrl != null ? ", restored " + checkpointUrl : ""));
+            logger.info("Browser session recovered{}", checkpointUrl != null ? " at " + checkpointUrl : "");
+            return true;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            logger.error("Failed to recover browser session: {}", e.getMessage());
+            return false;
+        } finally {
+            recovering = false;
+            event.finish();
+        }
+    }
+
+    private void restoreCheckpoint() {
+        if (checkpointUrl == null || !checkpointUrl.startsWith("http")) {
+            return;
+        }
+        // Cookies and storage can only be set on a page of their origin
+        current.get(checkpointUrl);
+        for (Cookie cookie : checkpointCookies) {
+            try {
+                current.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                logger.debug("Failed to restore cookie {}: {}", cookie.getName(), e.getMessage());
+            }
+        }
+        ((JavascriptExecutor) current).executeScript(RESTORE_STORAGE_SCRIPT, checkpointLocalStorage, checkpointSessionStorage);
+        current.get(checkpointUrl);
+    }
+
+    /**
+     * Check if an error means the browser or its session is gone, rather than a failed command
+     */
+    private static boolean isSessionLoss(WebDriverException e) {
+        if (e instanceof NoSuchSessionException || e instanceof UnreachableBrowserException) {
+            return true;
+        }
+        String message = e.getMessage() != null ? e.getMessage().toLowerCase(Locale.ROOT) : "";
+        return message.contains("not reachable") || message.contains("tab crashed")
+            || message.contains("session deleted") || message.contains("disconnected")
+            || message.contains("timed out receiving message from renderer");
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int end = message.indexOf('\n');
+        return end >= 0 ? message.substring(0, end) : message;
+    }
+}
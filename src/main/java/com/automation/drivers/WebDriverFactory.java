@@ -1,7 +1,10 @@
 package com.automation.drivers;
 
 import com.automation.config.ConfigManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.automation.jfr.DriverLaunchEvent;
+import com.automation.network.RecordingProxy;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -9,9 +12,14 @@ import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.remote.AbstractDriverOptions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.function.Supplier;
+
 /**
  * WebDriver Factory class for creating and managing WebDriver instances
  * Supports multiple browsers with configurable options
@@ -26,21 +34,48 @@ public class WebDriverFactory {
      * @return WebDriver instance
      */
     public static WebDriver createDriver() {
-        String browser = config.getProperty("browser", "chrome");
+        return createDriver(config.getProperty("browser", "chrome"));
+    }
+
+    /**
+     * Create WebDriver instance for a browser, regardless of the configured one
+     * @param browser chrome, firefox, edge or htmlunit
+     * @return WebDriver instance
+     */
+    public static WebDriver createDriver(String browser) {
         boolean headless = Boolean.parseBoolean(config.getProperty("headless", "false"));
         
         logger.info("Creating WebDriver for browser: {} (headless: {})", browser, headless);
         
-        switch (browser.toLowerCase()) {
-            case "chrome":
-                return createChromeDriver(headless);
-            case "firefox":
-                return createFirefoxDriver(headless);
-            case "edge":
-                return createEdgeDriver(headless);
-            default:
-                logger.warn("Unknown browser: {}. Using Chrome as default.", browser);
-                return createChromeDriver(headless);
+        DriverRegistry.reserve();
+        DriverLaunchEvent event = DriverLaunchEvent.begin(browser, headless);
+        try {
+            WebDriver driver;
+            switch (browser.toLowerCase()) {
+                case "chrome":
+                    driver = createChromeDriver(headless);
+                    break;
+                case "firefox":
+                    driver = createFirefoxDriver(headless);
+                    break;
+                case "edge":
+                    driver = createEdgeDriver(headless);
+                    break;
+                case "htmlunit":
+                    driver = createHtmlUnitDriver();
+                    break;
+                default:
+                    logger.warn("Unknown browser: {}. Using Chrome as default.", browser);
+                    driver = createChromeDriver(headless);
+            }
+            DriverRegistry.register(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            DriverRegistry.cancelReservation();
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -50,7 +85,6 @@ public class WebDriverFactory {
      * @return Chrome WebDriver
      */
     private static WebDriver createChromeDriver(boolean headless) {
-        WebDriverManager.chromedriver().setup();
         ChromeOptions options = new ChromeOptions();
         
         if (headless) {
@@ -64,7 +98,6 @@ public class WebDriverFactory {
         options.addArguments("--window-size=1920,1080");
         options.addArguments("--disable-extensions");
         options.addArguments("--disable-plugins");
-        options.addArguments("--disable-images");
         options.addArguments("--incognito"); // Use incognito mode to prevent password manager popups
 
         // Disable Chrome password manager and save password prompts
@@ -72,8 +105,10 @@ public class WebDriverFactory {
         options.addArguments("--disable-save-password-bubble");
         options.addArguments("--disable-features=VizDisplayCompositor");
         
+        configureNetworkProxy(options);
+        
         logger.debug("Chrome options configured: {}", options);
-        return new ChromeDriver(options);
+        return launch("chrome", () -> new ChromeDriver(options));
     }
 
     /**
@@ -82,7 +117,6 @@ public class WebDriverFactory {
      * @return Firefox WebDriver
      */
     private static WebDriver createFirefoxDriver(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
         FirefoxOptions options = new FirefoxOptions();
         
         if (headless) {
@@ -93,8 +127,10 @@ public class WebDriverFactory {
         options.addArguments("--width=1920");
         options.addArguments("--height=1080");
         
+        configureNetworkProxy(options);
+        
         logger.debug("Firefox options configured: {}", options);
-        return new FirefoxDriver(options);
+        return launch("firefox", () -> new FirefoxDriver(options));
     }
 
     /**
@@ -103,7 +139,6 @@ public class WebDriverFactory {
      * @return Edge WebDriver
      */
     private static WebDriver createEdgeDriver(boolean headless) {
-        WebDriverManager.edgedriver().setup();
         EdgeOptions options = new EdgeOptions();
         
         if (headless) {
@@ -115,7 +150,75 @@ public class WebDriverFactory {
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--window-size=1920,1080");
         
+        configureNetworkProxy(options);
+        
         logger.debug("Edge options configured: {}", options);
-        return new EdgeDriver(options);
+        return launch("edge", () -> new EdgeDriver(options));
+    }
+
+    /**
+     * Start a browser with its resolved driver binary, resolving it once more if the session cannot be created
+     * A driver taken from the resolution cache may no longer match a browser updated since.
+     * @param browser chrome, firefox or edge
+     * @param launcher creates the driver
+     * @return WebDriver instance
+     */
+    private static WebDriver launch(String browser, Supplier<WebDriver> launcher) {
+        DriverBinaryResolver.setup(browser);
+        try {
+            return launcher.get();
+        } catch (SessionNotCreatedException e) {
+            if (!DriverBinaryResolver.invalidate(browser)) {
+                throw e;
+            }
+            logger.warn("Could not start {} with the resolved driver, resolving it again: {}", browser, e.getRawMessage());
+            DriverBinaryResolver.setup(browser);
+            return launcher.get();
+        }
+    }
+
+    /**
+     * Create HtmlUnit WebDriver, a JavaScript-enabled browser without rendering that runs inside the JVM
+     * It has no layout engine, screenshots or DevTools, so it suits scenarios that only check text and state
+     * @return HtmlUnit WebDriver
+     */
+    private static WebDriver createHtmlUnitDriver() {
+        HtmlUnitDriver driver = new HtmlUnitDriver(BrowserVersion.CHROME, true);
+        Proxy proxy = recordingProxy();
+        if (proxy != null) {
+            driver.setProxySettings(proxy);
+        }
+        logger.debug("HtmlUnit driver created with JavaScript enabled");
+        return driver;
+    }
+
+    /**
+     * Route browser traffic through the local recording proxy when record or replay mode is enabled
+     * @param options browser options to configure
+     */
+    private static void configureNetworkProxy(AbstractDriverOptions<?> options) {
+        Proxy proxy = recordingProxy();
+        if (proxy != null) {
+            options.setProxy(proxy);
+        }
+    }
+
+    /**
+     * Start the local recording proxy if record or replay mode is enabled
+     * @return proxy settings for the browser, or null if the proxy is not used
+     */
+    private static Proxy recordingProxy() {
+        if (!RecordingProxy.isEnabled()) {
+            return null;
+        }
+        RecordingProxy recordingProxy = RecordingProxy.getInstance();
+        recordingProxy.start();
+
+        Proxy proxy = new Proxy();
+        proxy.setHttpProxy(recordingProxy.getProxyAddress());
+        proxy.setSslProxy(recordingProxy.getProxyAddress());
+        logger.info("Browser traffic routed through recording proxy {} ({} mode)",
+            recordingProxy.getProxyAddress(), recordingProxy.getMode());
+        return proxy;
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+
+/**
+ * Base class for framework flight recorder events
+ * Every event carries the name of the scenario running on the emitting thread
+ */
+@Category("Automation")
+public abstract class AutomationEvent extends jdk.jfr.Event {
+
+    @Label("Scenario")
+    protected String scenario;
+
+    @Label("Outcome")
+    protected String outcome = "success";
+
+    /**
+     * Start timing the event and tag it with the current scenario
+     */
+    protected void start() {
+        scenario = FlightRecording.getScenario();
+        begin();
+    }
+
+    /**
+     * Mark the event as failed
+     * @param error error that ended the operation
+     */
+    public void failed(Throwable error) {
+        outcome = error.getClass().getSimpleName();
+    }
+
+    /**
+     * Stop timing and commit the event if it is recorded
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            describe();
+            commit();
+        }
+    }
+
+    /**
+     * Fill in descriptive fields, only called for events that are actually recorded
+     */
+    protected void describe() {
+    }
+}
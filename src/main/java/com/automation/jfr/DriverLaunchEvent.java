@@ -0,0 +1,32 @@
+package com.automation.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Browser and driver startup in WebDriverFactory
+ */
+@Name("com.automation.DriverLaunch")
+@Label("Driver Launch")
+public class DriverLaunchEvent extends AutomationEvent {
+
+    @Label("Browser")
+    private String browser;
+
+    @Label("Headless")
+    private boolean headless;
+
+    /**
+     * Start a driver launch event
+     * @param browser browser name
+     * @param headless true if the browser runs headless
+     * @return started event
+     */
+    public static DriverLaunchEvent begin(String browser, boolean headless) {
+        DriverLaunchEvent event = new DriverLaunchEvent();
+        event.browser = browser;
+        event.headless = headless;
+        event.start();
+        return event;
+    }
+}
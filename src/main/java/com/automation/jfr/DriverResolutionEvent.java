@@ -0,0 +1,38 @@
+package com.automation.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Lookup of the driver binary for a browser, done once per JVM
+ */
+@Name("com.automation.DriverResolution")
+@Label("Driver Resolution")
+public class DriverResolutionEvent extends AutomationEvent {
+
+    @Label("Browser")
+    private String browser;
+
+    @Label("Source")
+    private String source;
+
+    /**
+     * Start a driver resolution event
+     * @param browser browser name
+     * @return started event
+     */
+    public static DriverResolutionEvent begin(String browser) {
+        DriverResolutionEvent event = new DriverResolutionEvent();
+        event.browser = browser;
+        event.start();
+        return event;
+    }
+
+    /**
+     * Set where the driver path came from
+     * @param source pinned, cache or webdrivermanager
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+}
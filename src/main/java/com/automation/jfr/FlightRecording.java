@@ -0,0 +1,104 @@
+package com.automation.jfr;
+
+import com.automation.config.ConfigManager;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Utility class for Java Flight Recorder integration
+ * Tracks the scenario running on each thread for event tagging and can record the whole suite
+ * into one file together with GC, thread and I/O events of the selected JFR settings
+ */
+public class FlightRecording {
+    private static final Logger logger = LogManager.getLogger(FlightRecording.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final ThreadLocal<String> currentScenario = new ThreadLocal<>();
+    private static Recording suiteRecording;
+
+    /**
+     * Check if suite recording is enabled in configuration
+     * @return true if jfr.recording.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("jfr.recording.enabled", false);
+    }
+
+    /**
+     * Start recording for the rest of the JVM lifetime, once; the file is written on shutdown
+     * @return path of the recording file, or null if recording could not be started
+     */
+    public static synchronized Path startSuiteRecording() {
+        if (suiteRecording != null) {
+            return suiteRecording.getDestination();
+        }
+        try {
+            Path directory = Paths.get(config.getProperty("jfr.recording.path", "reports/jfr/"));
+            Files.createDirectories(directory);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path file = directory.resolve("automation_" + timestamp + ".jfr");
+
+            Configuration settings = Configuration.getConfiguration(config.getProperty("jfr.recording.settings", "profile"));
+            Recording recording = new Recording(settings);
+            recording.setName("automation-suite");
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.start();
+            suiteRecording = recording;
+
+            Runtime.getRuntime().addShutdownHook(new Thread(FlightRecording::stopSuiteRecording, "jfr-recording-shutdown"));
+            logger.info("Flight recording started: {}", file);
+            return file;
+        } catch (Exception e) {
+            logger.error("Failed to start flight recording: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stop the suite recording and write it to its destination
+     */
+    public static synchronized void stopSuiteRecording() {
+        if (suiteRecording != null) {
+            Path file = suiteRecording.getDestination();
+            try {
+                suiteRecording.stop();
+                suiteRecording.close();
+                logger.info("Flight recording written: {}", file);
+            } catch (Exception e) {
+                logger.error("Failed to write flight recording: {}", e.getMessage());
+            }
+            suiteRecording = null;
+        }
+    }
+
+    /**
+     * Tag events emitted on the current thread with a scenario name
+     * @param scenarioName scenario name
+     */
+    public static void setScenario(String scenarioName) {
+        currentScenario.set(scenarioName);
+    }
+
+    /**
+     * Remove the scenario tag of the current thread
+     */
+    public static void clearScenario() {
+        currentScenario.remove();
+    }
+
+    /**
+     * Get scenario running on the current thread
+     * @return scenario name, or null outside a scenario
+     */
+    public static String getScenario() {
+        return currentScenario.get();
+    }
+}
@@ -0,0 +1,42 @@
+package com.automation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+
+/**
+ * Periodic count of the drivers tracked by DriverRegistry
+ */
+@Name("com.automation.LiveDrivers")
+@Label("Live Drivers")
+@Category("Automation")
+@Period("1 s")
+public class LiveDriversEvent extends Event {
+
+    @Label("Live")
+    private int live;
+
+    @Label("Idle")
+    private int idle;
+
+    @Label("Peak")
+    private int peak;
+
+    /**
+     * Commit a driver count sample
+     * @param live drivers created and not yet quit
+     * @param idle live drivers kept for reuse between scenarios
+     * @param peak highest live count so far
+     */
+    public static void emit(int live, int idle, int peak) {
+        LiveDriversEvent event = new LiveDriversEvent();
+        if (event.shouldCommit()) {
+            event.live = live;
+            event.idle = idle;
+            event.peak = peak;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.automation.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Element interaction or navigation performed through BasePage
+ */
+@Name("com.automation.PageInteraction")
+@Label("Page Interaction")
+public class PageInteractionEvent extends AutomationEvent {
+
+    @Label("Page")
+    private String page;
+
+    @Label("Action")
+    private String action;
+
+    @Label("Target")
+    private String target;
+
+    private transient Object targetReference;
+
+    /**
+     * Start a page interaction event
+     * @param page page object name
+     * @param action interaction, e.g. "click"
+     * @param target locator or URL, converted to text only if the event is recorded
+     * @return started event
+     */
+    public static PageInteractionEvent begin(String page, String action, Object target) {
+        PageInteractionEvent event = new PageInteractionEvent();
+        event.page = page;
+        event.action = action;
+        event.targetReference = target;
+        event.start();
+        return event;
+    }
+
+    @Override
+    protected void describe() {
+        target = targetReference != null ? targetReference.toString() : null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.automation.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Screenshot capture and write in ScreenshotUtils
+ */
+@Name("com.automation.Screenshot")
+@Label("Screenshot")
+public class ScreenshotEvent extends AutomationEvent {
+
+    @Label("Format")
+    private String format;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Path")
+    private String path;
+
+    /**
+     * Start a screenshot event
+     * @param format output format, e.g. "file" or "base64"
+     * @return started event
+     */
+    public static ScreenshotEvent begin(String format) {
+        ScreenshotEvent event = new ScreenshotEvent();
+        event.format = format;
+        event.start();
+        return event;
+    }
+
+    /**
+     * Record the result of the screenshot
+     * @param bytes size of the captured or written screenshot
+     * @param path file the screenshot was written to, or null
+     */
+    public void written(long bytes, String path) {
+        this.bytes = bytes;
+        this.path = path;
+    }
+}
@@ -0,0 +1,32 @@
+package com.automation.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Replacement of a crashed or unreachable browser session by RecoveringDriver
+ */
+@Name("com.automation.SessionRecovery")
+@Label("Session Recovery")
+public class SessionRecoveryEvent extends AutomationEvent {
+
+    @Label("Reason")
+    private String reason;
+
+    @Label("Restored URL")
+    private String url;
+
+    /**
+     * Start a session recovery event
+     * @param reason error that revealed the lost session
+     * @param url URL restored in the new session
+     * @return started event
+     */
+    public static SessionRecoveryEvent begin(String reason, String url) {
+        SessionRecoveryEvent event = new SessionRecoveryEvent();
+        event.reason = reason;
+        event.url = url;
+        event.start();
+        return event;
+    }
+}
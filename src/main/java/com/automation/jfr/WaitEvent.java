@@ -0,0 +1,44 @@
+package com.automation.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Explicit wait in WaitUtils, from start until the condition is met or times out
+ */
+@Name("com.automation.Wait")
+@Label("Wait")
+public class WaitEvent extends AutomationEvent {
+
+    @Label("Condition")
+    private String condition;
+
+    @Label("Target")
+    private String target;
+
+    @Label("Timeout Seconds")
+    private int timeoutSeconds;
+
+    private transient Object targetReference;
+
+    /**
+     * Start a wait event
+     * @param condition kind of condition, e.g. "visible"
+     * @param target locator or value waited for, converted to text only if the event is recorded
+     * @param timeoutSeconds wait timeout
+     * @return started event
+     */
+    public static WaitEvent begin(String condition, Object target, int timeoutSeconds) {
+        WaitEvent event = new WaitEvent();
+        event.condition = condition;
+        event.targetReference = target;
+        event.timeoutSeconds = timeoutSeconds;
+        event.start();
+        return event;
+    }
+
+    @Override
+    protected void describe() {
+        target = targetReference != null ? targetReference.toString() : null;
+    }
+}
@@ -0,0 +1,160 @@
+package com.automation.logging;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderControl;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appender that routes log events by scenario
+ * Events tagged with a scenario id are kept in a bounded per-scenario buffer; the scenario summary
+ * writes the buffer to the file named in its context, or discards it, and is passed on to the
+ * referenced appenders like every untagged event
+ */
+@Plugin(name = "ScenarioBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public class ScenarioBufferAppender extends AbstractAppender {
+
+    private final int maxEvents;
+    private final AppenderRef[] appenderRefs;
+    private final Configuration configuration;
+    private final List<AppenderControl> appenderControls = new ArrayList<>();
+    private final Map<String, ScenarioBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Bounded buffer of one scenario; the oldest events are dropped when it is full
+     */
+    private static final class ScenarioBuffer {
+        private final ArrayDeque<LogEvent> events = new ArrayDeque<>();
+        private int dropped;
+    }
+
+    private ScenarioBufferAppender(String name, Filter filter, Layout<? extends Serializable> layout,
+                                   int maxEvents, AppenderRef[] appenderRefs, Configuration configuration) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+        this.maxEvents = maxEvents;
+        this.appenderRefs = appenderRefs;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Create the appender from its configuration element
+     * @param name appender name
+     * @param maxEvents maximum number of buffered events per scenario
+     * @param layout layout of the scenario log files
+     * @param appenderRefs appenders receiving untagged events and scenario summaries
+     * @param filter optional filter
+     * @param configuration current configuration
+     * @return appender instance
+     */
+    @PluginFactory
+    public static ScenarioBufferAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "maxEvents", defaultInt = 10000) int maxEvents,
+            @PluginElement("Layout") Layout<? extends Serializable> layout,
+            @PluginElement("AppenderRef") AppenderRef[] appenderRefs,
+            @PluginElement("Filter") Filter filter,
+            @PluginConfiguration Configuration configuration) {
+        if (name == null) {
+            LOGGER.error("No name provided for ScenarioBufferAppender");
+            return null;
+        }
+        if (layout == null) {
+            layout = PatternLayout.createDefaultLayout(configuration);
+        }
+        return new ScenarioBufferAppender(name, filter, layout, Math.max(maxEvents, 1),
+            appenderRefs != null ? appenderRefs : new AppenderRef[0], configuration);
+    }
+
+    @Override
+    public void start() {
+        for (AppenderRef ref : appenderRefs) {
+            Appender appender = configuration.getAppender(ref.getRef());
+            if (appender != null) {
+                appenderControls.add(new AppenderControl(appender, ref.getLevel(), ref.getFilter()));
+            } else {
+                LOGGER.error("Appender {} referenced by {} not found", ref.getRef(), getName());
+            }
+        }
+        super.start();
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        String scenarioId = event.getContextData().getValue(ScenarioLog.SCENARIO_ID_KEY);
+        if (scenarioId == null) {
+            forward(event);
+        } else if (event.getMarker() != null && event.getMarker().isInstanceOf(ScenarioLog.SCENARIO_END)) {
+            ScenarioBuffer buffer = buffers.remove(scenarioId);
+            String logFile = event.getContextData().getValue(ScenarioLog.LOG_FILE_KEY);
+            if (logFile != null) {
+                write(buffer != null ? buffer : new ScenarioBuffer(), event, logFile);
+            }
+            forward(event);
+        } else {
+            ScenarioBuffer buffer = buffers.computeIfAbsent(scenarioId, id -> new ScenarioBuffer());
+            synchronized (buffer) {
+                if (buffer.events.size() == maxEvents) {
+                    buffer.events.removeFirst();
+                    buffer.dropped++;
+                }
+                // Async loggers reuse their events, so keep a snapshot
+                buffer.events.addLast(event.toImmutable());
+            }
+        }
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        buffers.clear();
+        return super.stop(timeout, timeUnit);
+    }
+
+    private void forward(LogEvent event) {
+        for (AppenderControl control : appenderControls) {
+            control.callAppender(event);
+        }
+    }
+
+    private void write(ScenarioBuffer buffer, LogEvent summary, String logFile) {
+        Layout<? extends Serializable> layout = getLayout();
+        try (OutputStream out = Files.newOutputStream(Paths.get(logFile))) {
+            synchronized (buffer) {
+                if (buffer.dropped > 0) {
+                    out.write(("[" + buffer.dropped + " earlier events dropped, buffer holds " + maxEvents + "]"
+                        + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                }
+                for (LogEvent event : buffer.events) {
+                    out.write(layout.toByteArray(event));
+                }
+            }
+            out.write(layout.toByteArray(summary));
+        } catch (IOException e) {
+            error("Failed to write scenario log " + logFile, summary, e);
+        }
+    }
+}
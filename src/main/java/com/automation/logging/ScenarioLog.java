@@ -0,0 +1,83 @@
+package com.automation.logging;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility class for tagging log events with the scenario running on the current thread
+ * Tagged events are held back by ScenarioBufferAppender and only written to a per-scenario
+ * file when the scenario fails, or for every scenario when scenario.log.write.passed is set
+ */
+public class ScenarioLog {
+    private static final Logger logger = LogManager.getLogger(ScenarioLog.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    /** Thread context key holding the scenario id */
+    public static final String SCENARIO_ID_KEY = "scenarioId";
+
+    /** Thread context key holding the file the buffered events are written to */
+    public static final String LOG_FILE_KEY = "scenarioLogFile";
+
+    /** Marker of the one-line summary that ends a scenario */
+    public static final Marker SCENARIO_END = MarkerManager.getMarker("SCENARIO_END");
+
+    private static final ThreadLocal<Long> startTime = new ThreadLocal<>();
+    // Keeps ids of scenarios with the same name started in the same second apart, e.g. parallel outline rows
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    /**
+     * Start tagging log events of the current thread with a scenario
+     * @param scenarioName scenario name
+     */
+    public static void start(String scenarioName) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        ThreadContext.put(SCENARIO_ID_KEY, scenarioName.replaceAll("[^a-zA-Z0-9-_]", "_") + "_" + timestamp
+            + "_" + sequence.incrementAndGet());
+        startTime.set(System.nanoTime());
+    }
+
+    /**
+     * Log the scenario summary, which writes or discards its buffered events, and stop tagging
+     * @param scenarioName scenario name
+     * @param failed true if the scenario failed
+     * @return path of the scenario log file, or null if the buffered events were discarded
+     */
+    public static String finish(String scenarioName, boolean failed) {
+        String scenarioId = ThreadContext.get(SCENARIO_ID_KEY);
+        Long started = startTime.get();
+        startTime.remove();
+        if (scenarioId == null) {
+            return null;
+        }
+        long elapsedMillis = started != null ? (System.nanoTime() - started) / 1_000_000 : 0;
+
+        String logFile = null;
+        if (failed || config.getBooleanProperty("scenario.log.write.passed", false)) {
+            try {
+                Path directory = Paths.get(config.getProperty("scenario.log.path", "logs/scenarios/"));
+                Files.createDirectories(directory);
+                logFile = directory.resolve(scenarioId + ".log").toString();
+                ThreadContext.put(LOG_FILE_KEY, logFile);
+            } catch (Exception e) {
+                logger.error("Failed to create scenario log directory: {}", e.getMessage());
+            }
+        }
+
+        logger.info(SCENARIO_END, "Scenario '{}' {} in {} ms{}", scenarioName, failed ? "failed" : "passed",
+            elapsedMillis, logFile != null ? ", log: " + logFile : "");
+        ThreadContext.remove(LOG_FILE_KEY);
+        ThreadContext.remove(SCENARIO_ID_KEY);
+        return logFile;
+    }
+}
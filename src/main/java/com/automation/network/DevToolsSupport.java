@@ -0,0 +1,95 @@
+package com.automation.network;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Utility class for sharing one Chrome DevTools Protocol session per driver
+ * Commands and events are built from raw CDP method names so they do not depend on
+ * the browser-version specific devtools packages bundled with Selenium
+ */
+public class DevToolsSupport {
+    private static final Logger logger = LogManager.getLogger(DevToolsSupport.class);
+    private static final Map<WebDriver, DevTools> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Check if the driver exposes Chrome DevTools Protocol
+     * @param driver WebDriver instance
+     * @return true if CDP is available
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /**
+     * Get DevTools with an open session for the driver, creating it on first use
+     * @param driver WebDriver instance
+     * @return DevTools instance
+     */
+    public static DevTools getDevTools(WebDriver driver) {
+        synchronized (sessions) {
+            DevTools devTools = sessions.get(driver);
+            if (devTools == null) {
+                devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                sessions.put(driver, devTools);
+                logger.debug("Created DevTools session for driver");
+            }
+            return devTools;
+        }
+    }
+
+    /**
+     * Close the DevTools session of the driver, if any
+     * @param driver WebDriver instance
+     */
+    public static void close(WebDriver driver) {
+        DevTools devTools = sessions.remove(driver);
+        if (devTools != null) {
+            try {
+                devTools.close();
+            } catch (Exception e) {
+                logger.debug("Error closing DevTools session: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Build a CDP command from its method name
+     * @param method CDP method, e.g. "Fetch.enable"
+     * @param params command parameters
+     * @return command
+     */
+    public static Command<Void> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params);
+    }
+
+    /**
+     * Build a CDP command whose result is read as a generic map
+     * @param method CDP method, e.g. "Network.getResponseBody"
+     * @param params command parameters
+     * @return command
+     */
+    public static Command<Map<String, Object>> query(String method, Map<String, Object> params) {
+        return new Command<>(method, params, input -> input.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Build a CDP event whose parameters are read as a generic map
+     * @param method CDP event, e.g. "Network.loadingFinished"
+     * @return event
+     */
+    public static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
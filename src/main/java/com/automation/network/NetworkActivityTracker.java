@@ -0,0 +1,209 @@
+package com.automation.network;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks in-flight browser requests from CDP Network events, one tracker per driver
+ * Waiting for network idle blocks on a condition that is signalled by the events themselves,
+ * so it returns as soon as the page is quiescent instead of polling the browser. A page that has been
+ * quiet for the quiet period returns at once. Arming the tracker before a click or navigation makes the next
+ * wait expect a request from that action, so it does not report idle before the action reached the network.
+ */
+public class NetworkActivityTracker {
+    private static final Logger logger = LogManager.getLogger(NetworkActivityTracker.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<WebDriver, NetworkActivityTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> inflightRequests = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition activityChanged = lock.newCondition();
+    private boolean seenActivity;
+    private long lastActivityNanos;
+    private long requestSequence;
+    private boolean armed;
+    private long armedSequence;
+    private long armedAtNanos;
+
+    private NetworkActivityTracker() {
+    }
+
+    /**
+     * Check if network idle tracking is enabled in configuration
+     * @return true if network.idle.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("network.idle.enabled", false);
+    }
+
+    /**
+     * Start tracking network activity for a driver
+     * @param driver WebDriver instance
+     * @return tracker, or null if the browser does not support CDP
+     */
+    public static NetworkActivityTracker attach(WebDriver driver) {
+        if (!DevToolsSupport.isSupported(driver)) {
+            logger.debug("Browser does not support DevTools - network idle tracking not available");
+            return null;
+        }
+        synchronized (trackers) {
+            NetworkActivityTracker tracker = trackers.get(driver);
+            if (tracker == null) {
+                tracker = new NetworkActivityTracker();
+                tracker.listen(DevToolsSupport.getDevTools(driver));
+                trackers.put(driver, tracker);
+                logger.debug("Network activity tracking started");
+            }
+            return tracker;
+        }
+    }
+
+    /**
+     * Get the tracker attached to a driver
+     * @param driver WebDriver instance
+     * @return tracker, or null if none is attached
+     */
+    public static NetworkActivityTracker get(WebDriver driver) {
+        return driver != null ? trackers.get(driver) : null;
+    }
+
+    /**
+     * Stop tracking network activity for a driver
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        trackers.remove(driver);
+    }
+
+    /**
+     * Expect the next wait to follow an action that may send requests, e.g. a click about to be performed
+     * Until the first request after this call the network does not count as idle, for at most network.idle.start.ms
+     */
+    public void arm() {
+        lock.lock();
+        try {
+            armed = true;
+            armedSequence = requestSequence;
+            armedAtNanos = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until no more than maxInflight requests are pending and the network has been quiet for quietTime
+     * If armed and the action has not sent a request yet, waits up to network.idle.start.ms for one first
+     * @param quietTime required quiet period
+     * @param maxInflight maximum number of requests allowed to stay open (e.g. long polling)
+     * @param timeout maximum time to wait
+     */
+    public void waitForIdle(Duration quietTime, int maxInflight, Duration timeout) {
+        long quietNanos = quietTime.toNanos();
+        long startNanos = TimeUnit.MILLISECONDS.toNanos(config.getIntProperty("network.idle.start.ms", 250));
+        long deadline = System.nanoTime() + timeout.toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long waitNanos;
+                if (armed && requestSequence == armedSequence) {
+                    // The action has not reached the network yet; if it does not within the start window it never will
+                    long armedFor = now - armedAtNanos;
+                    if (armedFor >= startNanos) {
+                        armed = false;
+                        continue;
+                    }
+                    waitNanos = startNanos - armedFor;
+                } else if (inflightRequests.size() <= maxInflight) {
+                    long quietFor = now - lastActivityNanos;
+                    if (!seenActivity || quietFor >= quietNanos) {
+                        armed = false;
+                        return;
+                    }
+                    waitNanos = quietNanos - quietFor;
+                } else {
+                    waitNanos = deadline - now;
+                }
+                if (now >= deadline) {
+                    throw new TimeoutException("Network not idle within " + timeout.toMillis() + " ms ("
+                        + inflightRequests.size() + " requests in flight)");
+                }
+                activityChanged.awaitNanos(Math.min(waitNanos, deadline - now));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for network idle", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forget requests still in flight, e.g. ones aborted when a reused driver left the previous scenario's page
+     */
+    public void reset() {
+        lock.lock();
+        try {
+            inflightRequests.clear();
+            armed = false;
+            activityChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get number of requests currently in flight
+     * @return in-flight request count
+     */
+    public int getInflightCount() {
+        lock.lock();
+        try {
+            return inflightRequests.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void listen(DevTools devTools) {
+        devTools.addListener(DevToolsSupport.event("Network.requestWillBeSent"),
+            params -> onActivity((String) params.get("requestId"), true));
+        devTools.addListener(DevToolsSupport.event("Network.loadingFinished"),
+            params -> onActivity((String) params.get("requestId"), false));
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"),
+            params -> onActivity((String) params.get("requestId"), false));
+        devTools.send(DevToolsSupport.command("Network.enable", Collections.emptyMap()));
+    }
+
+    private void onActivity(String requestId, boolean started) {
+        lock.lock();
+        try {
+            if (started) {
+                inflightRequests.add(requestId);
+                requestSequence++;
+            } else {
+                inflightRequests.remove(requestId);
+            }
+            seenActivity = true;
+            lastActivityNanos = System.nanoTime();
+            activityChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.automation.network;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks configurable resource types and URL patterns in the browser through the CDP Fetch domain
+ * Requests matching the policy are failed before they leave the browser; scenarios can allow-list
+ * resource types or URLs they explicitly need. Blocked requests are counted per resource type;
+ * a blocked request never reports its size, so no bytes saved figure is claimed.
+ */
+public class NetworkPolicy {
+    private static final Logger logger = LogManager.getLogger(NetworkPolicy.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private final DevTools devTools;
+    private final Set<String> blockedResourceTypes;
+    private final List<Pattern> blockedUrlPatterns;
+    private final Set<String> allowedResourceTypes = ConcurrentHashMap.newKeySet();
+    private final List<Pattern> allowedUrlPatterns = new CopyOnWriteArrayList<>();
+    private final Map<String, String> responseUrls = new ConcurrentHashMap<>();
+    private final AtomicInteger blockedRequests = new AtomicInteger();
+    private final Map<String, AtomicInteger> blockedByResourceType = new ConcurrentHashMap<>();
+    private final AtomicLong bytesTransferred = new AtomicLong();
+
+    private NetworkPolicy(DevTools devTools, Set<String> blockedResourceTypes, List<String> blockedUrlPatterns) {
+        this.devTools = devTools;
+        this.blockedResourceTypes = blockedResourceTypes;
+        this.blockedUrlPatterns = new ArrayList<>();
+        for (String pattern : blockedUrlPatterns) {
+            this.blockedUrlPatterns.add(toRegex(pattern));
+        }
+    }
+
+    /**
+     * Check if request blocking is enabled in configuration
+     * @return true if network.policy.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("network.policy.enabled", false);
+    }
+
+    /**
+     * Apply the configured policy to a driver
+     * @param driver WebDriver instance
+     * @return applied policy, or null if the browser does not support CDP
+     */
+    public static NetworkPolicy apply(WebDriver driver) {
+        if (!DevToolsSupport.isSupported(driver)) {
+            logger.debug("Browser does not support DevTools - network policy not applied");
+            return null;
+        }
+        Set<String> resourceTypes = new LinkedHashSet<>(splitProperty("network.block.resource.types"));
+        List<String> urlPatterns = splitProperty("network.block.url.patterns");
+
+        NetworkPolicy policy = new NetworkPolicy(DevToolsSupport.getDevTools(driver), resourceTypes, urlPatterns);
+        policy.enable(urlPatterns);
+        logger.info("Network policy applied - blocked resource types: {}, blocked URL patterns: {}", resourceTypes, urlPatterns);
+        return policy;
+    }
+
+    /**
+     * Allow resource types for the rest of the scenario
+     * @param resourceTypes CDP resource types, e.g. "Image", "Font"
+     * @return true if any of the types was blocked before
+     */
+    public boolean allowResourceTypes(String... resourceTypes) {
+        boolean changed = false;
+        for (String resourceType : resourceTypes) {
+            if (blockedResourceTypes.contains(resourceType) && allowedResourceTypes.add(resourceType)) {
+                changed = true;
+            }
+        }
+        if (changed) {
+            logger.info("Network policy now allows resource types: {}", allowedResourceTypes);
+        }
+        return changed;
+    }
+
+    /**
+     * Allow URL patterns for the rest of the scenario
+     * @param urlPatterns URL patterns with * wildcards
+     */
+    public void allowUrlPatterns(String... urlPatterns) {
+        for (String urlPattern : urlPatterns) {
+            allowedUrlPatterns.add(toRegex(urlPattern));
+        }
+        logger.info("Network policy now allows URL patterns: {}", Arrays.asList(urlPatterns));
+    }
+
+    /**
+     * Get number of requests blocked by this policy
+     * @return blocked request count
+     */
+    public int getBlockedRequestCount() {
+        return blockedRequests.get();
+    }
+
+    /**
+     * Get number of requests blocked per CDP resource type
+     * @return resource type to blocked request count
+     */
+    public Map<String, Integer> getBlockedRequestCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        blockedByResourceType.forEach((resourceType, count) -> counts.put(resourceType, count.get()));
+        return counts;
+    }
+
+    /**
+     * Get bytes transferred for requests that were allowed
+     * @return transferred bytes
+     */
+    public long getBytesTransferred() {
+        return bytesTransferred.get();
+    }
+
+    /**
+     * Get one-line summary for reports
+     * @return summary text
+     */
+    public String getSummary() {
+        return "blocked " + blockedRequests.get() + " requests " + getBlockedRequestCounts() + ", "
+            + bytesTransferred.get() / 1024 + " KB transferred";
+    }
+
+    /**
+     * Restore the configured policy and zero the counters, e.g. at the start of a scenario on a reused driver
+     */
+    public void reset() {
+        allowedResourceTypes.clear();
+        allowedUrlPatterns.clear();
+        responseUrls.clear();
+        blockedRequests.set(0);
+        blockedByResourceType.clear();
+        bytesTransferred.set(0);
+    }
+
+    private void enable(List<String> urlPatterns) {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String resourceType : blockedResourceTypes) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", "*");
+            pattern.put("resourceType", resourceType);
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+        for (String urlPattern : urlPatterns) {
+            Map<String, Object> pattern = new HashMap<>();
+            pattern.put("urlPattern", urlPattern);
+            pattern.put("requestStage", "Request");
+            patterns.add(pattern);
+        }
+
+        devTools.addListener(DevToolsSupport.event("Fetch.requestPaused"), this::onRequestPaused);
+        devTools.addListener(DevToolsSupport.event("Network.responseReceived"), this::onResponseReceived);
+        devTools.addListener(DevToolsSupport.event("Network.loadingFinished"), this::onLoadingFinished);
+        devTools.send(DevToolsSupport.command("Network.enable", Collections.emptyMap()));
+        if (!patterns.isEmpty()) {
+            devTools.send(DevToolsSupport.command("Fetch.enable", Map.of("patterns", patterns)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestPaused(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        String url = request != null ? (String) request.get("url") : "";
+        String resourceType = (String) params.get("resourceType");
+
+        try {
+            if (isBlocked(url, resourceType)) {
+                devTools.send(DevToolsSupport.command("Fetch.failRequest",
+                    Map.of("requestId", requestId, "errorReason", "BlockedByClient")));
+                blockedRequests.incrementAndGet();
+                blockedByResourceType.computeIfAbsent(resourceType != null ? resourceType : "Other",
+                    key -> new AtomicInteger()).incrementAndGet();
+                logger.trace("Blocked {} request: {}", resourceType, url);
+            } else {
+                devTools.send(DevToolsSupport.command("Fetch.continueRequest", Map.of("requestId", requestId)));
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to resolve paused request {}: {}", url, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponseReceived(Map<String, Object> params) {
+        Map<String, Object> response = (Map<String, Object>) params.get("response");
+        if (response != null) {
+            responseUrls.put((String) params.get("requestId"), (String) response.get("url"));
+        }
+    }
+
+    private void onLoadingFinished(Map<String, Object> params) {
+        String url = responseUrls.remove((String) params.get("requestId"));
+        Number encodedDataLength = (Number) params.get("encodedDataLength");
+        if (url != null && encodedDataLength != null) {
+            bytesTransferred.addAndGet(encodedDataLength.longValue());
+        }
+    }
+
+    private boolean isBlocked(String url, String resourceType) {
+        for (Pattern allowed : allowedUrlPatterns) {
+            if (allowed.matcher(url).matches()) {
+                return false;
+            }
+        }
+        if (resourceType != null && blockedResourceTypes.contains(resourceType)
+            && !allowedResourceTypes.contains(resourceType)) {
+            return true;
+        }
+        for (Pattern blocked : blockedUrlPatterns) {
+            if (blocked.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Pattern toRegex(String globPattern) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : globPattern.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static List<String> splitProperty(String key) {
+        List<String> values = new ArrayList<>();
+        for (String value : config.getProperty(key, "").split(",")) {
+            if (!value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+}
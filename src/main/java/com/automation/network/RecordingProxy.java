@@ -0,0 +1,450 @@
+package com.automation.network;
+
+import com.automation.config.ConfigManager;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local record-and-replay server for application HTTP traffic
+ * In record mode requests are forwarded with their headers and cookies to the real base.url, and responses are
+ * appended with their end-to-end headers to an on-disk archive whose index grows with every response;
+ * in replay mode they are served from a memory-mapped copy of that archive without touching the network.
+ * The server mirrors the application on localhost (base.url is rewritten to point at it) and is also
+ * registered as the browser proxy, so requests to any other host are answered locally or refused.
+ */
+public class RecordingProxy {
+    private static final Logger logger = LogManager.getLogger(RecordingProxy.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final String DATA_FILE = "archive.bin";
+    private static final String INDEX_FILE = "archive.idx";
+    private static final Json json = new Json();
+    // Connection-level headers (RFC 9110 section 7.6.1) that a proxy must not forward or archive
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate",
+        "proxy-authorization", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade");
+    // Set by the HTTP client or server itself from the actual connection and body
+    private static final Set<String> TRANSPORT_HEADERS = Set.of("host", "content-length", "expect");
+    private static RecordingProxy instance;
+
+    /**
+     * Recording modes supported by the proxy
+     */
+    public enum Mode {
+        OFF, RECORD, REPLAY;
+
+        static Mode fromProperty(String value) {
+            if (value == null || value.isBlank()) {
+                return OFF;
+            }
+            try {
+                return Mode.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown network recording mode: {}. Recording disabled.", value);
+                return OFF;
+            }
+        }
+    }
+
+    /**
+     * Location of one archived response inside the data file
+     */
+    private static final class ArchivedResponse {
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final long offset;
+        private final int length;
+
+        private ArchivedResponse(int status, Map<String, List<String>> headers, long offset, int length) {
+            this.status = status;
+            this.headers = headers;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private final Mode mode;
+    private final Path archiveDirectory;
+    private final URI upstreamBaseUrl;
+    private final String upstreamOrigin;
+    private final Map<String, ArchivedResponse> archive = new ConcurrentHashMap<>();
+    private final AtomicInteger hitCount = new AtomicInteger();
+    private final AtomicInteger missCount = new AtomicInteger();
+    private final AtomicInteger recordedCount = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClient httpClient;
+    private FileChannel dataChannel;
+    private BufferedWriter indexWriter;
+    private MappedByteBuffer mappedData;
+    private String mirrorOrigin;
+    private String mirrorBaseUrl;
+
+    private RecordingProxy() {
+        this.mode = Mode.fromProperty(config.getProperty("network.recording.mode", "off"));
+        this.archiveDirectory = Paths.get(config.getProperty("network.recording.path", "recordings/"));
+        this.upstreamBaseUrl = URI.create(config.getBaseUrl());
+        this.upstreamOrigin = upstreamBaseUrl.getScheme() + "://" + upstreamBaseUrl.getRawAuthority();
+    }
+
+    /**
+     * Get singleton instance of RecordingProxy
+     * @return RecordingProxy instance
+     */
+    public static synchronized RecordingProxy getInstance() {
+        if (instance == null) {
+            instance = new RecordingProxy();
+        }
+        return instance;
+    }
+
+    /**
+     * Check if record or replay mode is configured
+     * @return true if the proxy should be used
+     */
+    public static boolean isEnabled() {
+        return Mode.fromProperty(config.getProperty("network.recording.mode", "off")) != Mode.OFF;
+    }
+
+    /**
+     * Start the local server if it is not running yet and point base.url at it
+     */
+    public synchronized void start() {
+        if (server != null || mode == Mode.OFF) {
+            return;
+        }
+        try {
+            if (mode == Mode.REPLAY) {
+                loadArchive();
+            } else {
+                openArchiveForRecording();
+            }
+
+            int port = config.getIntProperty("network.recording.port", 0);
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            executor = Executors.newCachedThreadPool();
+            server.setExecutor(executor);
+            server.createContext("/", this::handle);
+            server.start();
+
+            mirrorOrigin = "http://localhost:" + server.getAddress().getPort();
+            mirrorBaseUrl = mirrorOrigin + upstreamBaseUrl.getRawPath();
+            config.setProperty("base.url", mirrorBaseUrl);
+            Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "recording-proxy-shutdown"));
+            logger.info("Recording proxy started in {} mode on {} (upstream: {})", mode, getProxyAddress(), upstreamBaseUrl);
+        } catch (IOException e) {
+            logger.error("Failed to start recording proxy: {}", e.getMessage());
+            throw new IllegalStateException("Failed to start recording proxy", e);
+        }
+    }
+
+    /**
+     * Stop the local server and, in record mode, close the archive
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        try {
+            if (mode == Mode.RECORD) {
+                indexWriter.close();
+                logger.info("Recorded {} responses to {}", archive.size(), archiveDirectory.toAbsolutePath());
+            }
+            if (dataChannel != null) {
+                dataChannel.close();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write recording archive: {}", e.getMessage());
+        }
+        logger.info("Recording proxy stopped - hits: {}, misses: {}, recorded: {}",
+            hitCount.get(), missCount.get(), recordedCount.get());
+    }
+
+    /**
+     * Get proxy address in host:port form for browser proxy capabilities
+     * @return proxy address
+     */
+    public String getProxyAddress() {
+        return "localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Get the application base URL served by the local mirror
+     * @return mirror base URL
+     */
+    public String getMirrorBaseUrl() {
+        return mirrorBaseUrl;
+    }
+
+    /**
+     * Get configured recording mode
+     * @return recording mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                // CONNECT tunnels and state-changing requests are never recorded
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            URI target = resolveTarget(exchange.getRequestURI());
+            String key = target.toString();
+            ArchivedResponse response = archive.get(key);
+            if (response == null && mode == Mode.RECORD) {
+                response = record(key, target, exchange.getRequestHeaders());
+            }
+
+            if (response == null) {
+                missCount.incrementAndGet();
+                logger.debug("No recorded response for {}", key);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            hitCount.incrementAndGet();
+            serve(exchange, response, "HEAD".equals(method));
+        } catch (Exception e) {
+            logger.error("Recording proxy failed to handle {}: {}", exchange.getRequestURI(), e.getMessage());
+            // Once headers are out, a status can no longer be sent; closing the exchange ends the response
+            if (exchange.getResponseCode() == -1) {
+                exchange.sendResponseHeaders(502, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Map a request URI to the upstream URL it stands for
+     * Relative URIs belong to the mirrored application, absolute URIs are proxied third-party requests
+     */
+    private URI resolveTarget(URI requestUri) {
+        if (requestUri.isAbsolute() && !isLoopback(requestUri.getHost())) {
+            return requestUri;
+        }
+        String pathAndQuery = requestUri.getRawPath() + (requestUri.getRawQuery() != null ? "?" + requestUri.getRawQuery() : "");
+        return URI.create(upstreamOrigin + pathAndQuery);
+    }
+
+    private boolean isLoopback(String host) {
+        return host == null || "localhost".equals(host) || "127.0.0.1".equals(host);
+    }
+
+    private ArchivedResponse record(String key, URI target, Headers requestHeaders) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target)
+            .timeout(Duration.ofSeconds(config.getPageLoadTimeout()))
+            .GET();
+        // Cookies, user agent and accepted encodings reach the application as the browser sent them
+        requestHeaders.forEach((name, values) -> {
+            if (isForwarded(name)) {
+                for (String value : values) {
+                    request.header(name, value.replace(mirrorOrigin, upstreamOrigin));
+                }
+            }
+        });
+        HttpResponse<byte[]> upstream = httpClient().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+        byte[] body = upstream.body();
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        upstream.headers().map().forEach((name, values) -> {
+            if (isForwarded(name)) {
+                headers.put(name, archivedValues(name, values));
+            }
+        });
+
+        ArchivedResponse response;
+        synchronized (this) {
+            ArchivedResponse existing = archive.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            long offset = dataChannel.size();
+            dataChannel.write(ByteBuffer.wrap(body), offset);
+            response = new ArchivedResponse(upstream.statusCode(), headers, offset, body.length);
+            archive.put(key, response);
+            // Index each response as it is recorded, so an aborted run still leaves a usable archive
+            indexWriter.write(key + "\t" + response.status + "\t" + response.offset + "\t" + response.length + "\t"
+                + json.toJson(headers).replaceAll("\\s*\\n\\s*", " "));
+            indexWriter.newLine();
+            indexWriter.flush();
+        }
+        recordedCount.incrementAndGet();
+        logger.debug("Recorded {} ({} bytes, status {})", key, body.length, upstream.statusCode());
+        return response;
+    }
+
+    /**
+     * Check if a header is end-to-end, i.e. neither connection-level nor derived from the transport
+     */
+    private static boolean isForwarded(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        return !key.startsWith(":") && !HOP_BY_HOP_HEADERS.contains(key) && !TRANSPORT_HEADERS.contains(key);
+    }
+
+    /**
+     * Rewrite response header values that name the upstream host so they work on the mirror
+     */
+    private List<String> archivedValues(String name, List<String> values) {
+        List<String> archived = new ArrayList<>(values.size());
+        for (String value : values) {
+            if ("location".equalsIgnoreCase(name) && value.startsWith(upstreamOrigin)) {
+                value = value.substring(upstreamOrigin.length());
+            } else if ("set-cookie".equalsIgnoreCase(name)) {
+                // A cookie scoped to the upstream domain would be rejected on localhost
+                value = value.replaceAll("(?i);\\s*domain=[^;]*", "");
+            }
+            archived.add(value);
+        }
+        return archived;
+    }
+
+    private void serve(HttpExchange exchange, ArchivedResponse response, boolean headOnly) throws IOException {
+        response.headers.forEach((name, values) -> exchange.getResponseHeaders().put(name, new ArrayList<>(values)));
+        if (headOnly || response.length == 0) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+
+        exchange.sendResponseHeaders(response.status, response.length);
+        ByteBuffer body = readBody(response);
+        OutputStream responseBody = exchange.getResponseBody();
+        WritableByteChannel channel = Channels.newChannel(responseBody);
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+        responseBody.flush();
+    }
+
+    private ByteBuffer readBody(ArchivedResponse response) throws IOException {
+        if (mappedData != null) {
+            // Each request gets its own view so concurrent reads do not share position;
+            // the archive is only mapped when all offsets fit in an int
+            return mappedData.slice(Math.toIntExact(response.offset), response.length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(response.length);
+        while (buffer.hasRemaining()) {
+            if (dataChannel.read(buffer, response.offset + buffer.position()) < 0) {
+                throw new IOException("Recording archive ends before response at offset " + response.offset);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private void openArchiveForRecording() throws IOException {
+        Files.createDirectories(archiveDirectory);
+        dataChannel = FileChannel.open(archiveDirectory.resolve(DATA_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        indexWriter = Files.newBufferedWriter(archiveDirectory.resolve(INDEX_FILE), StandardCharsets.UTF_8);
+        logger.info("Recording application traffic to {}", archiveDirectory.toAbsolutePath());
+    }
+
+    private void loadArchive() throws IOException {
+        Path indexFile = archiveDirectory.resolve(INDEX_FILE);
+        Path dataFile = archiveDirectory.resolve(DATA_FILE);
+        if (!Files.exists(indexFile) || !Files.exists(dataFile)) {
+            throw new IOException("No recording found in " + archiveDirectory.toAbsolutePath()
+                + " - run once with network.recording.mode=record");
+        }
+
+        // One mapping holds at most 2 GB; larger archives are read with positional reads at long offsets
+        FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ);
+        long size = channel.size();
+        if (size <= Integer.MAX_VALUE) {
+            try (channel) {
+                mappedData = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+        } else {
+            dataChannel = channel;
+        }
+
+        List<String> lines = Files.readAllLines(indexFile, StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String[] fields = line.split("\t", -1);
+            if (fields.length == 5) {
+                Map<String, List<String>> headers = new LinkedHashMap<>();
+                Map<String, Object> archived = json.toType(fields[4], Json.MAP_TYPE);
+                archived.forEach((name, values) -> headers.put(name, toStrings((List<?>) values)));
+                archive.put(fields[0], new ArchivedResponse(Integer.parseInt(fields[1]), headers,
+                    Long.parseLong(fields[2]), Integer.parseInt(fields[3])));
+            } else if (fields.length == 6) {
+                // Archives recorded before headers were kept: Content-Type and Location only
+                Map<String, List<String>> headers = new LinkedHashMap<>();
+                if (!fields[2].isEmpty()) {
+                    headers.put("Content-Type", List.of(fields[2]));
+                }
+                if (!fields[3].isEmpty()) {
+                    headers.put("Location", List.of(fields[3]));
+                }
+                archive.put(fields[0], new ArchivedResponse(Integer.parseInt(fields[1]), headers,
+                    Long.parseLong(fields[4]), Integer.parseInt(fields[5])));
+            }
+        }
+        logger.info("Loaded {} recorded responses ({} bytes) from {}", archive.size(), size,
+            archiveDirectory.toAbsolutePath());
+    }
+
+    private static List<String> toStrings(List<?> values) {
+        List<String> strings = new ArrayList<>(values.size());
+        for (Object value : values) {
+            strings.add(String.valueOf(value));
+        }
+        return strings;
+    }
+
+    private synchronized HttpClient httpClient() {
+        if (httpClient == null) {
+            httpClient = HttpClient.newBuilder()
+                .proxy(ProxySelector.getDefault())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(config.getPageLoadTimeout()))
+                .build();
+        }
+        return httpClient;
+    }
+}
@@ -1,6 +1,8 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.base.LocatorTemplate;
+import com.automation.utils.Money;
 import com.automation.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -17,34 +19,34 @@ public class CartPage extends BasePage {
 
     // Page Elements
     @FindBy(className = "title")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     @FindBy(className = "shopping_cart_link")
-    private WebElement cartIcon;
+    WebElement cartIcon;
 
     @FindBy(className = "shopping_cart_badge")
-    private WebElement cartBadge;
+    WebElement cartBadge;
 
     @FindBy(id = "react-burger-menu-btn")
-    private WebElement menuButton;
+    WebElement menuButton;
 
     @FindBy(id = "continue-shopping")
-    private WebElement continueShoppingButton;
+    WebElement continueShoppingButton;
 
     @FindBy(id = "checkout")
-    private WebElement checkoutButton;
+    WebElement checkoutButton;
 
     @FindBy(className = "cart_item")
-    private List<WebElement> cartItems;
+    List<WebElement> cartItems;
 
     @FindBy(className = "inventory_item_name")
-    private List<WebElement> cartItemNames;
+    List<WebElement> cartItemNames;
 
     @FindBy(className = "inventory_item_price")
-    private List<WebElement> cartItemPrices;
+    List<WebElement> cartItemPrices;
 
     @FindBy(className = "inventory_item_desc")
-    private List<WebElement> cartItemDescriptions;
+    List<WebElement> cartItemDescriptions;
 
     // Locators for elements not using @FindBy
     private final By pageTitleLocator = By.className("title");
@@ -58,12 +60,25 @@ public class CartPage extends BasePage {
     private final By cartItemPricesLocator = By.className("inventory_item_price");
     private final By cartItemDescriptionsLocator = By.className("inventory_item_desc");
 
+    // Locator templates for elements of a cart item, resolved by item name or index
+    private static final LocatorTemplate ITEM_REMOVE_BUTTON =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", "button.btn_secondary");
+    private static final LocatorTemplate ITEM_NAME =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", null);
+    private static final LocatorTemplate ITEM_IMAGE =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", "img.inventory_item_img");
+    private static final LocatorTemplate ITEM_PRICE =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", ".inventory_item_price");
+    private static final LocatorTemplate ITEM_DESCRIPTION =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", ".inventory_item_desc");
+
     /**
      * Constructor
      * @param driver WebDriver instance
      */
     public CartPage(WebDriver driver) {
         super(driver);
+        CartPageElements.init(this, driver);
     }
 
     /**
@@ -72,7 +87,7 @@ public class CartPage extends BasePage {
      */
     public String getPageTitle() {
         String title = getText(pageTitleLocator);
-        logger.debug("Page title: " + title);
+        logger.debug("Page title: {}", title);
         return title;
     }
 
@@ -82,7 +97,7 @@ public class CartPage extends BasePage {
      */
     public boolean isPageTitleDisplayed() {
         boolean displayed = isElementDisplayed(pageTitleLocator);
-        logger.debug("Page title displayed: " + displayed);
+        logger.debug("Page title displayed: {}", displayed);
         return displayed;
     }
 
@@ -100,7 +115,7 @@ public class CartPage extends BasePage {
      */
     public boolean isCartIconDisplayed() {
         boolean displayed = isElementDisplayed(cartIconLocator);
-        logger.debug("Cart icon displayed: " + displayed);
+        logger.debug("Cart icon displayed: {}", displayed);
         return displayed;
     }
 
@@ -112,7 +127,7 @@ public class CartPage extends BasePage {
         try {
             String badgeText = getText(cartBadgeLocator);
             int count = Integer.parseInt(badgeText);
-            logger.debug("Cart badge count: " + count);
+            logger.debug("Cart badge count: {}", count);
             return count;
         } catch (Exception e) {
             logger.debug("Cart badge not found or empty");
@@ -126,7 +141,7 @@ public class CartPage extends BasePage {
      */
     public boolean isCartBadgeDisplayed() {
         boolean displayed = isElementDisplayed(cartBadgeLocator);
-        logger.debug("Cart badge displayed: " + displayed);
+        logger.debug("Cart badge displayed: {}", displayed);
         return displayed;
     }
 
@@ -144,7 +159,7 @@ public class CartPage extends BasePage {
      */
     public boolean isMenuButtonDisplayed() {
         boolean displayed = isElementDisplayed(menuButtonLocator);
-        logger.debug("Menu button displayed: " + displayed);
+        logger.debug("Menu button displayed: {}", displayed);
         return displayed;
     }
 
@@ -162,7 +177,7 @@ public class CartPage extends BasePage {
      */
     public boolean isContinueShoppingButtonDisplayed() {
         boolean displayed = isElementDisplayed(continueShoppingButtonLocator);
-        logger.debug("Continue shopping button displayed: " + displayed);
+        logger.debug("Continue shopping button displayed: {}", displayed);
         return displayed;
     }
 
@@ -180,7 +195,7 @@ public class CartPage extends BasePage {
      */
     public boolean isCheckoutButtonDisplayed() {
         boolean displayed = isElementDisplayed(checkoutButtonLocator);
-        logger.debug("Checkout button displayed: " + displayed);
+        logger.debug("Checkout button displayed: {}", displayed);
         return displayed;
     }
 
@@ -190,7 +205,7 @@ public class CartPage extends BasePage {
      */
     public boolean isCheckoutButtonEnabled() {
         boolean enabled = isElementEnabled(checkoutButtonLocator);
-        logger.debug("Checkout button enabled: " + enabled);
+        logger.debug("Checkout button enabled: {}", enabled);
         return enabled;
     }
 
@@ -201,7 +216,7 @@ public class CartPage extends BasePage {
     public int getCartItemCount() {
         List<WebElement> items = findElements(cartItemsLocator);
         int count = items.size();
-        logger.debug("Cart item count: " + count);
+        logger.debug("Cart item count: {}", count);
         return count;
     }
 
@@ -214,7 +229,7 @@ public class CartPage extends BasePage {
         List<String> names = nameElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Cart item names: " + names);
+        logger.debug("Cart item names: {}", names);
         return names;
     }
 
@@ -227,7 +242,7 @@ public class CartPage extends BasePage {
         List<String> prices = priceElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Cart item prices: " + prices);
+        logger.debug("Cart item prices: {}", prices);
         return prices;
     }
 
@@ -240,7 +255,7 @@ public class CartPage extends BasePage {
         List<String> descriptions = descElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Cart item descriptions: " + descriptions);
+        logger.debug("Cart item descriptions: {}", descriptions);
         return descriptions;
     }
 
@@ -249,9 +264,9 @@ public class CartPage extends BasePage {
      * @param itemName name of the item to remove
      */
     public void removeItemFromCart(String itemName) {
-        By removeButtonLocator = By.xpath("//div[contains(@class, 'cart_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + itemName + "']]//button[contains(@class, 'btn_secondary')]");
+        By removeButtonLocator = ITEM_REMOVE_BUTTON.byName(itemName);
         click(removeButtonLocator);
-        logger.info("Removed item from cart: " + itemName);
+        logger.info("Removed item from cart: {}", itemName);
     }
 
     /**
@@ -259,9 +274,9 @@ public class CartPage extends BasePage {
      * @param index index of the item (0-based)
      */
     public void removeItemFromCartByIndex(int index) {
-        By removeButtonLocator = By.xpath("(//div[contains(@class, 'cart_item')]//button[contains(@class, 'btn_secondary')])[" + (index + 1) + "]");
+        By removeButtonLocator = ITEM_REMOVE_BUTTON.byIndex(index);
         click(removeButtonLocator);
-        logger.info("Removed item from cart at index: " + index);
+        logger.info("Removed item from cart at index: {}", index);
     }
 
     /**
@@ -269,9 +284,9 @@ public class CartPage extends BasePage {
      * @param itemName name of the item to click
      */
     public void clickItemName(String itemName) {
-        By itemNameLocator = By.xpath("//div[contains(@class, 'inventory_item_name') and text()='" + itemName + "']");
+        By itemNameLocator = ITEM_NAME.byName(itemName);
         click(itemNameLocator);
-        logger.info("Clicked on item name: " + itemName);
+        logger.info("Clicked on item name: {}", itemName);
     }
 
     /**
@@ -279,9 +294,9 @@ public class CartPage extends BasePage {
      * @param index index of the item (0-based)
      */
     public void clickItemNameByIndex(int index) {
-        By itemNameLocator = By.xpath("(//div[contains(@class, 'inventory_item_name')])[" + (index + 1) + "]");
+        By itemNameLocator = ITEM_NAME.byIndex(index);
         click(itemNameLocator);
-        logger.info("Clicked on item name at index: " + index);
+        logger.info("Clicked on item name at index: {}", index);
     }
 
     /**
@@ -289,9 +304,9 @@ public class CartPage extends BasePage {
      * @param itemName name of the item
      */
     public void clickItemImage(String itemName) {
-        By itemImageLocator = By.xpath("//div[contains(@class, 'cart_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + itemName + "']]//img[contains(@class, 'inventory_item_img')]");
+        By itemImageLocator = ITEM_IMAGE.byName(itemName);
         click(itemImageLocator);
-        logger.info("Clicked on item image: " + itemName);
+        logger.info("Clicked on item image: {}", itemName);
     }
 
     /**
@@ -299,9 +314,9 @@ public class CartPage extends BasePage {
      * @param index index of the item (0-based)
      */
     public void clickItemImageByIndex(int index) {
-        By itemImageLocator = By.xpath("(//img[contains(@class, 'inventory_item_img')])[" + (index + 1) + "]");
+        By itemImageLocator = ITEM_IMAGE.byIndex(index);
         click(itemImageLocator);
-        logger.info("Clicked on item image at index: " + index);
+        logger.info("Clicked on item image at index: {}", index);
     }
 
     /**
@@ -310,9 +325,9 @@ public class CartPage extends BasePage {
      * @return remove button text
      */
     public String getRemoveButtonText(String itemName) {
-        By removeButtonLocator = By.xpath("//div[contains(@class, 'cart_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + itemName + "']]//button[contains(@class, 'btn_secondary')]");
+        By removeButtonLocator = ITEM_REMOVE_BUTTON.byName(itemName);
         String buttonText = getText(removeButtonLocator);
-        logger.debug("Remove button text for " + itemName + ": " + buttonText);
+        logger.debug("Remove button text for {}: {}", itemName, buttonText);
         return buttonText;
     }
 
@@ -322,9 +337,9 @@ public class CartPage extends BasePage {
      * @return remove button text
      */
     public String getRemoveButtonTextByIndex(int index) {
-        By removeButtonLocator = By.xpath("(//div[contains(@class, 'cart_item')]//button[contains(@class, 'btn_secondary')])[" + (index + 1) + "]");
+        By removeButtonLocator = ITEM_REMOVE_BUTTON.byIndex(index);
         String buttonText = getText(removeButtonLocator);
-        logger.debug("Remove button text for item at index " + index + ": " + buttonText);
+        logger.debug("Remove button text for item at index {}: {}", index, buttonText);
         return buttonText;
     }
 
@@ -336,7 +351,7 @@ public class CartPage extends BasePage {
     public boolean isItemInCart(String itemName) {
         List<String> cartItemNames = getAllCartItemNames();
         boolean inCart = cartItemNames.contains(itemName);
-        logger.debug("Item " + itemName + " in cart: " + inCart);
+        logger.debug("Item {} in cart: {}", itemName, inCart);
         return inCart;
     }
 
@@ -346,9 +361,9 @@ public class CartPage extends BasePage {
      * @return item price
      */
     public String getItemPrice(String itemName) {
-        By itemPriceLocator = By.xpath("//div[contains(@class, 'cart_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + itemName + "']]//div[contains(@class, 'inventory_item_price')]");
+        By itemPriceLocator = ITEM_PRICE.byName(itemName);
         String price = getText(itemPriceLocator);
-        logger.debug("Item price for " + itemName + ": " + price);
+        logger.debug("Item price for {}: {}", itemName, price);
         return price;
     }
 
@@ -358,9 +373,9 @@ public class CartPage extends BasePage {
      * @return item price
      */
     public String getItemPriceByIndex(int index) {
-        By itemPriceLocator = By.xpath("(//div[contains(@class, 'inventory_item_price')])[" + (index + 1) + "]");
+        By itemPriceLocator = ITEM_PRICE.byIndex(index);
         String price = getText(itemPriceLocator);
-        logger.debug("Item price at index " + index + ": " + price);
+        logger.debug("Item price at index {}: {}", index, price);
         return price;
     }
 
@@ -370,9 +385,9 @@ public class CartPage extends BasePage {
      * @return item description
      */
     public String getItemDescription(String itemName) {
-        By itemDescLocator = By.xpath("//div[contains(@class, 'cart_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + itemName + "']]//div[contains(@class, 'inventory_item_desc')]");
+        By itemDescLocator = ITEM_DESCRIPTION.byName(itemName);
         String description = getText(itemDescLocator);
-        logger.debug("Item description for " + itemName + ": " + description);
+        logger.debug("Item description for {}: {}", itemName, description);
         return description;
     }
 
@@ -382,9 +397,9 @@ public class CartPage extends BasePage {
      * @return item description
      */
     public String getItemDescriptionByIndex(int index) {
-        By itemDescLocator = By.xpath("(//div[contains(@class, 'inventory_item_desc')])[" + (index + 1) + "]");
+        By itemDescLocator = ITEM_DESCRIPTION.byIndex(index);
         String description = getText(itemDescLocator);
-        logger.debug("Item description at index " + index + ": " + description);
+        logger.debug("Item description at index {}: {}", index, description);
         return description;
     }
 
@@ -392,15 +407,9 @@ public class CartPage extends BasePage {
      * Calculate total price of all items in cart
      * @return total price
      */
-    public double getTotalPrice() {
-        List<String> prices = getAllCartItemPrices();
-        double total = 0.0;
-        for (String price : prices) {
-            // Remove $ sign and convert to double
-            String cleanPrice = price.replace("$", "");
-            total += Double.parseDouble(cleanPrice);
-        }
-        logger.debug("Total price: $" + total);
+    public Money getTotalPrice() {
+        Money total = Money.sum(getAllCartItemPrices());
+        logger.debug("Total price: {}", total);
         return total;
     }
 
@@ -426,7 +435,7 @@ public class CartPage extends BasePage {
         boolean checkoutButton = isCheckoutButtonDisplayed();
 
         boolean allElementsPresent = pageTitle && cartIcon && menuButton && continueShoppingButton && checkoutButton;
-        logger.info("Cart page elements verification: " + allElementsPresent);
+        logger.info("Cart page elements verification: {}", allElementsPresent);
         return allElementsPresent;
     }
 
@@ -437,7 +446,7 @@ public class CartPage extends BasePage {
     public boolean isCartEmpty() {
         int itemCount = getCartItemCount();
         boolean empty = itemCount == 0;
-        logger.debug("Cart empty: " + empty);
+        logger.debug("Cart empty: {}", empty);
         return empty;
     }
 
@@ -460,7 +469,7 @@ public class CartPage extends BasePage {
     public boolean isCartPageDisplayed() {
         boolean displayed = isElementDisplayed(pageTitleLocator) && 
                            isElementDisplayed(continueShoppingButtonLocator);
-        logger.debug("Cart page displayed: " + displayed);
+        logger.debug("Cart page displayed: {}", displayed);
         return displayed;
     }
 
@@ -470,7 +479,7 @@ public class CartPage extends BasePage {
      */
     public String getCartTitle() {
         String title = getText(pageTitleLocator);
-        logger.debug("Cart title: " + title);
+        logger.debug("Cart title: {}", title);
         return title;
     }
 
@@ -483,10 +492,10 @@ public class CartPage extends BasePage {
         List<WebElement> nameElements = findElements(cartItemNamesLocator);
         if (index >= 0 && index < nameElements.size()) {
             String name = nameElements.get(index).getText();
-            logger.debug("Cart item name at index " + index + ": " + name);
+            logger.debug("Cart item name at index {}: {}", index, name);
             return name;
         }
-        logger.warn("Invalid index for cart item name: " + index);
+        logger.warn("Invalid index for cart item name: {}", index);
         return null;
     }
 
@@ -499,10 +508,10 @@ public class CartPage extends BasePage {
         List<WebElement> priceElements = findElements(cartItemPricesLocator);
         if (index >= 0 && index < priceElements.size()) {
             String price = priceElements.get(index).getText();
-            logger.debug("Cart item price at index " + index + ": " + price);
+            logger.debug("Cart item price at index {}: {}", index, price);
             return price;
         }
-        logger.warn("Invalid index for cart item price: " + index);
+        logger.warn("Invalid index for cart item price: {}", index);
         return null;
     }
 
@@ -512,13 +521,13 @@ public class CartPage extends BasePage {
      * @return button text
      */
     public String getCartItemButtonTextByIndex(int index) {
-        By buttonLocator = By.xpath("(//button[contains(@class, 'btn_secondary')])[" + (index + 1) + "]");
+        By buttonLocator = ITEM_REMOVE_BUTTON.byIndex(index);
         try {
             String buttonText = getText(buttonLocator);
-            logger.debug("Cart item button text at index " + index + ": " + buttonText);
+            logger.debug("Cart item button text at index {}: {}", index, buttonText);
             return buttonText;
         } catch (Exception e) {
-            logger.warn("Could not get button text for cart item at index: " + index);
+            logger.warn("Could not get button text for cart item at index: {}", index);
             return null;
         }
     }
@@ -1,8 +1,11 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.utils.CheckoutSummary;
+import com.automation.utils.Money;
 import com.automation.utils.WaitUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -17,70 +20,70 @@ public class CheckoutPage extends BasePage {
 
     // Page Elements
     @FindBy(className = "title")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     @FindBy(className = "shopping_cart_link")
-    private WebElement cartIcon;
+    WebElement cartIcon;
 
     @FindBy(className = "shopping_cart_badge")
-    private WebElement cartBadge;
+    WebElement cartBadge;
 
     @FindBy(id = "react-burger-menu-btn")
-    private WebElement menuButton;
+    WebElement menuButton;
 
     @FindBy(id = "cancel")
-    private WebElement cancelButton;
+    WebElement cancelButton;
 
     @FindBy(id = "continue")
-    private WebElement continueButton;
+    WebElement continueButton;
 
     @FindBy(id = "finish")
-    private WebElement finishButton;
+    WebElement finishButton;
 
     @FindBy(id = "back-to-products")
-    private WebElement backToProductsButton;
+    WebElement backToProductsButton;
 
     // Checkout Information Form Elements
     @FindBy(id = "first-name")
-    private WebElement firstNameField;
+    WebElement firstNameField;
 
     @FindBy(id = "last-name")
-    private WebElement lastNameField;
+    WebElement lastNameField;
 
     @FindBy(id = "postal-code")
-    private WebElement postalCodeField;
+    WebElement postalCodeField;
 
     @FindBy(css = "h3[data-test='error']")
-    private WebElement errorMessage;
+    WebElement errorMessage;
 
     // Checkout Overview Elements
     @FindBy(className = "cart_item")
-    private List<WebElement> checkoutItems;
+    List<WebElement> checkoutItems;
 
     @FindBy(className = "inventory_item_name")
-    private List<WebElement> checkoutItemNames;
+    List<WebElement> checkoutItemNames;
 
     @FindBy(className = "inventory_item_price")
-    private List<WebElement> checkoutItemPrices;
+    List<WebElement> checkoutItemPrices;
 
     @FindBy(className = "summary_subtotal_label")
-    private WebElement subtotalLabel;
+    WebElement subtotalLabel;
 
     @FindBy(className = "summary_tax_label")
-    private WebElement taxLabel;
+    WebElement taxLabel;
 
     @FindBy(className = "summary_total_label")
-    private WebElement totalLabel;
+    WebElement totalLabel;
 
     // Checkout Complete Elements
     @FindBy(className = "complete-header")
-    private WebElement completeHeader;
+    WebElement completeHeader;
 
     @FindBy(className = "complete-text")
-    private WebElement completeText;
+    WebElement completeText;
 
     @FindBy(className = "pony_express")
-    private WebElement ponyExpressImage;
+    WebElement ponyExpressImage;
 
     // Locators for elements not using @FindBy
     private final By pageTitleLocator = By.className("title");
@@ -105,12 +108,20 @@ public class CheckoutPage extends BasePage {
     private final By completeTextLocator = By.className("complete-text");
     private final By ponyExpressImageLocator = By.className("pony_express");
 
+    // Reads item prices and the three summary labels of the overview in one round trip
+    private static final String SUMMARY_SCRIPT =
+        "function text(selector) { var el = document.querySelector(selector); return el ? el.textContent : null; }"
+        + "var prices = [];"
+        + "document.querySelectorAll('.cart_item .inventory_item_price').forEach(function(el) { prices.push(el.textContent); });"
+        + "return [prices, text('.summary_subtotal_label'), text('.summary_tax_label'), text('.summary_total_label')];";
+
     /**
      * Constructor
      * @param driver WebDriver instance
      */
     public CheckoutPage(WebDriver driver) {
         super(driver);
+        CheckoutPageElements.init(this, driver);
     }
 
     /**
@@ -119,7 +130,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getPageTitle() {
         String title = getText(pageTitleLocator);
-        logger.debug("Page title: " + title);
+        logger.debug("Page title: {}", title);
         return title;
     }
 
@@ -129,7 +140,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isPageTitleDisplayed() {
         boolean displayed = isElementDisplayed(pageTitleLocator);
-        logger.debug("Page title displayed: " + displayed);
+        logger.debug("Page title displayed: {}", displayed);
         return displayed;
     }
 
@@ -147,7 +158,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isCartIconDisplayed() {
         boolean displayed = isElementDisplayed(cartIconLocator);
-        logger.debug("Cart icon displayed: " + displayed);
+        logger.debug("Cart icon displayed: {}", displayed);
         return displayed;
     }
 
@@ -159,7 +170,7 @@ public class CheckoutPage extends BasePage {
         try {
             String badgeText = getText(cartBadgeLocator);
             int count = Integer.parseInt(badgeText);
-            logger.debug("Cart badge count: " + count);
+            logger.debug("Cart badge count: {}", count);
             return count;
         } catch (Exception e) {
             logger.debug("Cart badge not found or empty");
@@ -173,7 +184,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isCartBadgeDisplayed() {
         boolean displayed = isElementDisplayed(cartBadgeLocator);
-        logger.debug("Cart badge displayed: " + displayed);
+        logger.debug("Cart badge displayed: {}", displayed);
         return displayed;
     }
 
@@ -191,7 +202,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isMenuButtonDisplayed() {
         boolean displayed = isElementDisplayed(menuButtonLocator);
-        logger.debug("Menu button displayed: " + displayed);
+        logger.debug("Menu button displayed: {}", displayed);
         return displayed;
     }
 
@@ -209,7 +220,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isCancelButtonDisplayed() {
         boolean displayed = isElementDisplayed(cancelButtonLocator);
-        logger.debug("Cancel button displayed: " + displayed);
+        logger.debug("Cancel button displayed: {}", displayed);
         return displayed;
     }
 
@@ -227,7 +238,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isContinueButtonDisplayed() {
         boolean displayed = isElementDisplayed(continueButtonLocator);
-        logger.debug("Continue button displayed: " + displayed);
+        logger.debug("Continue button displayed: {}", displayed);
         return displayed;
     }
 
@@ -237,7 +248,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isContinueButtonEnabled() {
         boolean enabled = isElementEnabled(continueButtonLocator);
-        logger.debug("Continue button enabled: " + enabled);
+        logger.debug("Continue button enabled: {}", enabled);
         return enabled;
     }
 
@@ -255,7 +266,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isFinishButtonDisplayed() {
         boolean displayed = isElementDisplayed(finishButtonLocator);
-        logger.debug("Finish button displayed: " + displayed);
+        logger.debug("Finish button displayed: {}", displayed);
         return displayed;
     }
 
@@ -265,7 +276,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isFinishButtonEnabled() {
         boolean enabled = isElementEnabled(finishButtonLocator);
-        logger.debug("Finish button enabled: " + enabled);
+        logger.debug("Finish button enabled: {}", enabled);
         return enabled;
     }
 
@@ -283,7 +294,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isBackToProductsButtonDisplayed() {
         boolean displayed = isElementDisplayed(backToProductsButtonLocator);
-        logger.debug("Back to products button displayed: " + displayed);
+        logger.debug("Back to products button displayed: {}", displayed);
         return displayed;
     }
 
@@ -295,7 +306,7 @@ public class CheckoutPage extends BasePage {
      */
     public void enterFirstName(String firstName) {
         type(firstNameFieldLocator, firstName);
-        logger.info("Entered first name: " + firstName);
+        logger.info("Entered first name: {}", firstName);
     }
 
     /**
@@ -304,7 +315,7 @@ public class CheckoutPage extends BasePage {
      */
     public void enterLastName(String lastName) {
         type(lastNameFieldLocator, lastName);
-        logger.info("Entered last name: " + lastName);
+        logger.info("Entered last name: {}", lastName);
     }
 
     /**
@@ -313,7 +324,7 @@ public class CheckoutPage extends BasePage {
      */
     public void enterPostalCode(String postalCode) {
         type(postalCodeFieldLocator, postalCode);
-        logger.info("Entered postal code: " + postalCode);
+        logger.info("Entered postal code: {}", postalCode);
     }
 
     /**
@@ -323,9 +334,11 @@ public class CheckoutPage extends BasePage {
      * @param postalCode postal code
      */
     public void fillCheckoutInformation(String firstName, String lastName, String postalCode) {
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterPostalCode(postalCode);
+        batch()
+            .type(firstNameFieldLocator, firstName)
+            .type(lastNameFieldLocator, lastName)
+            .type(postalCodeFieldLocator, postalCode)
+            .perform();
         logger.info("Filled checkout information form");
     }
 
@@ -335,7 +348,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getFirstName() {
         String firstName = getAttribute(firstNameFieldLocator, "value");
-        logger.debug("First name: " + firstName);
+        logger.debug("First name: {}", firstName);
         return firstName;
     }
 
@@ -345,7 +358,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getLastName() {
         String lastName = getAttribute(lastNameFieldLocator, "value");
-        logger.debug("Last name: " + lastName);
+        logger.debug("Last name: {}", lastName);
         return lastName;
     }
 
@@ -355,7 +368,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getPostalCode() {
         String postalCode = getAttribute(postalCodeFieldLocator, "value");
-        logger.debug("Postal code: " + postalCode);
+        logger.debug("Postal code: {}", postalCode);
         return postalCode;
     }
 
@@ -365,7 +378,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isFirstNameFieldDisplayed() {
         boolean displayed = isElementDisplayed(firstNameFieldLocator);
-        logger.debug("First name field displayed: " + displayed);
+        logger.debug("First name field displayed: {}", displayed);
         return displayed;
     }
 
@@ -375,7 +388,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isLastNameFieldDisplayed() {
         boolean displayed = isElementDisplayed(lastNameFieldLocator);
-        logger.debug("Last name field displayed: " + displayed);
+        logger.debug("Last name field displayed: {}", displayed);
         return displayed;
     }
 
@@ -385,7 +398,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isPostalCodeFieldDisplayed() {
         boolean displayed = isElementDisplayed(postalCodeFieldLocator);
-        logger.debug("Postal code field displayed: " + displayed);
+        logger.debug("Postal code field displayed: {}", displayed);
         return displayed;
     }
 
@@ -395,7 +408,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getErrorMessage() {
         String errorText = getText(errorMessageLocator);
-        logger.info("Error message: " + errorText);
+        logger.info("Error message: {}", errorText);
         return errorText;
     }
 
@@ -405,7 +418,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isErrorMessageDisplayed() {
         boolean displayed = isElementDisplayed(errorMessageLocator);
-        logger.debug("Error message displayed: " + displayed);
+        logger.debug("Error message displayed: {}", displayed);
         return displayed;
     }
 
@@ -418,7 +431,7 @@ public class CheckoutPage extends BasePage {
     public int getCheckoutItemCount() {
         List<WebElement> items = findElements(checkoutItemsLocator);
         int count = items.size();
-        logger.debug("Checkout item count: " + count);
+        logger.debug("Checkout item count: {}", count);
         return count;
     }
 
@@ -431,7 +444,7 @@ public class CheckoutPage extends BasePage {
         List<String> names = nameElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Checkout item names: " + names);
+        logger.debug("Checkout item names: {}", names);
         return names;
     }
 
@@ -444,7 +457,7 @@ public class CheckoutPage extends BasePage {
         List<String> prices = priceElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Checkout item prices: " + prices);
+        logger.debug("Checkout item prices: {}", prices);
         return prices;
     }
 
@@ -454,7 +467,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getSubtotalText() {
         String subtotal = getText(subtotalLabelLocator);
-        logger.debug("Subtotal: " + subtotal);
+        logger.debug("Subtotal: {}", subtotal);
         return subtotal;
     }
 
@@ -464,7 +477,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getTaxText() {
         String tax = getText(taxLabelLocator);
-        logger.debug("Tax: " + tax);
+        logger.debug("Tax: {}", tax);
         return tax;
     }
 
@@ -474,46 +487,63 @@ public class CheckoutPage extends BasePage {
      */
     public String getTotalText() {
         String total = getText(totalLabelLocator);
-        logger.debug("Total: " + total);
+        logger.debug("Total: {}", total);
         return total;
     }
 
     /**
      * Extract subtotal amount
-     * @return subtotal amount as double
+     * @return subtotal amount
      */
-    public double getSubtotalAmount() {
-        String subtotalText = getSubtotalText();
-        String amount = subtotalText.replace("Item total: $", "");
-        double subtotal = Double.parseDouble(amount);
-        logger.debug("Subtotal amount: $" + subtotal);
+    public Money getSubtotalAmount() {
+        Money subtotal = Money.parse(getSubtotalText());
+        logger.debug("Subtotal amount: {}", subtotal);
         return subtotal;
     }
 
     /**
      * Extract tax amount
-     * @return tax amount as double
+     * @return tax amount
      */
-    public double getTaxAmount() {
-        String taxText = getTaxText();
-        String amount = taxText.replace("Tax: $", "");
-        double tax = Double.parseDouble(amount);
-        logger.debug("Tax amount: $" + tax);
+    public Money getTaxAmount() {
+        Money tax = Money.parse(getTaxText());
+        logger.debug("Tax amount: {}", tax);
         return tax;
     }
 
     /**
      * Extract total amount
-     * @return total amount as double
+     * @return total amount
      */
-    public double getTotalAmount() {
-        String totalText = getTotalText();
-        String amount = totalText.replace("Total: $", "");
-        double total = Double.parseDouble(amount);
-        logger.debug("Total amount: $" + total);
+    public Money getTotalAmount() {
+        Money total = Money.parse(getTotalText());
+        logger.debug("Total amount: {}", total);
         return total;
     }
 
+    /**
+     * Read item prices and summary totals of the checkout overview from one snapshot
+     * @return checkout summary
+     */
+    @SuppressWarnings("unchecked")
+    public CheckoutSummary getCheckoutSummary() {
+        CheckoutSummary summary = null;
+        if (driver instanceof JavascriptExecutor) {
+            Object result = ((JavascriptExecutor) driver).executeScript(SUMMARY_SCRIPT);
+            List<Object> texts = result instanceof List ? (List<Object>) result : List.of();
+            if (texts.size() == 4 && texts.get(0) instanceof List && texts.get(1) != null
+                    && texts.get(2) != null && texts.get(3) != null) {
+                summary = CheckoutSummary.parse((List<String>) texts.get(0),
+                    (String) texts.get(1), (String) texts.get(2), (String) texts.get(3));
+            }
+        }
+        if (summary == null) {
+            summary = CheckoutSummary.parse(getAllCheckoutItemPrices(), getSubtotalText(), getTaxText(), getTotalText());
+        }
+        logger.debug("Checkout summary: {}", summary);
+        return summary;
+    }
+
     // Checkout Complete Methods
 
     /**
@@ -522,7 +552,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getCompleteHeader() {
         String header = getText(completeHeaderLocator);
-        logger.debug("Complete header: " + header);
+        logger.debug("Complete header: {}", header);
         return header;
     }
 
@@ -532,7 +562,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getCompleteText() {
         String text = getText(completeTextLocator);
-        logger.debug("Complete text: " + text);
+        logger.debug("Complete text: {}", text);
         return text;
     }
 
@@ -542,7 +572,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isCompleteHeaderDisplayed() {
         boolean displayed = isElementDisplayed(completeHeaderLocator);
-        logger.debug("Complete header displayed: " + displayed);
+        logger.debug("Complete header displayed: {}", displayed);
         return displayed;
     }
 
@@ -552,7 +582,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isCompleteTextDisplayed() {
         boolean displayed = isElementDisplayed(completeTextLocator);
-        logger.debug("Complete text displayed: " + displayed);
+        logger.debug("Complete text displayed: {}", displayed);
         return displayed;
     }
 
@@ -562,7 +592,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isPonyExpressImageDisplayed() {
         boolean displayed = isElementDisplayed(ponyExpressImageLocator);
-        logger.debug("Pony express image displayed: " + displayed);
+        logger.debug("Pony express image displayed: {}", displayed);
         return displayed;
     }
 
@@ -572,7 +602,7 @@ public class CheckoutPage extends BasePage {
      */
     public boolean isCheckoutComplete() {
         boolean complete = isCompleteHeaderDisplayed() && isCompleteTextDisplayed() && isPonyExpressImageDisplayed();
-        logger.debug("Checkout complete: " + complete);
+        logger.debug("Checkout complete: {}", complete);
         return complete;
     }
 
@@ -635,7 +665,7 @@ public class CheckoutPage extends BasePage {
 
         boolean allElementsPresent = pageTitle && cartIcon && menuButton && firstNameField && 
                                    lastNameField && postalCodeField && continueButton && cancelButton;
-        logger.info("Checkout information page elements verification: " + allElementsPresent);
+        logger.info("Checkout information page elements verification: {}", allElementsPresent);
         return allElementsPresent;
     }
 
@@ -656,7 +686,7 @@ public class CheckoutPage extends BasePage {
 
         boolean allElementsPresent = pageTitle && cartIcon && menuButton && subtotalLabel && 
                                    taxLabel && totalLabel && finishButton && cancelButton && checkoutItems;
-        logger.info("Checkout overview page elements verification: " + allElementsPresent);
+        logger.info("Checkout overview page elements verification: {}", allElementsPresent);
         return allElementsPresent;
     }
 
@@ -671,7 +701,7 @@ public class CheckoutPage extends BasePage {
         boolean backToProductsButton = isBackToProductsButtonDisplayed();
 
         boolean allElementsPresent = completeHeader && completeText && ponyExpressImage && backToProductsButton;
-        logger.info("Checkout complete page elements verification: " + allElementsPresent);
+        logger.info("Checkout complete page elements verification: {}", allElementsPresent);
         return allElementsPresent;
     }
 
@@ -683,7 +713,7 @@ public class CheckoutPage extends BasePage {
         boolean displayed = isElementDisplayed(firstNameFieldLocator) && 
                            isElementDisplayed(lastNameFieldLocator) && 
                            isElementDisplayed(postalCodeFieldLocator);
-        logger.debug("Checkout information page displayed: " + displayed);
+        logger.debug("Checkout information page displayed: {}", displayed);
         return displayed;
     }
 
@@ -695,7 +725,7 @@ public class CheckoutPage extends BasePage {
         boolean displayed = isElementDisplayed(subtotalLabelLocator) && 
                            isElementDisplayed(taxLabelLocator) && 
                            isElementDisplayed(totalLabelLocator);
-        logger.debug("Checkout overview page displayed: " + displayed);
+        logger.debug("Checkout overview page displayed: {}", displayed);
         return displayed;
     }
 
@@ -706,7 +736,7 @@ public class CheckoutPage extends BasePage {
     public boolean isOrderConfirmationPageDisplayed() {
         boolean displayed = isElementDisplayed(completeHeaderLocator) && 
                            isElementDisplayed(completeTextLocator);
-        logger.debug("Order confirmation page displayed: " + displayed);
+        logger.debug("Order confirmation page displayed: {}", displayed);
         return displayed;
     }
 
@@ -716,7 +746,7 @@ public class CheckoutPage extends BasePage {
      */
     public String getOrderConfirmationMessage() {
         String message = getText(completeHeaderLocator);
-        logger.debug("Order confirmation message: " + message);
+        logger.debug("Order confirmation message: {}", message);
         return message;
     }
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.automation.pages;
 
 import com.automation.base.BasePage;
+import com.automation.base.LocatorTemplate;
+import com.automation.network.NetworkActivityTracker;
 import com.automation.utils.WaitUtils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -19,31 +21,31 @@ public class InventoryPage extends BasePage {
 
     // Page Elements
     @FindBy(className = "title")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     @FindBy(className = "shopping_cart_link")
-    private WebElement cartIcon;
+    WebElement cartIcon;
 
     @FindBy(className = "shopping_cart_badge")
-    private WebElement cartBadge;
+    WebElement cartBadge;
 
     @FindBy(id = "react-burger-menu-btn")
-    private WebElement menuButton;
+    WebElement menuButton;
 
     @FindBy(className = "product_sort_container")
-    private WebElement sortDropdown;
+    WebElement sortDropdown;
 
     @FindBy(className = "inventory_item")
-    private List<WebElement> inventoryItems;
+    List<WebElement> inventoryItems;
 
     @FindBy(className = "inventory_item_name")
-    private List<WebElement> productNames;
+    List<WebElement> productNames;
 
     @FindBy(className = "inventory_item_price")
-    private List<WebElement> productPrices;
+    List<WebElement> productPrices;
 
     @FindBy(className = "inventory_item_desc")
-    private List<WebElement> productDescriptions;
+    List<WebElement> productDescriptions;
 
     // Locators for elements not using @FindBy
     private final By pageTitleLocator = By.className("title");
@@ -56,12 +58,21 @@ public class InventoryPage extends BasePage {
     private final By productPricesLocator = By.className("inventory_item_price");
     private final By productDescriptionsLocator = By.className("inventory_item_desc");
 
+    // Locator templates for elements of a product card, resolved by product name or index
+    private static final LocatorTemplate PRODUCT_BUTTON =
+        LocatorTemplate.within(".inventory_item", ".inventory_item_name", "button.btn_inventory");
+    private static final LocatorTemplate PRODUCT_NAME =
+        LocatorTemplate.within(".inventory_item", ".inventory_item_name", null);
+    private static final LocatorTemplate PRODUCT_IMAGE =
+        LocatorTemplate.within(".inventory_item", ".inventory_item_name", "img.inventory_item_img");
+
     /**
      * Constructor
      * @param driver WebDriver instance
      */
     public InventoryPage(WebDriver driver) {
         super(driver);
+        InventoryPageElements.init(this, driver);
     }
 
     /**
@@ -70,7 +81,7 @@ public class InventoryPage extends BasePage {
      */
     public String getPageTitle() {
         String title = driver.getTitle();
-        logger.debug("Page title: " + title);
+        logger.debug("Page title: {}", title);
         return title;
     }
 
@@ -81,7 +92,7 @@ public class InventoryPage extends BasePage {
     public boolean isPageTitleDisplayed() {
         String title = driver.getTitle();
         boolean isCorrect = "Swag Labs".equals(title);
-        logger.debug("Page title: " + title + ", is correct: " + isCorrect);
+        logger.debug("Page title: {}, is correct: {}", title, isCorrect);
         return isCorrect;
     }
 
@@ -99,7 +110,7 @@ public class InventoryPage extends BasePage {
      */
     public boolean isCartIconDisplayed() {
         boolean displayed = isElementDisplayed(cartIconLocator);
-        logger.debug("Cart icon displayed: " + displayed);
+        logger.debug("Cart icon displayed: {}", displayed);
         return displayed;
     }
 
@@ -111,7 +122,7 @@ public class InventoryPage extends BasePage {
         try {
             String badgeText = getText(cartBadgeLocator);
             int count = Integer.parseInt(badgeText);
-            logger.debug("Cart badge count: " + count);
+            logger.debug("Cart badge count: {}", count);
             return count;
         } catch (Exception e) {
             logger.debug("Cart badge not found or empty - cart is empty");
@@ -125,7 +136,7 @@ public class InventoryPage extends BasePage {
      */
     public boolean isCartBadgeDisplayed() {
         boolean displayed = isElementDisplayed(cartBadgeLocator);
-        logger.debug("Cart badge displayed: " + displayed);
+        logger.debug("Cart badge displayed: {}", displayed);
         return displayed;
     }
 
@@ -143,7 +154,7 @@ public class InventoryPage extends BasePage {
      */
     public boolean isMenuButtonDisplayed() {
         boolean displayed = isElementDisplayed(menuButtonLocator);
-        logger.debug("Menu button displayed: " + displayed);
+        logger.debug("Menu button displayed: {}", displayed);
         return displayed;
     }
 
@@ -153,7 +164,7 @@ public class InventoryPage extends BasePage {
      */
     public void selectSortOption(String sortOption) {
         selectByVisibleText(sortDropdownLocator, sortOption);
-        logger.info("Selected sort option: " + sortOption);
+        logger.info("Selected sort option: {}", sortOption);
     }
 
     /**
@@ -162,7 +173,7 @@ public class InventoryPage extends BasePage {
      */
     public String getCurrentSortOption() {
         String currentOption = getText(sortDropdownLocator);
-        logger.debug("Current sort option: " + currentOption);
+        logger.debug("Current sort option: {}", currentOption);
         return currentOption;
     }
 
@@ -173,7 +184,7 @@ public class InventoryPage extends BasePage {
     public int getInventoryItemCount() {
         List<WebElement> items = findElements(inventoryItemsLocator);
         int count = items.size();
-        logger.debug("Inventory item count: " + count);
+        logger.debug("Inventory item count: {}", count);
         return count;
     }
 
@@ -186,7 +197,7 @@ public class InventoryPage extends BasePage {
         List<String> names = nameElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Product names: " + names);
+        logger.debug("Product names: {}", names);
         return names;
     }
 
@@ -199,7 +210,7 @@ public class InventoryPage extends BasePage {
         List<String> prices = priceElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Product prices: " + prices);
+        logger.debug("Product prices: {}", prices);
         return prices;
     }
 
@@ -212,7 +223,7 @@ public class InventoryPage extends BasePage {
         List<String> descriptions = descElements.stream()
             .map(WebElement::getText)
             .toList();
-        logger.debug("Product descriptions: " + descriptions);
+        logger.debug("Product descriptions: {}", descriptions);
         return descriptions;
     }
 
@@ -221,9 +232,9 @@ public class InventoryPage extends BasePage {
      * @param productName name of the product to add
      */
     public void addProductToCart(String productName) {
-        By addToCartButtonLocator = By.xpath("//div[contains(@class, 'inventory_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + productName + "']]//button[contains(@class, 'btn_inventory')]");
+        By addToCartButtonLocator = PRODUCT_BUTTON.byName(productName);
         click(addToCartButtonLocator);
-        logger.info("Added product to cart: " + productName);
+        logger.info("Added product to cart: {}", productName);
     }
 
     /**
@@ -231,7 +242,7 @@ public class InventoryPage extends BasePage {
      * @param index index of the product (0-based)
      */
     public void addProductToCartByIndex(int index) {
-        By addToCartButtonLocator = By.xpath("(//button[contains(@class, 'btn_inventory')])[" + (index + 1) + "]");
+        By addToCartButtonLocator = PRODUCT_BUTTON.byIndex(index);
         
         // Get initial button text
         String initialButtonText = getProductButtonTextByIndex(index);
@@ -251,7 +262,7 @@ public class InventoryPage extends BasePage {
             logger.debug("Button text after JavaScript click: '{}'", finalButtonText);
         }
         
-        logger.info("Added product to cart at index: " + index);
+        logger.info("Added product to cart at index: {}", index);
     }
 
     /**
@@ -259,9 +270,9 @@ public class InventoryPage extends BasePage {
      * @param productName name of the product to remove
      */
     public void removeProductFromCart(String productName) {
-        By removeFromCartButtonLocator = By.xpath("//div[contains(@class, 'inventory_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + productName + "']]//button[contains(@class, 'btn_inventory')]");
+        By removeFromCartButtonLocator = PRODUCT_BUTTON.byName(productName);
         click(removeFromCartButtonLocator);
-        logger.info("Removed product from cart: " + productName);
+        logger.info("Removed product from cart: {}", productName);
     }
 
     /**
@@ -269,7 +280,7 @@ public class InventoryPage extends BasePage {
      * @param index index of the product (0-based)
      */
     public void removeProductFromCartByIndex(int index) {
-        By removeFromCartButtonLocator = By.xpath("(//button[contains(@class, 'btn_inventory')])[" + (index + 1) + "]");
+        By removeFromCartButtonLocator = PRODUCT_BUTTON.byIndex(index);
         
         // Get initial button text
         String initialButtonText = getProductButtonTextByIndex(index);
@@ -289,7 +300,7 @@ public class InventoryPage extends BasePage {
             logger.debug("Button text after JavaScript remove click: '{}'", finalButtonText);
         }
         
-        logger.info("Removed product from cart at index: " + index);
+        logger.info("Removed product from cart at index: {}", index);
     }
 
     /**
@@ -297,9 +308,9 @@ public class InventoryPage extends BasePage {
      * @param productName name of the product to click
      */
     public void clickProductName(String productName) {
-        By productNameLocator = By.xpath("//div[contains(@class, 'inventory_item_name') and text()='" + productName + "']");
+        By productNameLocator = PRODUCT_NAME.byName(productName);
         click(productNameLocator);
-        logger.info("Clicked on product name: " + productName);
+        logger.info("Clicked on product name: {}", productName);
     }
 
     /**
@@ -307,9 +318,9 @@ public class InventoryPage extends BasePage {
      * @param index index of the product (0-based)
      */
     public void clickProductNameByIndex(int index) {
-        By productNameLocator = By.xpath("(//div[contains(@class, 'inventory_item_name')])[" + (index + 1) + "]");
+        By productNameLocator = PRODUCT_NAME.byIndex(index);
         click(productNameLocator);
-        logger.info("Clicked on product name at index: " + index);
+        logger.info("Clicked on product name at index: {}", index);
     }
 
     /**
@@ -317,9 +328,9 @@ public class InventoryPage extends BasePage {
      * @param productName name of the product
      */
     public void clickProductImage(String productName) {
-        By productImageLocator = By.xpath("//div[contains(@class, 'inventory_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + productName + "']]//img[contains(@class, 'inventory_item_img')]");
+        By productImageLocator = PRODUCT_IMAGE.byName(productName);
         click(productImageLocator);
-        logger.info("Clicked on product image: " + productName);
+        logger.info("Clicked on product image: {}", productName);
     }
 
     /**
@@ -327,9 +338,9 @@ public class InventoryPage extends BasePage {
      * @param index index of the product (0-based)
      */
     public void clickProductImageByIndex(int index) {
-        By productImageLocator = By.xpath("(//img[contains(@class, 'inventory_item_img')])[" + (index + 1) + "]");
+        By productImageLocator = PRODUCT_IMAGE.byIndex(index);
         click(productImageLocator);
-        logger.info("Clicked on product image at index: " + index);
+        logger.info("Clicked on product image at index: {}", index);
     }
 
     /**
@@ -338,9 +349,9 @@ public class InventoryPage extends BasePage {
      * @return button text (Add to cart / Remove)
      */
     public String getProductButtonText(String productName) {
-        By buttonLocator = By.xpath("//div[contains(@class, 'inventory_item') and .//div[contains(@class, 'inventory_item_name') and text()='" + productName + "']]//button[contains(@class, 'btn_inventory')]");
+        By buttonLocator = PRODUCT_BUTTON.byName(productName);
         String buttonText = getText(buttonLocator);
-        logger.debug("Button text for " + productName + ": " + buttonText);
+        logger.debug("Button text for {}: {}", productName, buttonText);
         return buttonText;
     }
 
@@ -350,9 +361,9 @@ public class InventoryPage extends BasePage {
      * @return button text (Add to cart / Remove)
      */
     public String getProductButtonTextByIndex(int index) {
-        By buttonLocator = By.xpath("(//button[contains(@class, 'btn_inventory')])[" + (index + 1) + "]");
+        By buttonLocator = PRODUCT_BUTTON.byIndex(index);
         String buttonText = getText(buttonLocator);
-        logger.debug("Button text for product at index " + index + ": " + buttonText);
+        logger.debug("Button text for product at index {}: {}", index, buttonText);
         return buttonText;
     }
 
@@ -364,7 +375,7 @@ public class InventoryPage extends BasePage {
     public boolean isProductInCart(String productName) {
         String buttonText = getProductButtonText(productName);
         boolean inCart = "Remove".equals(buttonText);
-        logger.debug("Product " + productName + " in cart: " + inCart);
+        logger.debug("Product {} in cart: {}", productName, inCart);
         return inCart;
     }
 
@@ -376,7 +387,7 @@ public class InventoryPage extends BasePage {
     public boolean isProductInCartByIndex(int index) {
         String buttonText = getProductButtonTextByIndex(index);
         boolean inCart = "REMOVE".equalsIgnoreCase(buttonText);
-        logger.debug("Product at index " + index + " in cart: " + inCart + " (button text: " + buttonText + ")");
+        logger.debug("Product at index {} in cart: {} (button text: {})", index, inCart, buttonText);
         return inCart;
     }
 
@@ -385,14 +396,25 @@ public class InventoryPage extends BasePage {
      */
     public void waitForInventoryPageToLoad() {
         waitForPageLoad();
-        // Wait for page title to be correct (HTML title element)
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        wait.until(driver -> "Swag Labs".equals(driver.getTitle()));
-        WaitUtils.waitForElementVisible(driver, cartIconLocator);
+        // Once the network is idle the page has rendered; without tracking fall back to stepwise checks
+        if (NetworkActivityTracker.get(driver) == null) {
+            // Wait for page title to be correct (HTML title element)
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+            wait.until(driver -> "Swag Labs".equals(driver.getTitle()));
+            WaitUtils.waitForElementVisible(driver, cartIconLocator);
+        }
         WaitUtils.waitForElementVisible(driver, sortDropdownLocator);
         logger.info("Inventory page loaded successfully");
     }
 
+    /**
+     * Wait until the inventory page is shown, without waiting for the network to become idle
+     */
+    public void waitForInventoryPageShown() {
+        WaitUtils.waitForUrlContains(driver, "inventory.html");
+        WaitUtils.waitForElementVisible(driver, sortDropdownLocator);
+    }
+
     /**
      * Verify inventory page elements are displayed
      * @return true if all inventory page elements are displayed
@@ -405,7 +427,7 @@ public class InventoryPage extends BasePage {
         boolean inventoryItems = getInventoryItemCount() > 0;
 
         boolean allElementsPresent = pageTitle && cartIcon && menuButton && sortDropdown && inventoryItems;
-        logger.info("Inventory page elements verification: " + allElementsPresent);
+        logger.info("Inventory page elements verification: {}", allElementsPresent);
         return allElementsPresent;
     }
 
@@ -460,15 +482,10 @@ public class InventoryPage extends BasePage {
             boolean hasInventoryItems = getInventoryItemCount() > 0;
             
             boolean displayed = correctUrl && hasCartIcon && hasMenuButton && hasSortDropdown && hasInventoryItems;
-            logger.debug("Inventory page displayed: " + displayed + 
-                        " (URL: " + correctUrl + 
-                        ", Cart: " + hasCartIcon + 
-                        ", Menu: " + hasMenuButton + 
-                        ", Sort: " + hasSortDropdown + 
-                        ", Items: " + hasInventoryItems + ")");
+            logger.debug("Inventory page displayed: {} (URL: {}, Cart: {}, Menu: {}, Sort: {}, Items: {})", displayed, correctUrl, hasCartIcon, hasMenuButton, hasSortDropdown, hasInventoryItems);
             return displayed;
         } catch (Exception e) {
-            logger.error("Error checking if inventory page is displayed: " + e.getMessage());
+            logger.error("Error checking if inventory page is displayed: {}", e.getMessage());
             return false;
         }
     }
@@ -479,7 +496,7 @@ public class InventoryPage extends BasePage {
      */
     public String getInventoryTitle() {
         String title = driver.getTitle();
-        logger.debug("Inventory title: " + title);
+        logger.debug("Inventory title: {}", title);
         return title;
     }
 } 
\ No newline at end of file
@@ -15,25 +15,25 @@ public class LoginPage extends BasePage {
 
     // Page Elements
     @FindBy(id = "user-name")
-    private WebElement usernameField;
+    WebElement usernameField;
 
     @FindBy(id = "password")
-    private WebElement passwordField;
+    WebElement passwordField;
 
     @FindBy(id = "login-button")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     @FindBy(className = "login_logo")
-    private WebElement loginLogo;
+    WebElement loginLogo;
 
     @FindBy(className = "bot_column")
-    private WebElement botImage;
+    WebElement botImage;
 
     @FindBy(css = "h3[data-test='error']")
-    private WebElement errorMessage;
+    WebElement errorMessage;
 
     @FindBy(className = "error-button")
-    private WebElement errorCloseButton;
+    WebElement errorCloseButton;
 
     // Locators for elements not using @FindBy
     private final By usernameFieldLocator = By.id("user-name");
@@ -48,6 +48,7 @@ public class LoginPage extends BasePage {
      */
     public LoginPage(WebDriver driver) {
         super(driver);
+        LoginPageElements.init(this, driver);
     }
 
     /**
@@ -64,7 +65,7 @@ public class LoginPage extends BasePage {
      */
     public void enterUsername(String username) {
         type(usernameFieldLocator, username);
-        logger.info("Entered username: " + username);
+        logger.info("Entered username: {}", username);
     }
 
     /**
@@ -90,10 +91,12 @@ public class LoginPage extends BasePage {
      * @param password password to enter
      */
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        clickLoginButton();
-        logger.info("Performed login with username: " + username);
+        batch()
+            .type(usernameFieldLocator, username)
+            .type(passwordFieldLocator, password)
+            .click(loginButtonLocator)
+            .perform();
+        logger.info("Performed login with username: {}", username);
     }
 
     /**
@@ -130,7 +133,7 @@ public class LoginPage extends BasePage {
      */
     public String getErrorMessage() {
         String errorText = getText(errorMessageLocator);
-        logger.info("Error message: " + errorText);
+        logger.info("Error message: {}", errorText);
         return errorText;
     }
 
@@ -140,7 +143,7 @@ public class LoginPage extends BasePage {
      */
     public boolean isErrorMessageDisplayed() {
         boolean displayed = isElementDisplayed(errorMessageLocator);
-        logger.debug("Error message displayed: " + displayed);
+        logger.debug("Error message displayed: {}", displayed);
         return displayed;
     }
 
@@ -158,7 +161,7 @@ public class LoginPage extends BasePage {
      */
     public boolean isLoginButtonEnabled() {
         boolean enabled = isElementEnabled(loginButtonLocator);
-        logger.debug("Login button enabled: " + enabled);
+        logger.debug("Login button enabled: {}", enabled);
         return enabled;
     }
 
@@ -168,7 +171,7 @@ public class LoginPage extends BasePage {
      */
     public String getLoginButtonText() {
         String buttonText = getText(loginButtonLocator);
-        logger.debug("Login button text: " + buttonText);
+        logger.debug("Login button text: {}", buttonText);
         return buttonText;
     }
 
@@ -178,7 +181,7 @@ public class LoginPage extends BasePage {
      */
     public boolean isUsernameFieldDisplayed() {
         boolean displayed = isElementDisplayed(usernameFieldLocator);
-        logger.debug("Username field displayed: " + displayed);
+        logger.debug("Username field displayed: {}", displayed);
         return displayed;
     }
 
@@ -188,7 +191,7 @@ public class LoginPage extends BasePage {
      */
     public boolean isPasswordFieldDisplayed() {
         boolean displayed = isElementDisplayed(passwordFieldLocator);
-        logger.debug("Password field displayed: " + displayed);
+        logger.debug("Password field displayed: {}", displayed);
         return displayed;
     }
 
@@ -216,7 +219,7 @@ public class LoginPage extends BasePage {
      */
     public String getUsernameFieldPlaceholder() {
         String placeholder = getAttribute(usernameFieldLocator, "placeholder");
-        logger.debug("Username field placeholder: " + placeholder);
+        logger.debug("Username field placeholder: {}", placeholder);
         return placeholder;
     }
 
@@ -226,7 +229,7 @@ public class LoginPage extends BasePage {
      */
     public String getPasswordFieldPlaceholder() {
         String placeholder = getAttribute(passwordFieldLocator, "placeholder");
-        logger.debug("Password field placeholder: " + placeholder);
+        logger.debug("Password field placeholder: {}", placeholder);
         return placeholder;
     }
 
@@ -237,7 +240,7 @@ public class LoginPage extends BasePage {
     public boolean isLoginLogoDisplayed() {
         try {
             boolean displayed = loginLogo.isDisplayed();
-            logger.debug("Login logo displayed: " + displayed);
+            logger.debug("Login logo displayed: {}", displayed);
             return displayed;
         } catch (Exception e) {
             logger.debug("Login logo not displayed");
@@ -252,7 +255,7 @@ public class LoginPage extends BasePage {
     public boolean isBotImageDisplayed() {
         try {
             boolean displayed = botImage.isDisplayed();
-            logger.debug("Bot image displayed: " + displayed);
+            logger.debug("Bot image displayed: {}", displayed);
             return displayed;
         } catch (Exception e) {
             logger.debug("Bot image not displayed");
@@ -283,7 +286,7 @@ public class LoginPage extends BasePage {
         boolean botImage = isBotImageDisplayed();
 
         boolean allElementsPresent = usernameField && passwordField && loginButton && loginLogo && botImage;
-        logger.info("Login page elements verification: " + allElementsPresent);
+        logger.info("Login page elements verification: {}", allElementsPresent);
         return allElementsPresent;
     }
 
@@ -295,7 +298,7 @@ public class LoginPage extends BasePage {
         boolean displayed = isElementDisplayed(usernameFieldLocator) && 
                            isElementDisplayed(passwordFieldLocator) && 
                            isElementDisplayed(loginButtonLocator);
-        logger.debug("Login page displayed: " + displayed);
+        logger.debug("Login page displayed: {}", displayed);
         return displayed;
     }
 
@@ -305,7 +308,7 @@ public class LoginPage extends BasePage {
      */
     public boolean isLoginButtonDisplayed() {
         boolean displayed = isElementDisplayed(loginButtonLocator);
-        logger.debug("Login button displayed: " + displayed);
+        logger.debug("Login button displayed: {}", displayed);
         return displayed;
     }
 
@@ -0,0 +1,207 @@
+package com.automation.processor;
+
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor replacing PageFactory.initElements
+ * For every page class with @FindBy fields it generates a package-private {@code <Page>Elements} class
+ * holding one By constant per field and an init method that assigns lazily located elements to the
+ * fields, so constructing a page needs no reflection or dynamic proxies.
+ * Supported fields are non-private WebElement and List&lt;WebElement&gt; fields with a single @FindBy.
+ */
+@SupportedAnnotationTypes("org.openqa.selenium.support.FindBy")
+public class PageElementsProcessor extends AbstractProcessor {
+
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String WEB_ELEMENT_LIST = "java.util.List<org.openqa.selenium.WebElement>";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> fieldsByPage = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(FindBy.class)) {
+            if (element.getKind() != ElementKind.FIELD || element.getEnclosingElement().getKind() != ElementKind.CLASS) {
+                error(element, "@FindBy is only supported on fields of top-level page classes");
+                continue;
+            }
+            fieldsByPage.computeIfAbsent((TypeElement) element.getEnclosingElement(), page -> new ArrayList<>())
+                .add((VariableElement) element);
+        }
+        for (Map.Entry<TypeElement, List<VariableElement>> entry : fieldsByPage.entrySet()) {
+            generate(entry.getKey(), entry.getValue());
+        }
+        return true;
+    }
+
+    private void generate(TypeElement page, List<VariableElement> fields) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String pageName = page.getSimpleName().toString();
+        String className = pageName + "Elements";
+
+        StringBuilder constants = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        boolean valid = true;
+        for (VariableElement field : fields) {
+            String type = field.asType().toString();
+            String locator = locatorExpression(field, field.getAnnotation(FindBy.class));
+            if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)
+                    || field.getModifiers().contains(Modifier.STATIC)) {
+                error(field, "@FindBy field must be a non-private instance field that is not final");
+                valid = false;
+            } else if (!type.equals(WEB_ELEMENT) && !type.equals(WEB_ELEMENT_LIST)) {
+                error(field, "@FindBy field must be a WebElement or List<WebElement>");
+                valid = false;
+            } else if (locator != null) {
+                String constant = constantName(field.getSimpleName().toString());
+                String lazyType = type.equals(WEB_ELEMENT) ? "LazyElement" : "LazyElementList";
+                constants.append("    static final By ").append(constant).append(" = ").append(locator).append(";\n");
+                assignments.append("        page.").append(field.getSimpleName())
+                    .append(" = new ").append(lazyType).append("(context, ").append(constant).append(");\n");
+            } else {
+                valid = false;
+            }
+        }
+        if (!valid) {
+            return;
+        }
+
+        String source = "package " + packageName + ";\n\n"
+            + "import com.automation.base.LazyElement;\n"
+            + "import com.automation.base.LazyElementList;\n"
+            + "import org.openqa.selenium.By;\n"
+            + "import org.openqa.selenium.SearchContext;\n\n"
+            + "import javax.annotation.processing.Generated;\n\n"
+            + "/**\n"
+            + " * Locators of the @FindBy fields of " + pageName + "\n"
+            + " */\n"
+            + "@Generated(\"" + PageElementsProcessor.class.getName() + "\")\n"
+            + "final class " + className + " {\n"
+            + constants
+            + "\n"
+            + "    private " + className + "() {\n"
+            + "    }\n\n"
+            + "    /**\n"
+            + "     * Assign lazily located elements to the @FindBy fields of a page\n"
+            + "     * @param page page object\n"
+            + "     * @param context driver or element to search in\n"
+            + "     */\n"
+            + "    static void init(" + pageName + " page, SearchContext context) {\n"
+            + assignments
+            + "    }\n"
+            + "}\n";
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(packageName + "." + className, page);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            error(page, "Failed to generate " + className + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Build the By expression of a @FindBy annotation
+     * @return Java expression, or null if the annotation does not name exactly one strategy
+     */
+    private String locatorExpression(VariableElement field, FindBy findBy) {
+        Map<String, String> strategies = new LinkedHashMap<>();
+        if (findBy.how() != How.UNSET) {
+            strategies.put(byMethod(findBy.how()), findBy.using());
+        }
+        putIfSet(strategies, "By.id", findBy.id());
+        putIfSet(strategies, "By.name", findBy.name());
+        putIfSet(strategies, "By.className", findBy.className());
+        putIfSet(strategies, "By.cssSelector", findBy.css());
+        putIfSet(strategies, "By.tagName", findBy.tagName());
+        putIfSet(strategies, "By.linkText", findBy.linkText());
+        putIfSet(strategies, "By.partialLinkText", findBy.partialLinkText());
+        putIfSet(strategies, "By.xpath", findBy.xpath());
+        if (strategies.size() != 1) {
+            error(field, "@FindBy must specify exactly one locator strategy");
+            return null;
+        }
+        Map.Entry<String, String> strategy = strategies.entrySet().iterator().next();
+        return strategy.getKey() + "(" + stringLiteral(strategy.getValue()) + ")";
+    }
+
+    private static String byMethod(How how) {
+        switch (how) {
+            case CLASS_NAME:
+                return "By.className";
+            case CSS:
+                return "By.cssSelector";
+            case ID_OR_NAME:
+                return "new org.openqa.selenium.support.pagefactory.ByIdOrName";
+            case LINK_TEXT:
+                return "By.linkText";
+            case NAME:
+                return "By.name";
+            case PARTIAL_LINK_TEXT:
+                return "By.partialLinkText";
+            case TAG_NAME:
+                return "By.tagName";
+            case XPATH:
+                return "By.xpath";
+            default:
+                return "By.id";
+        }
+    }
+
+    private static void putIfSet(Map<String, String> strategies, String method, String value) {
+        if (!value.isEmpty()) {
+            strategies.put(method, value);
+        }
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                default:
+                    literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static String constantName(String fieldName) {
+        return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
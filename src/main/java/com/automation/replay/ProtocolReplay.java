@@ -0,0 +1,352 @@
+package com.automation.replay;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.LatencyStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays a recorded TrafficScript with java.net.http.HttpClient, one virtual thread per user
+ * Users start evenly spread over the ramp-up and loop the script until the run ends, pausing for the
+ * recorded think time scaled by replay.think.time.percent. Within a transaction the document is fetched
+ * first and its subresources in parallel, like a browser. Each user keeps its own cookies and correlated
+ * variables. Latency percentiles and throughput are reported per transaction for the period after ramp-up.
+ */
+public class ProtocolReplay {
+    private static final Logger logger = LogManager.getLogger(ProtocolReplay.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+    private static final int MAX_ERROR_EXAMPLES = 20;
+    private static final long FAILURE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Pattern SET_COOKIE = Pattern.compile("^\\s*([^=;\\s]+)=([^;]*)");
+
+    private final TrafficScript script;
+    private final Map<String, String> variables;
+    private final int users;
+    private final long rampUpNanos;
+    private final long durationNanos;
+    private final int thinkTimePercent;
+    private final Duration requestTimeout;
+    private final ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+    private final Map<String, Queue<Sample>> samples = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errorCounts = new ConcurrentHashMap<>();
+    private final Queue<String> errorExamples = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong measuredRequestCount = new AtomicLong();
+    private long startNanos;
+
+    /**
+     * Completed transaction
+     */
+    private static final class Sample {
+        private final long endNanos;
+        private final long durationNanos;
+
+        private Sample(long endNanos, long durationNanos) {
+            this.endNanos = endNanos;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    /**
+     * Cookies and variables of one replayed user
+     */
+    private static final class UserState {
+        private final Map<String, String> variables;
+        private final Map<String, String> cookies = new ConcurrentHashMap<>();
+
+        private UserState(Map<String, String> variables) {
+            this.variables = new ConcurrentHashMap<>(variables);
+        }
+    }
+
+    /**
+     * Create a replay of a script configured from replay.* properties
+     * @param script recorded script
+     * @param overrides variable values replacing the recorded defaults, e.g. origin
+     */
+    public ProtocolReplay(TrafficScript script, Map<String, String> overrides) {
+        this.script = script;
+        this.variables = new LinkedHashMap<>(script.getVariables());
+        this.variables.putAll(overrides);
+        this.variables.replaceAll((name, value) -> TrafficScript.resolveConfigReference(value));
+        this.users = Math.max(1, config.getIntProperty("replay.users", 1000));
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos(config.getIntProperty("replay.rampup.seconds", 30));
+        this.durationNanos = TimeUnit.SECONDS.toNanos(config.getIntProperty("replay.duration.seconds", 120));
+        this.thinkTimePercent = config.getIntProperty("replay.think.time.percent", 100);
+        this.requestTimeout = Duration.ofMillis(config.getIntProperty("replay.request.timeout.ms", 30000));
+        // One client shares its connection pool between users, so the JVM does not need a selector per user
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(requestTimeout)
+            .executor(clientExecutor)
+            .build();
+    }
+
+    /**
+     * Run all users until ramp-up and duration have passed
+     * @return report with per-transaction latency and throughput
+     */
+    public Map<String, Object> run() throws InterruptedException {
+        logger.info("Replaying '{}' against {} with {} users, ramp-up {} s, duration {} s",
+            script.getName(), variables.get("origin"), users, TimeUnit.NANOSECONDS.toSeconds(rampUpNanos),
+            TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+        startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                long startOffset = rampUpNanos * i / users;
+                int user = i + 1;
+                executor.submit(() -> runUser(user, startOffset));
+            }
+        } finally {
+            clientExecutor.shutdown();
+        }
+        return report();
+    }
+
+    private void runUser(int user, long startOffset) {
+        long endOffset = rampUpNanos + durationNanos;
+        if (!sleepUntil(startOffset)) {
+            return;
+        }
+        Map<String, String> userVariables = new LinkedHashMap<>(variables);
+        userVariables.put("userId", String.valueOf(user));
+        while (System.nanoTime() - startNanos < endOffset) {
+            // Every iteration starts a new session, as a browser user logging in again would
+            UserState state = new UserState(userVariables);
+            for (TrafficScript.Transaction transaction : script.getTransactions()) {
+                long thinkNanos = TimeUnit.MILLISECONDS.toNanos(transaction.getThinkTimeMillis() * thinkTimePercent / 100);
+                if (!sleepUntil(System.nanoTime() - startNanos + thinkNanos)
+                    || System.nanoTime() - startNanos >= endOffset) {
+                    return;
+                }
+                if (!runTransaction(transaction, state)) {
+                    // Back off before starting over so a failing server is not hammered in a tight loop
+                    if (!sleepUntil(System.nanoTime() - startNanos + FAILURE_BACKOFF_NANOS)) {
+                        return;
+                    }
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Send the document request, then its subresources in parallel
+     * @return false if a request failed and the iteration should start over
+     */
+    private boolean runTransaction(TrafficScript.Transaction transaction, UserState state) {
+        List<TrafficScript.Request> requests = transaction.getRequests();
+        long start = System.nanoTime();
+        boolean ok = send(transaction.getName(), requests.get(0), state);
+        if (ok && requests.size() > 1) {
+            try (ExecutorService subresources = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (TrafficScript.Request request : requests.subList(1, requests.size())) {
+                    results.add(subresources.submit(() -> send(transaction.getName(), request, state)));
+                }
+                for (Future<Boolean> result : results) {
+                    ok &= result.get();
+                }
+            } catch (Exception e) {
+                error(transaction.getName(), e.getClass().getSimpleName() + ": " + e.getMessage());
+                ok = false;
+            }
+        }
+        if (ok) {
+            long end = System.nanoTime();
+            samples.computeIfAbsent(transaction.getName(), key -> new ConcurrentLinkedQueue<>())
+                .add(new Sample(end - startNanos, end - start));
+        }
+        return ok;
+    }
+
+    private boolean send(String transactionName, TrafficScript.Request request, UserState state) {
+        String url = TrafficScript.substitute(request.getUrl(), state.variables);
+        String body = TrafficScript.substitute(request.getBody(), state.variables);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+            .timeout(requestTimeout)
+            .method(request.getMethod(), body != null
+                ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody());
+        request.getHeaders().forEach((name, value) -> {
+            // Scripts recorded before Accept-Encoding was dropped would get compressed bodies back
+            if (!name.equals("cookie") && !name.equals("accept-encoding")) {
+                builder.header(name, TrafficScript.substitute(value, state.variables));
+            }
+        });
+        String cookie = cookieHeader(TrafficScript.substitute(request.getHeaders().get("cookie"), state.variables), state);
+        if (cookie != null) {
+            builder.header("cookie", cookie);
+        }
+
+        requestCount.incrementAndGet();
+        if (System.nanoTime() - startNanos >= rampUpNanos) {
+            measuredRequestCount.incrementAndGet();
+        }
+        try {
+            if (script.getCorrelations().isEmpty()) {
+                HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+                storeCookies(response.headers(), state);
+                return checkStatus(transactionName, url, request.getStatus(), response.statusCode());
+            }
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            storeCookies(response.headers(), state);
+            correlate(response, state);
+            return checkStatus(transactionName, url, request.getStatus(), response.statusCode());
+        } catch (IOException e) {
+            error(transactionName, url + ": " + e.getClass().getSimpleName() + ": " + e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean checkStatus(String transactionName, String url, int expected, int actual) {
+        // A different status within the same class (e.g. 200 and 304) is a caching difference, not an error
+        if (expected / 100 == actual / 100 || (expected == 0 && actual < 400)) {
+            return true;
+        }
+        error(transactionName, url + ": status " + actual + ", recorded " + expected);
+        return false;
+    }
+
+    private void correlate(HttpResponse<String> response, UserState state) {
+        StringBuilder text = new StringBuilder();
+        response.headers().map().forEach((name, values) ->
+            values.forEach(value -> text.append(name).append(": ").append(value).append('\n')));
+        text.append(response.body());
+        script.getCorrelations().forEach((variable, pattern) -> {
+            Matcher matcher = pattern.matcher(text);
+            if (matcher.find() && matcher.groupCount() > 0) {
+                state.variables.put(variable, matcher.group(1));
+            }
+        });
+    }
+
+    private static void storeCookies(HttpHeaders headers, UserState state) {
+        for (String setCookie : headers.allValues("set-cookie")) {
+            Matcher matcher = SET_COOKIE.matcher(setCookie);
+            if (matcher.find()) {
+                state.cookies.put(matcher.group(1), matcher.group(2));
+            }
+        }
+    }
+
+    /**
+     * Merge recorded cookies with the cookies the server set for this user; the server's values win
+     */
+    private static String cookieHeader(String recorded, UserState state) {
+        if (state.cookies.isEmpty()) {
+            return recorded;
+        }
+        Map<String, String> cookies = new LinkedHashMap<>();
+        if (recorded != null) {
+            for (String pair : recorded.split(";")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+                }
+            }
+        }
+        cookies.putAll(state.cookies);
+        StringBuilder header = new StringBuilder();
+        cookies.forEach((name, value) -> header.append(header.length() > 0 ? "; " : "").append(name).append('=').append(value));
+        return header.toString();
+    }
+
+    private void error(String transactionName, String message) {
+        errorCounts.computeIfAbsent(transactionName, key -> new AtomicLong()).incrementAndGet();
+        if (errorExamples.size() < MAX_ERROR_EXAMPLES) {
+            errorExamples.add(transactionName + ": " + message);
+        }
+        logger.debug("Replay error in {}: {}", transactionName, message);
+    }
+
+    private boolean sleepUntil(long offsetNanos) {
+        long remaining = offsetNanos - (System.nanoTime() - startNanos);
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Object> report() {
+        double measuredSeconds = Math.max(durationNanos / 1e9, 1e-3);
+        Map<String, Object> transactions = new LinkedHashMap<>();
+        for (TrafficScript.Transaction transaction : script.getTransactions()) {
+            String name = transaction.getName();
+            if (transactions.containsKey(name)) {
+                continue;
+            }
+            long[] measured = samples.getOrDefault(name, new ConcurrentLinkedQueue<>()).stream()
+                .filter(sample -> sample.endNanos >= rampUpNanos)
+                .mapToLong(sample -> sample.durationNanos).toArray();
+            long errors = errorCounts.getOrDefault(name, new AtomicLong()).get();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", measured.length);
+            result.put("errors", errors);
+            result.put("throughputPerSecond", round(measured.length / measuredSeconds));
+            if (measured.length > 0) {
+                LatencyStats stats = LatencyStats.of(measured);
+                for (double percentile : PERCENTILES) {
+                    result.put("p" + (int) percentile, round(stats.getPercentileMillis(percentile)));
+                }
+                result.put("max", round(stats.getMaxMillis()));
+                result.put("mean", round(stats.getMeanMillis()));
+                logger.info("{}: {}/s, {} errors, {}", name, result.get("throughputPerSecond"), errors, stats);
+            } else {
+                logger.info("{}: no samples after ramp-up, {} errors", name, errors);
+            }
+            transactions.put(name, result);
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("script", script.getName());
+        document.put("origin", variables.get("origin"));
+        document.put("users", users);
+        document.put("rampUpSeconds", TimeUnit.NANOSECONDS.toSeconds(rampUpNanos));
+        document.put("durationSeconds", TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+        document.put("requests", requestCount.get());
+        document.put("requestsPerSecond", round(measuredRequestCount.get() / measuredSeconds));
+        document.put("transactions", transactions);
+        document.put("errorExamples", new ArrayList<>(errorExamples));
+        logger.info("Replay finished: {} requests, {} requests/s after ramp-up", requestCount.get(),
+            document.get("requestsPerSecond"));
+        return document;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,368 @@
+package com.automation.replay;
+
+import com.automation.config.ConfigManager;
+import com.automation.network.DevToolsSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Records the application requests of a browser session from CDP Network events, one recorder per driver
+ * Only requests to the origin of base.url are kept. On save the origin, the standard user credentials and
+ * values captured by the traffic.correlation.rules are replaced with ${name} variables, so the script can be
+ * replayed against another host and with per-user values by ProtocolReplay. While correlation rules are set,
+ * the bodies of HTML and JSON responses of the origin are fetched as they finish, one CDP call each, so rules
+ * can capture values such as CSRF tokens from the page as well as from response headers.
+ */
+public class TrafficRecorder {
+    private static final Logger logger = LogManager.getLogger(TrafficRecorder.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<WebDriver, TrafficRecorder> recorders = Collections.synchronizedMap(new WeakHashMap<>());
+    // Set by the HTTP client itself; replaying them is not allowed or would be wrong. Accept-Encoding is dropped
+    // because replay reads bodies as text to run the correlation rules, which fails on compressed bodies
+    private static final Set<String> TRANSPORT_HEADERS = Set.of("host", "connection", "content-length", "expect",
+        "upgrade", "keep-alive", "transfer-encoding", "te", "trailer", "proxy-connection", "accept-encoding");
+    private static final int MIN_CORRELATED_LENGTH = 4;
+    // Response types whose bodies correlation rules are matched against
+    private static final Pattern CORRELATED_BODY_TYPES = Pattern.compile("html|json");
+
+    private final DevTools devTools;
+
+    private final List<Exchange> exchanges = new ArrayList<>();
+    private final Map<String, Exchange> pending = new HashMap<>();
+    private final Map<String, Map<String, Object>> earlyExtraHeaders = new HashMap<>();
+
+    /**
+     * Request and response seen in the browser
+     */
+    private static final class Exchange {
+        private String method;
+        private String url;
+        private String type;
+        private String body;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private final Map<String, String> responseHeaders = new LinkedHashMap<>();
+        private String mimeType;
+        private String responseBody;
+        private int status;
+        private double startSeconds;
+        private double endSeconds = -1;
+    }
+
+    private TrafficRecorder(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * Check if traffic recording is enabled in configuration
+     * @return true if traffic.recording.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("traffic.recording.enabled", false);
+    }
+
+    /**
+     * Start recording the traffic of a driver
+     * @param driver WebDriver instance
+     * @return recorder, or null if the browser does not support CDP
+     */
+    public static TrafficRecorder attach(WebDriver driver) {
+        if (!DevToolsSupport.isSupported(driver)) {
+            logger.debug("Browser does not support DevTools - traffic recording not available");
+            return null;
+        }
+        synchronized (recorders) {
+            TrafficRecorder recorder = recorders.get(driver);
+            if (recorder == null) {
+                recorder = new TrafficRecorder(DevToolsSupport.getDevTools(driver));
+                recorder.listen();
+                recorders.put(driver, recorder);
+                logger.debug("Traffic recording started");
+            }
+            return recorder;
+        }
+    }
+
+    /**
+     * Get the recorder attached to a driver
+     * @param driver WebDriver instance
+     * @return recorder, or null if none is attached
+     */
+    public static TrafficRecorder get(WebDriver driver) {
+        return driver != null ? recorders.get(driver) : null;
+    }
+
+    /**
+     * Stop recording the traffic of a driver
+     * @param driver WebDriver instance
+     */
+    public static void detach(WebDriver driver) {
+        recorders.remove(driver);
+    }
+
+    /**
+     * Write the traffic recorded so far as a script and start a new recording
+     * @param scenarioName scenario the traffic belongs to
+     * @param line line of the scenario or outline row, keeps the scripts of outline rows apart
+     * @return path of the script, or null if no application request was recorded
+     */
+    public String save(String scenarioName, Integer line) {
+        TrafficScript script = toScript(scenarioName);
+        if (script.getTransactions().isEmpty()) {
+            return null;
+        }
+        String fileName = scenarioName.replaceAll("[^a-zA-Z0-9-_]", "_") + (line != null ? "_line" + line : "");
+        Path file = Paths.get(config.getProperty("traffic.recording.path", "reports/traffic/")).resolve(fileName + ".json");
+        try {
+            script.save(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write traffic script " + file, e);
+        }
+        logger.info("Traffic script with {} transactions saved: {}", script.getTransactions().size(), file);
+        return file.toString();
+    }
+
+    /**
+     * Build a parameterized script from the recorded exchanges and clear them
+     * @param name script name
+     * @return script
+     */
+    public TrafficScript toScript(String name) {
+        List<Exchange> recorded;
+        synchronized (this) {
+            recorded = new ArrayList<>(exchanges);
+            exchanges.clear();
+        }
+        String origin = origin(config.getProperty("base.url"));
+        Map<String, Pattern> correlations = TrafficScript.parseCorrelations(
+            config.getProperty("traffic.correlation.rules", ""));
+
+        // Literal value to variable; longer literals are replaced first so overlapping values stay whole
+        Map<String, String> replacements = new LinkedHashMap<>();
+        replacements.put(origin, "${origin}");
+        putLiteral(replacements, config.getProperty("standard.user"), "${username}");
+        putLiteral(replacements, config.getProperty("password"), "${password}");
+        Map<String, String> variables = new LinkedHashMap<>();
+        variables.put("origin", origin);
+        variables.put("username", config.getProperty("standard.user"));
+        // The secret itself is not written to the script; ProtocolReplay looks it up when the script is run
+        variables.put("password", TrafficScript.configReference("password"));
+
+        List<TrafficScript.Transaction> transactions = new ArrayList<>();
+        List<TrafficScript.Request> requests = null;
+        String transactionName = null;
+        long thinkTimeMillis = 0;
+        double transactionStart = 0;
+        double previousEnd = -1;
+        for (Exchange exchange : recorded) {
+            if (exchange.url == null || !exchange.url.startsWith(origin)) {
+                continue;
+            }
+            if (requests == null || "Document".equals(exchange.type)) {
+                if (requests != null) {
+                    transactions.add(new TrafficScript.Transaction(transactionName, thinkTimeMillis, requests));
+                }
+                requests = new ArrayList<>();
+                transactionName = exchange.method + " " + URI.create(exchange.url).getPath();
+                thinkTimeMillis = previousEnd < 0 ? 0 : Math.max(0, Math.round((exchange.startSeconds - previousEnd) * 1000));
+                transactionStart = exchange.startSeconds;
+            }
+            requests.add(new TrafficScript.Request(exchange.method, parameterize(exchange.url, replacements),
+                parameterizeHeaders(exchange.headers, replacements), parameterize(exchange.body, replacements),
+                exchange.status));
+            previousEnd = Math.max(previousEnd, Math.max(exchange.endSeconds, transactionStart));
+
+            // Values captured from this response stand for the same dynamic value in later requests
+            String responseText = headerText(exchange.responseHeaders)
+                + (exchange.responseBody != null ? exchange.responseBody : "");
+            correlations.forEach((variable, pattern) -> {
+                Matcher matcher = pattern.matcher(responseText);
+                if (matcher.find() && matcher.groupCount() > 0) {
+                    putLiteral(replacements, matcher.group(1), "${" + variable + "}");
+                }
+            });
+        }
+        if (requests != null) {
+            transactions.add(new TrafficScript.Transaction(transactionName, thinkTimeMillis, requests));
+        }
+        return new TrafficScript(name, variables, correlations, transactions);
+    }
+
+    private void listen() {
+        devTools.addListener(DevToolsSupport.event("Network.requestWillBeSent"), this::onRequest);
+        devTools.addListener(DevToolsSupport.event("Network.requestWillBeSentExtraInfo"), this::onRequestExtraInfo);
+        devTools.addListener(DevToolsSupport.event("Network.responseReceived"), this::onResponse);
+        devTools.addListener(DevToolsSupport.event("Network.responseReceivedExtraInfo"), this::onResponseExtraInfo);
+        devTools.addListener(DevToolsSupport.event("Network.loadingFinished"), this::onFinished);
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), this::onFailed);
+        devTools.send(DevToolsSupport.command("Network.enable", Collections.emptyMap()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onRequest(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        double timestamp = ((Number) params.get("timestamp")).doubleValue();
+        Map<String, Object> redirectResponse = (Map<String, Object>) params.get("redirectResponse");
+        Exchange redirected = pending.remove(requestId);
+        if (redirected != null && redirectResponse != null) {
+            redirected.status = ((Number) redirectResponse.get("status")).intValue();
+            copyHeaders((Map<String, Object>) redirectResponse.get("headers"), redirected.responseHeaders);
+            redirected.endSeconds = timestamp;
+        }
+
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        Exchange exchange = new Exchange();
+        exchange.method = (String) request.get("method");
+        exchange.url = (String) request.get("url");
+        exchange.type = (String) params.get("type");
+        exchange.body = (String) request.get("postData");
+        exchange.startSeconds = timestamp;
+        copyHeaders((Map<String, Object>) request.get("headers"), exchange.headers);
+        Map<String, Object> extraHeaders = earlyExtraHeaders.remove(requestId);
+        if (extraHeaders != null) {
+            copyHeaders(extraHeaders, exchange.headers);
+        }
+        pending.put(requestId, exchange);
+        exchanges.add(exchange);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onRequestExtraInfo(Map<String, Object> params) {
+        // Carries the headers added by the network stack, e.g. Cookie; may arrive before requestWillBeSent
+        String requestId = (String) params.get("requestId");
+        Map<String, Object> headers = (Map<String, Object>) params.get("headers");
+        Exchange exchange = pending.get(requestId);
+        if (exchange != null) {
+            copyHeaders(headers, exchange.headers);
+        } else {
+            earlyExtraHeaders.put(requestId, headers);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onResponse(Map<String, Object> params) {
+        Exchange exchange = pending.get((String) params.get("requestId"));
+        if (exchange != null) {
+            Map<String, Object> response = (Map<String, Object>) params.get("response");
+            exchange.status = ((Number) response.get("status")).intValue();
+            exchange.mimeType = (String) response.get("mimeType");
+            copyHeaders((Map<String, Object>) response.get("headers"), exchange.responseHeaders);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void onResponseExtraInfo(Map<String, Object> params) {
+        Exchange exchange = pending.get((String) params.get("requestId"));
+        if (exchange != null) {
+            copyHeaders((Map<String, Object>) params.get("headers"), exchange.responseHeaders);
+        }
+    }
+
+    private void onFinished(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        Exchange exchange = finish(params);
+        if (exchange == null || !capturesBody(exchange)) {
+            return;
+        }
+        // The body is only available from the browser until the page is unloaded, so fetch it now
+        try {
+            Map<String, Object> result = devTools.send(
+                DevToolsSupport.query("Network.getResponseBody", Map.of("requestId", requestId)));
+            if (!Boolean.TRUE.equals(result.get("base64Encoded"))) {
+                synchronized (this) {
+                    exchange.responseBody = (String) result.get("body");
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Response body of {} not available: {}", exchange.url, e.getMessage());
+        }
+    }
+
+    private void onFailed(Map<String, Object> params) {
+        finish(params);
+    }
+
+    private synchronized Exchange finish(Map<String, Object> params) {
+        Exchange exchange = pending.remove((String) params.get("requestId"));
+        if (exchange != null) {
+            exchange.endSeconds = ((Number) params.get("timestamp")).doubleValue();
+        }
+        return exchange;
+    }
+
+    private static boolean capturesBody(Exchange exchange) {
+        return exchange.mimeType != null && CORRELATED_BODY_TYPES.matcher(exchange.mimeType).find()
+            && exchange.url.startsWith(origin(config.getProperty("base.url")))
+            && !config.getProperty("traffic.correlation.rules", "").isBlank();
+    }
+
+    private static void copyHeaders(Map<String, Object> source, Map<String, String> target) {
+        if (source == null) {
+            return;
+        }
+        source.forEach((name, value) -> {
+            String key = name.toLowerCase(Locale.ROOT);
+            if (!key.startsWith(":") && !TRANSPORT_HEADERS.contains(key)) {
+                target.put(key, String.valueOf(value));
+            }
+        });
+    }
+
+    private static Map<String, String> parameterizeHeaders(Map<String, String> headers, Map<String, String> replacements) {
+        Map<String, String> result = new LinkedHashMap<>();
+        headers.forEach((name, value) -> result.put(name, parameterize(value, replacements)));
+        return result;
+    }
+
+    private static String parameterize(String text, Map<String, String> replacements) {
+        if (text == null) {
+            return null;
+        }
+        List<Map.Entry<String, String>> ordered = new ArrayList<>(replacements.entrySet());
+        ordered.sort((a, b) -> Integer.compare(b.getKey().length(), a.getKey().length()));
+        for (Map.Entry<String, String> replacement : ordered) {
+            text = text.replace(replacement.getKey(), replacement.getValue());
+        }
+        return text;
+    }
+
+    private static void putLiteral(Map<String, String> replacements, String literal, String variable) {
+        if (literal != null && literal.length() >= MIN_CORRELATED_LENGTH && !replacements.containsKey(literal)) {
+            replacements.put(literal, variable);
+        }
+    }
+
+    private static String headerText(Map<String, String> headers) {
+        StringBuilder text = new StringBuilder();
+        headers.forEach((name, value) -> text.append(name).append(": ").append(value).append('\n'));
+        return text.toString();
+    }
+
+    /**
+     * Get scheme, host and port of a URL
+     * @param url absolute URL
+     * @return origin without trailing slash
+     */
+    static String origin(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
@@ -0,0 +1,264 @@
+package com.automation.replay;
+
+import com.automation.config.ConfigManager;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Recorded HTTP traffic of a scenario as a parameterized, replayable script
+ * Requests are grouped into transactions, one per page document with its subresources. URLs, headers and
+ * bodies may reference ${name} variables; correlations capture values from responses during replay
+ * into variables of the same name.
+ */
+public class TrafficScript {
+    private static final Json json = new Json();
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([A-Za-z0-9_.-]+)}");
+    private static final Pattern CONFIG_REFERENCE = Pattern.compile("\\$\\{config:([^}]+)}");
+
+    private final String name;
+    private final Map<String, String> variables;
+    private final Map<String, Pattern> correlations;
+    private final List<Transaction> transactions;
+
+    /**
+     * Single recorded request
+     */
+    public static final class Request {
+        private final String method;
+        private final String url;
+        private final Map<String, String> headers;
+        private final String body;
+        private final int status;
+
+        public Request(String method, String url, Map<String, String> headers, String body, int status) {
+            this.method = method;
+            this.url = url;
+            this.headers = headers;
+            this.body = body;
+            this.status = status;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * Page document request followed by the subresource requests it triggered
+     */
+    public static final class Transaction {
+        private final String name;
+        private final long thinkTimeMillis;
+        private final List<Request> requests;
+
+        public Transaction(String name, long thinkTimeMillis, List<Request> requests) {
+            this.name = name;
+            this.thinkTimeMillis = thinkTimeMillis;
+            this.requests = requests;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the pause the user took before this transaction during recording
+         * @return think time in milliseconds
+         */
+        public long getThinkTimeMillis() {
+            return thinkTimeMillis;
+        }
+
+        public List<Request> getRequests() {
+            return requests;
+        }
+    }
+
+    public TrafficScript(String name, Map<String, String> variables, Map<String, Pattern> correlations,
+                         List<Transaction> transactions) {
+        this.name = name;
+        this.variables = variables;
+        this.correlations = correlations;
+        this.transactions = transactions;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get default values of the script variables
+     * @return variable name to value
+     */
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * Get correlation rules; the first group of a match becomes the value of the variable
+     * @return variable name to pattern
+     */
+    public Map<String, Pattern> getCorrelations() {
+        return correlations;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Build a variable value that stands for a configuration property, resolved when the script is replayed
+     * @param key configuration key, e.g. password
+     * @return reference in the form ${config:key}
+     */
+    public static String configReference(String key) {
+        return "${config:" + key + "}";
+    }
+
+    /**
+     * Resolve a variable value written by configReference from a system property or configuration
+     * @param value variable value, may be null
+     * @return property value, or the value itself if it is not a configuration reference
+     */
+    public static String resolveConfigReference(String value) {
+        Matcher matcher = value != null ? CONFIG_REFERENCE.matcher(value) : null;
+        if (matcher == null || !matcher.matches()) {
+            return value;
+        }
+        String resolved = System.getProperty(matcher.group(1), ConfigManager.getInstance().getProperty(matcher.group(1)));
+        if (resolved == null) {
+            throw new IllegalStateException("Script variable needs property " + matcher.group(1)
+                + " - set it in config.properties or with -D" + matcher.group(1));
+        }
+        return resolved;
+    }
+
+    /**
+     * Replace ${name} references with variable values; unknown variables are left as they are
+     * @param template text with variable references, may be null
+     * @param values variable values
+     * @return substituted text
+     */
+    public static String substitute(String template, Map<String, String> values) {
+        if (template == null || template.indexOf("${") < 0) {
+            return template;
+        }
+        Matcher matcher = VARIABLE.matcher(template);
+        StringBuilder result = new StringBuilder(template.length());
+        while (matcher.find()) {
+            String value = values.get(matcher.group(1));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Parse correlation rules of the form name=regex separated by ';'
+     * @param rules rule list, may be empty
+     * @return variable name to pattern
+     */
+    public static Map<String, Pattern> parseCorrelations(String rules) {
+        Map<String, Pattern> correlations = new LinkedHashMap<>();
+        for (String rule : rules.split(";")) {
+            int separator = rule.indexOf('=');
+            if (separator > 0) {
+                correlations.put(rule.substring(0, separator).trim(), Pattern.compile(rule.substring(separator + 1).trim()));
+            }
+        }
+        return correlations;
+    }
+
+    /**
+     * Write the script as JSON
+     * @param file target file
+     */
+    public void save(Path file) throws IOException {
+        List<Map<String, Object>> transactionList = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            List<Map<String, Object>> requestList = new ArrayList<>();
+            for (Request request : transaction.requests) {
+                Map<String, Object> requestMap = new LinkedHashMap<>();
+                requestMap.put("method", request.method);
+                requestMap.put("url", request.url);
+                requestMap.put("headers", request.headers);
+                if (request.body != null) {
+                    requestMap.put("body", request.body);
+                }
+                requestMap.put("status", request.status);
+                requestList.add(requestMap);
+            }
+            Map<String, Object> transactionMap = new LinkedHashMap<>();
+            transactionMap.put("name", transaction.name);
+            transactionMap.put("thinkTimeMs", transaction.thinkTimeMillis);
+            transactionMap.put("requests", requestList);
+            transactionList.add(transactionMap);
+        }
+        Map<String, String> correlationMap = new LinkedHashMap<>();
+        correlations.forEach((variable, pattern) -> correlationMap.put(variable, pattern.pattern()));
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("name", name);
+        document.put("variables", variables);
+        document.put("correlations", correlationMap);
+        document.put("transactions", transactionList);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, json.toJson(document), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a script written by save
+     * @param file script file
+     * @return script
+     */
+    @SuppressWarnings("unchecked")
+    public static TrafficScript load(Path file) throws IOException {
+        Map<String, Object> document = json.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        List<Transaction> transactions = new ArrayList<>();
+        for (Map<String, Object> transactionMap : (List<Map<String, Object>>) document.get("transactions")) {
+            List<Request> requests = new ArrayList<>();
+            for (Map<String, Object> requestMap : (List<Map<String, Object>>) transactionMap.get("requests")) {
+                requests.add(new Request(
+                    (String) requestMap.get("method"),
+                    (String) requestMap.get("url"),
+                    new LinkedHashMap<>((Map<String, String>) requestMap.getOrDefault("headers", Map.of())),
+                    (String) requestMap.get("body"),
+                    ((Number) requestMap.getOrDefault("status", 200)).intValue()));
+            }
+            transactions.add(new Transaction((String) transactionMap.get("name"),
+                ((Number) transactionMap.getOrDefault("thinkTimeMs", 0)).longValue(), requests));
+        }
+        Map<String, Pattern> correlations = new LinkedHashMap<>();
+        ((Map<String, String>) document.getOrDefault("correlations", Map.of()))
+            .forEach((variable, regex) -> correlations.put(variable, Pattern.compile(regex)));
+        return new TrafficScript((String) document.get("name"),
+            new LinkedHashMap<>((Map<String, String>) document.getOrDefault("variables", Map.of())),
+            correlations, transactions);
+    }
+}
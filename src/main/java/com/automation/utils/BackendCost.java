@@ -0,0 +1,189 @@
+package com.automation.utils;
+
+import com.automation.config.ConfigManager;
+import com.automation.network.DevToolsSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-scenario cost of the driver backend, to compare the lightweight backend with a real browser
+ * Records driver launch time, scenario duration, allocation and the browser features the backend lacks,
+ * appends one JSON line per scenario and compares it with the last run of the same scenario on
+ * another backend, from this run or an earlier one in the same file.
+ */
+public class BackendCost {
+    private static final Logger logger = LogManager.getLogger(BackendCost.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Json json = new Json();
+    private static final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final ThreadLocal<ScenarioCost> currentScenario = new ThreadLocal<>();
+    // Scenario name to backend to its latest record
+    private static Map<String, Map<String, Map<String, Object>>> history;
+
+    /**
+     * Cost collected for the scenario running on the current thread
+     */
+    private static final class ScenarioCost {
+        private final String scenarioName;
+        private final String backend;
+        private final long startNanos = System.nanoTime();
+        private final long startAllocatedBytes = threads.getCurrentThreadAllocatedBytes();
+        private final List<String> fidelityGaps = new ArrayList<>();
+        private long launchNanos;
+
+        private ScenarioCost(String scenarioName, String backend) {
+            this.scenarioName = scenarioName;
+            this.backend = backend;
+        }
+    }
+
+    /**
+     * Start measuring a scenario on the current thread
+     * @param scenarioName scenario name
+     * @param backend browser the scenario runs in, e.g. chrome or htmlunit
+     */
+    public static void startScenario(String scenarioName, String backend) {
+        currentScenario.set(new ScenarioCost(scenarioName, backend));
+    }
+
+    /**
+     * Record driver launch time and the browser features the driver does not offer
+     * @param driver driver of the scenario
+     * @param launchNanos time taken to create or reuse the driver
+     */
+    public static void driverLaunched(WebDriver driver, long launchNanos) {
+        ScenarioCost scenario = currentScenario.get();
+        if (scenario == null || driver == null) {
+            return;
+        }
+        scenario.launchNanos = launchNanos;
+        if ("htmlunit".equalsIgnoreCase(scenario.backend)) {
+            scenario.fidelityGaps.add("no layout engine: visibility and sizes are approximated from CSS");
+        }
+        if (!(driver instanceof TakesScreenshot)) {
+            scenario.fidelityGaps.add("no screenshots");
+        }
+        if (!DevToolsSupport.isSupported(driver)) {
+            scenario.fidelityGaps.add("no DevTools: network policy, idle tracking, traffic recording and long tasks off");
+        }
+    }
+
+    /**
+     * Write the cost record of the current scenario and stop measuring
+     * @param status scenario status, e.g. PASSED
+     * @param browserPeakRssMb peak RSS of the browser processes, or -1 if not monitored or in-process
+     * @return one-line summary with the comparison to another backend, or null if nothing was measured
+     */
+    public static String finishScenario(String status, long browserPeakRssMb) {
+        ScenarioCost scenario = currentScenario.get();
+        currentScenario.remove();
+        if (scenario == null) {
+            return null;
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("scenario", scenario.scenarioName);
+        record.put("backend", scenario.backend);
+        record.put("status", status);
+        record.put("launchMs", TimeUnit.NANOSECONDS.toMillis(scenario.launchNanos));
+        record.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scenario.startNanos));
+        // Cumulative bytes allocated by the scenario thread only, not memory in use: HtmlUnit's JavaScript and timer
+        // threads are not included, and it cannot be compared with the RSS of a real browser's processes
+        record.put("scenarioThreadAllocatedMb",
+            (threads.getCurrentThreadAllocatedBytes() - scenario.startAllocatedBytes) / (1024 * 1024));
+        record.put("browserPeakRssMb", browserPeakRssMb >= 0 ? browserPeakRssMb : null);
+        record.put("fidelityGaps", scenario.fidelityGaps);
+
+        String summary = String.format("%s: launch %d ms, scenario %d ms, scenario thread allocated %d MB%s",
+            scenario.backend, record.get("launchMs"), record.get("durationMs"), record.get("scenarioThreadAllocatedMb"),
+            browserPeakRssMb >= 0 ? ", browser peak RSS " + browserPeakRssMb + " MB" : "");
+        Map<String, Object> other = append(record);
+        if (other != null) {
+            summary += compare(record, other);
+        }
+        return summary;
+    }
+
+    /**
+     * Append a record to the cost file and find the latest record of the scenario on another backend
+     */
+    private static synchronized Map<String, Object> append(Map<String, Object> record) {
+        Path file = Paths.get(config.getProperty("backend.cost.path", "reports/backend-costs.jsonl"));
+        String scenarioName = (String) record.get("scenario");
+        try {
+            if (history == null) {
+                history = new HashMap<>();
+                if (Files.exists(file)) {
+                    for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                        if (!line.isBlank()) {
+                            try {
+                                Map<String, Object> earlier = json.toType(line, Json.MAP_TYPE);
+                                if (!(earlier.get("scenario") instanceof String) || !(earlier.get("backend") instanceof String)
+                                    || earlier.get("status") == null || !(earlier.get("durationMs") instanceof Number)) {
+                                    throw new JsonException("missing scenario, backend, status or durationMs");
+                                }
+                                remember(earlier);
+                            } catch (JsonException | ClassCastException e) {
+                                // A truncated line, e.g. from a killed run, must not fail the scenario
+                                logger.warn("Skipping unreadable line of {}: {}", file, e.getMessage());
+                            }
+                        }
+                    }
+                }
+            }
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, json.toJson(record).replaceAll("\\s*\\n\\s*", " ") + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.error("Failed to write backend cost: {}", e.getMessage());
+        }
+        remember(record);
+        Map<String, Object> other = null;
+        for (Map.Entry<String, Map<String, Object>> entry : history.getOrDefault(scenarioName, Map.of()).entrySet()) {
+            if (!entry.getKey().equals(record.get("backend"))) {
+                other = entry.getValue();
+            }
+        }
+        return other;
+    }
+
+    private static void remember(Map<String, Object> record) {
+        history.computeIfAbsent((String) record.get("scenario"), key -> new LinkedHashMap<>())
+            .put((String) record.get("backend"), record);
+    }
+
+    private static String compare(Map<String, Object> record, Map<String, Object> other) {
+        StringBuilder comparison = new StringBuilder(" | vs ").append(other.get("backend")).append(": ");
+        if (!record.get("status").equals(other.get("status"))) {
+            comparison.append("STATUS DIFFERS (").append(record.get("status")).append(" vs ")
+                .append(other.get("status")).append("), ");
+        }
+        double duration = ((Number) record.get("durationMs")).doubleValue();
+        double otherDuration = ((Number) other.get("durationMs")).doubleValue();
+        comparison.append(String.format("%.1fx duration", duration / Math.max(otherDuration, 1)));
+        if (!record.get("status").equals(other.get("status"))) {
+            logger.warn("Scenario '{}' {} on {} but {} on {}", record.get("scenario"), record.get("status"),
+                record.get("backend"), other.get("status"), other.get("backend"));
+        }
+        return comparison.toString();
+    }
+}
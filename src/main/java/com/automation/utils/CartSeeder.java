@@ -0,0 +1,125 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for seeding the shopping cart through browser storage
+ * Sauce Demo keeps the cart as a JSON array of product ids in localStorage,
+ * so preconditions like "items in cart" can be set with one script and one refresh
+ * instead of clicking add-to-cart for every product
+ */
+public class CartSeeder {
+    private static final Logger logger = LogManager.getLogger(CartSeeder.class);
+
+    /**
+     * localStorage key used by Sauce Demo for the cart contents
+     */
+    public static final String CART_STORAGE_KEY = "cart-contents";
+
+    /**
+     * Product ids in the order they are listed on the inventory page with the default sort (Name A to Z)
+     */
+    private static final int[] DEFAULT_INVENTORY_ORDER = {4, 0, 1, 5, 2, 3};
+
+    private static final String MERGE_CART_SCRIPT =
+        "var key = arguments[0], ids = arguments[1], replace = arguments[2];" +
+        "var current = replace ? [] : JSON.parse(window.localStorage.getItem(key) || '[]');" +
+        "for (var i = 0; i < ids.length; i++) {" +
+        "  var id = Number(ids[i]);" +
+        "  if (current.indexOf(id) < 0) { current.push(id); }" +
+        "}" +
+        "window.localStorage.setItem(key, JSON.stringify(current));" +
+        "return current.length;";
+
+    /**
+     * Replace the cart contents with the given product ids and refresh the page
+     * @param driver WebDriver instance (must be on an application page)
+     * @param productIds Sauce Demo product ids
+     */
+    public static void seedCart(WebDriver driver, int... productIds) {
+        writeCart(driver, toList(productIds), true);
+    }
+
+    /**
+     * Add the given product ids to the current cart contents and refresh the page
+     * @param driver WebDriver instance (must be on an application page)
+     * @param productIds Sauce Demo product ids
+     */
+    public static void addToCart(WebDriver driver, int... productIds) {
+        writeCart(driver, toList(productIds), false);
+    }
+
+    /**
+     * Add products to the cart by their position on the inventory page and refresh the page
+     * @param driver WebDriver instance (must be on an application page)
+     * @param indexes inventory positions (0-based, default sort order)
+     */
+    public static void addToCartByIndex(WebDriver driver, int... indexes) {
+        List<Integer> productIds = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            productIds.add(getProductIdByIndex(index));
+        }
+        writeCart(driver, productIds, false);
+    }
+
+    /**
+     * Add every product listed on the inventory page to the cart and refresh the page
+     * @param driver WebDriver instance (must be on an application page)
+     */
+    public static void addAllProductsToCart(WebDriver driver) {
+        writeCart(driver, toList(DEFAULT_INVENTORY_ORDER), false);
+    }
+
+    /**
+     * Remove all products from the cart and refresh the page
+     * @param driver WebDriver instance (must be on an application page)
+     */
+    public static void clearCart(WebDriver driver) {
+        writeCart(driver, new ArrayList<>(), true);
+    }
+
+    /**
+     * Get the product id shown at the given inventory position
+     * @param index inventory position (0-based, default sort order)
+     * @return Sauce Demo product id
+     */
+    public static int getProductIdByIndex(int index) {
+        if (index < 0 || index >= DEFAULT_INVENTORY_ORDER.length) {
+            throw new IllegalArgumentException("Invalid inventory index: " + index);
+        }
+        return DEFAULT_INVENTORY_ORDER[index];
+    }
+
+    /**
+     * Write product ids to cart storage and refresh once so the page renders the new state
+     * @param driver WebDriver instance
+     * @param productIds product ids to write
+     * @param replace true to replace the existing contents, false to merge
+     */
+    private static void writeCart(WebDriver driver, List<Integer> productIds, boolean replace) {
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            Object itemCount = js.executeScript(MERGE_CART_SCRIPT, CART_STORAGE_KEY, productIds, replace);
+            driver.navigate().refresh();
+            WaitUtils.waitForPageLoad(driver);
+            logger.info("Seeded cart with products {} (items in cart: {})", productIds, itemCount);
+        } catch (Exception e) {
+            logger.error("Failed to seed cart with products {}: {}", productIds, e.getMessage());
+            throw e;
+        }
+    }
+
+    private static List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,106 @@
+package com.automation.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Item prices and price totals of the checkout overview, read together from one page snapshot
+ * Reconciles the amounts exactly in cents: the item total is the sum of the item prices, the tax
+ * is the configured rate of the item total and the total is item total plus tax.
+ */
+public final class CheckoutSummary {
+    private final Money itemSum;
+    private final int itemCount;
+    private final Money itemTotal;
+    private final Money tax;
+    private final Money total;
+
+    private CheckoutSummary(Money itemSum, int itemCount, Money itemTotal, Money tax, Money total) {
+        this.itemSum = itemSum;
+        this.itemCount = itemCount;
+        this.itemTotal = itemTotal;
+        this.tax = tax;
+        this.total = total;
+    }
+
+    /**
+     * Parse a summary from page texts
+     * @param itemPrices item price texts, e.g. "$29.99"
+     * @param itemTotalText item total label, e.g. "Item total: $29.99"
+     * @param taxText tax label, e.g. "Tax: $2.40"
+     * @param totalText total label, e.g. "Total: $32.39"
+     * @return checkout summary
+     */
+    public static CheckoutSummary parse(List<? extends CharSequence> itemPrices, CharSequence itemTotalText,
+                                        CharSequence taxText, CharSequence totalText) {
+        return new CheckoutSummary(Money.sum(itemPrices), itemPrices.size(),
+            Money.parse(itemTotalText), Money.parse(taxText), Money.parse(totalText));
+    }
+
+    /**
+     * Get sum of the item prices
+     * @return item price sum
+     */
+    public Money getItemSum() {
+        return itemSum;
+    }
+
+    /**
+     * Get number of items
+     * @return item count
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Get displayed item total
+     * @return item total
+     */
+    public Money getItemTotal() {
+        return itemTotal;
+    }
+
+    /**
+     * Get displayed tax
+     * @return tax
+     */
+    public Money getTax() {
+        return tax;
+    }
+
+    /**
+     * Get displayed total
+     * @return total
+     */
+    public Money getTotal() {
+        return total;
+    }
+
+    /**
+     * Reconcile item prices, item total, tax and total
+     * @param taxBasisPoints tax rate in hundredths of a percent, or a negative value to skip the tax check
+     * @return description of every mismatch, empty if the summary is consistent
+     */
+    public List<String> reconcile(long taxBasisPoints) {
+        List<String> mismatches = new ArrayList<>();
+        if (!itemSum.equals(itemTotal)) {
+            mismatches.add("item total " + itemTotal + " != sum of " + itemCount + " item prices " + itemSum);
+        }
+        if (taxBasisPoints >= 0) {
+            Money expectedTax = itemTotal.percentage(taxBasisPoints);
+            if (!expectedTax.equals(tax)) {
+                mismatches.add("tax " + tax + " != " + taxBasisPoints / 100.0 + "% of " + itemTotal + " = " + expectedTax);
+            }
+        }
+        if (!itemTotal.plus(tax).equals(total)) {
+            mismatches.add("total " + total + " != item total " + itemTotal + " + tax " + tax);
+        }
+        return mismatches;
+    }
+
+    @Override
+    public String toString() {
+        return itemCount + " items, item total " + itemTotal + ", tax " + tax + ", total " + total;
+    }
+}
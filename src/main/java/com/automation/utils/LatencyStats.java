@@ -0,0 +1,116 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+
+/**
+ * Latency samples of a repeated action with percentile calculation
+ * Timings are taken with System.nanoTime around the action only, so resetting
+ * the page between iterations does not count towards the measured latency
+ */
+public class LatencyStats {
+    private static final Logger logger = LogManager.getLogger(LatencyStats.class);
+
+    private final long[] sortedNanos;
+
+    private LatencyStats(long[] nanos) {
+        this.sortedNanos = nanos.clone();
+        Arrays.sort(this.sortedNanos);
+    }
+
+    /**
+     * Run an action repeatedly and collect its latency
+     * @param iterations number of measured iterations
+     * @param reset action run before every iteration to restore the starting state, not measured
+     * @param action action to measure
+     * @return collected latency statistics
+     */
+    public static LatencyStats measure(int iterations, Runnable reset, Runnable action) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be at least 1: " + iterations);
+        }
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            reset.run();
+            long start = System.nanoTime();
+            action.run();
+            nanos[i] = System.nanoTime() - start;
+            logger.debug("Iteration {}/{}: {} ms", (i + 1), iterations, nanos[i] / 1_000_000);
+        }
+        return new LatencyStats(nanos);
+    }
+
+    /**
+     * Create statistics from latency samples collected elsewhere
+     * @param nanos samples in nanoseconds, at least one
+     * @return latency statistics
+     */
+    public static LatencyStats of(long[] nanos) {
+        if (nanos.length == 0) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        return new LatencyStats(nanos);
+    }
+
+    /**
+     * Get percentile using the nearest-rank method
+     * @param percentile percentile between 0 and 100, e.g. 95
+     * @return latency in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return toMillis(sortedNanos[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * Get fastest sample
+     * @return latency in milliseconds
+     */
+    public double getMinMillis() {
+        return toMillis(sortedNanos[0]);
+    }
+
+    /**
+     * Get slowest sample
+     * @return latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return toMillis(sortedNanos[sortedNanos.length - 1]);
+    }
+
+    /**
+     * Get mean of all samples
+     * @return latency in milliseconds
+     */
+    public double getMeanMillis() {
+        long total = 0;
+        for (long nanos : sortedNanos) {
+            total += nanos;
+        }
+        return toMillis(total / sortedNanos.length);
+    }
+
+    /**
+     * Get number of samples
+     * @return sample count
+     */
+    public int getSampleCount() {
+        return sortedNanos.length;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d min=%.1f ms p50=%.1f ms p95=%.1f ms max=%.1f ms mean=%.1f ms",
+            sortedNanos.length, getMinMillis(), getPercentileMillis(50), getPercentileMillis(95),
+            getMaxMillis(), getMeanMillis());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
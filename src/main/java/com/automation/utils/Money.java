@@ -0,0 +1,185 @@
+package com.automation.utils;
+
+import java.util.List;
+
+/**
+ * Exact dollar amount stored as whole cents
+ * Amounts are parsed straight from page text such as "$29.99" or "Item total: $129.94" by scanning
+ * the CharSequence once, without substrings or floating point, so sums and differences of parsed
+ * amounts compare exactly.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Create an amount from cents
+     * @param cents amount in cents
+     * @return money
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Parse the first dollar amount in a text
+     * @param text text containing an amount, e.g. "Tax: $8.00"
+     * @return parsed amount
+     * @throws IllegalArgumentException if the text contains no amount with at most two decimals
+     */
+    public static Money parse(CharSequence text) {
+        return ofCents(parseCents(text));
+    }
+
+    /**
+     * Parse the first dollar amount in a text into cents without allocating
+     * The amount starts after the first '$', or at the first digit if there is none; a '-' directly
+     * before the '$' or the digits makes it negative and ',' group separators are skipped.
+     * @param text text containing an amount
+     * @return amount in cents
+     * @throws IllegalArgumentException if the text contains no amount with at most two decimals
+     */
+    public static long parseCents(CharSequence text) {
+        int length = text.length();
+        int start = indexOf(text, '$');
+        if (start < 0) {
+            start = 0;
+            while (start < length && !isDigit(text.charAt(start))) {
+                start++;
+            }
+        } else {
+            start++;
+        }
+        boolean negative = start > 0 && text.charAt(start - 1) == '-'
+            || start > 1 && text.charAt(start - 1) == '$' && text.charAt(start - 2) == '-';
+
+        long dollars = 0;
+        int digits = 0;
+        int i = start;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                dollars = Math.addExact(Math.multiplyExact(dollars, 10), c - '0');
+                digits++;
+            } else if (c != ',' || digits == 0) {
+                break;
+            }
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("No dollar amount in '" + text + "'");
+        }
+
+        long fraction = 0;
+        int decimals = 0;
+        if (i < length && text.charAt(i) == '.') {
+            for (i++; i < length && isDigit(text.charAt(i)); i++) {
+                if (++decimals > 2) {
+                    throw new IllegalArgumentException("More than two decimals in '" + text + "'");
+                }
+                fraction = fraction * 10 + (text.charAt(i) - '0');
+            }
+        }
+        if (decimals == 1) {
+            fraction *= 10;
+        }
+        long cents = Math.addExact(Math.multiplyExact(dollars, 100), fraction);
+        return negative ? -cents : cents;
+    }
+
+    /**
+     * Sum the amounts of several texts
+     * @param texts texts each containing one amount, e.g. item prices
+     * @return total amount
+     */
+    public static Money sum(List<? extends CharSequence> texts) {
+        long total = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            total = Math.addExact(total, parseCents(texts.get(i)));
+        }
+        return ofCents(total);
+    }
+
+    /**
+     * Get amount in cents
+     * @return cents
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Add an amount
+     * @param other amount to add
+     * @return sum
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Subtract an amount
+     * @param other amount to subtract
+     * @return difference
+     */
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Apply a rate, rounding half cents away from zero
+     * @param basisPoints rate in hundredths of a percent, e.g. 800 for 8%
+     * @return rounded amount
+     */
+    public Money percentage(long basisPoints) {
+        long scaled = Math.multiplyExact(cents, basisPoints);
+        long rounded = scaled >= 0 ? (scaled + 5_000) / 10_000 : (scaled - 5_000) / 10_000;
+        return ofCents(rounded);
+    }
+
+    /**
+     * Convert to a double for display or legacy callers; never use the result for comparisons
+     * @return amount in dollars
+     */
+    public double toDouble() {
+        return cents / 100.0;
+    }
+
+    private static int indexOf(CharSequence text, char c) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money && ((Money) o).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        long abs = Math.abs(cents);
+        return (cents < 0 ? "-$" : "$") + abs / 100 + "." + (abs % 100 < 10 ? "0" : "") + abs % 100;
+    }
+}
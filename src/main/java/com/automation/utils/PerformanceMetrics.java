@@ -0,0 +1,263 @@
+package com.automation.utils;
+
+import com.automation.config.ConfigManager;
+import com.automation.network.DevToolsSupport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Utility class for capturing browser-side performance metrics after page transitions
+ * Collects Navigation Timing, Paint Timing and long tasks reported by PerformanceObserver
+ * and writes one JSON line per page transition to a per-scenario metrics file.
+ * Page actions only note themselves as the possible trigger; metrics are collected once a new document
+ * has loaded, signalled by CDP Page.loadEventFired or, without CDP, by a new timeOrigin at the next page load wait.
+ */
+public class PerformanceMetrics {
+    private static final Logger logger = LogManager.getLogger(PerformanceMetrics.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Json json = new Json();
+
+    private static final String LONG_TASK_OBSERVER_SCRIPT =
+        "(function() {"
+        + "  if (window.__automationLongTasks) { return; }"
+        + "  window.__automationLongTasks = [];"
+        + "  try {"
+        + "    new PerformanceObserver(function(list) {"
+        + "      list.getEntries().forEach(function(entry) {"
+        + "        window.__automationLongTasks.push({startTime: entry.startTime, duration: entry.duration});"
+        + "      });"
+        + "    }).observe({type: 'longtask', buffered: true});"
+        + "  } catch (e) {}"
+        + "})();";
+
+    private static final String COLLECT_SCRIPT =
+        LONG_TASK_OBSERVER_SCRIPT
+        + "var done = arguments[arguments.length - 1];"
+        + "function collect() {"
+        + "  var nav = performance.getEntriesByType('navigation')[0];"
+        + "  var paints = {};"
+        + "  performance.getEntriesByType('paint').forEach(function(p) { paints[p.name] = p.startTime; });"
+        + "  var user = (document.cookie.match(/(?:^|; )session-username=([^;]*)/) || [])[1];"
+        + "  done({"
+        + "    url: location.href,"
+        + "    timeOrigin: performance.timeOrigin,"
+        + "    user: user ? decodeURIComponent(user) : null,"
+        + "    ttfb: nav ? nav.responseStart : null,"
+        + "    domContentLoaded: nav ? nav.domContentLoadedEventEnd : null,"
+        + "    load: nav ? nav.loadEventEnd : null,"
+        + "    transferSize: nav ? nav.transferSize : null,"
+        + "    firstPaint: paints['first-paint'] || null,"
+        + "    firstContentfulPaint: paints['first-contentful-paint'] || null,"
+        + "    longTasks: window.__automationLongTasks.slice()"
+        + "  });"
+        + "}"
+        + "if (document.readyState === 'complete') { setTimeout(collect, 0); }"
+        + "else { window.addEventListener('load', function() { setTimeout(collect, 0); }); }";
+
+    private static final ThreadLocal<ScenarioMetrics> currentScenario = new ThreadLocal<>();
+    private static final Map<WebDriver, NavigationWatch> watches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Metrics collected for the scenario running on the current thread
+     */
+    private static final class ScenarioMetrics {
+        private final String scenarioName;
+        private final String fileName;
+        private final List<Map<String, Object>> transitions = new ArrayList<>();
+        private Object lastTimeOrigin;
+        private String pendingTrigger;
+
+        private ScenarioMetrics(String scenarioName, String fileName) {
+            this.scenarioName = scenarioName;
+            this.fileName = fileName;
+        }
+    }
+
+    /**
+     * Load events of a driver's pages reported by CDP since the last capture
+     */
+    private static final class NavigationWatch {
+        private volatile boolean loadPending;
+    }
+
+    /**
+     * Check if performance metrics capture is enabled in configuration
+     * @return true if performance.metrics.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("performance.metrics.enabled", false);
+    }
+
+    /**
+     * Register the long task observer on every new document so tasks before the first capture are not missed,
+     * and watch for page loads so metrics are only collected after a navigation
+     * Browsers without CDP register the observer at capture time instead
+     * @param driver WebDriver instance
+     */
+    public static void install(WebDriver driver) {
+        if (!DevToolsSupport.isSupported(driver) || watches.containsKey(driver)) {
+            return;
+        }
+        try {
+            NavigationWatch watch = new NavigationWatch();
+            DevTools devTools = DevToolsSupport.getDevTools(driver);
+            devTools.send(DevToolsSupport.command(
+                "Page.addScriptToEvaluateOnNewDocument", Map.of("source", LONG_TASK_OBSERVER_SCRIPT)));
+            devTools.addListener(DevToolsSupport.event("Page.loadEventFired"), params -> watch.loadPending = true);
+            devTools.send(DevToolsSupport.command("Page.enable", Collections.emptyMap()));
+            watches.put(driver, watch);
+            logger.debug("Long task observer and load watch installed");
+        } catch (Exception e) {
+            logger.debug("Failed to install long task observer: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forget page loads seen so far, e.g. before a reused driver starts the next scenario
+     * @param driver WebDriver instance
+     */
+    public static void reset(WebDriver driver) {
+        NavigationWatch watch = watches.get(driver);
+        if (watch != null) {
+            watch.loadPending = false;
+        }
+    }
+
+    /**
+     * Start collecting metrics for a scenario on the current thread
+     * @param scenarioName scenario name
+     * @param line line of the scenario or outline row, keeps the files of outline rows apart
+     */
+    public static void startScenario(String scenarioName, Integer line) {
+        String fileName = scenarioName.replaceAll("[^a-zA-Z0-9-_]", "_") + (line != null ? "_line" + line : "");
+        currentScenario.set(new ScenarioMetrics(scenarioName, fileName));
+    }
+
+    /**
+     * Note a page action that may start a navigation, without talking to the browser
+     * Metrics of a load that completed since the last capture are collected first
+     * @param driver WebDriver instance
+     * @param trigger the page object and action, e.g. "LoginPage: click"
+     */
+    public static void noteAction(WebDriver driver, String trigger) {
+        ScenarioMetrics scenario = currentScenario.get();
+        if (scenario == null || !isEnabled()) {
+            return;
+        }
+        NavigationWatch watch = watches.get(driver);
+        if (watch != null && watch.loadPending) {
+            collect(driver, scenario, scenario.pendingTrigger);
+        }
+        scenario.pendingTrigger = trigger;
+    }
+
+    /**
+     * Capture metrics after a page load wait if a new document loaded since the last capture
+     * With CDP this costs nothing unless a load event fired; without CDP the timeOrigin decides
+     * @param driver WebDriver instance
+     */
+    public static void captureIfNavigated(WebDriver driver) {
+        ScenarioMetrics scenario = currentScenario.get();
+        if (scenario == null || driver == null || !isEnabled()) {
+            return;
+        }
+        NavigationWatch watch = watches.get(driver);
+        if (watch == null || watch.loadPending) {
+            collect(driver, scenario, scenario.pendingTrigger);
+        }
+    }
+
+    /**
+     * Capture metrics of the current document after an explicit navigation if it was not captured before
+     * @param driver WebDriver instance
+     * @param trigger what caused the page transition, e.g. the page object and action
+     */
+    public static void capture(WebDriver driver, String trigger) {
+        ScenarioMetrics scenario = currentScenario.get();
+        if (scenario == null || !isEnabled()) {
+            return;
+        }
+        collect(driver, scenario, trigger);
+        scenario.pendingTrigger = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(WebDriver driver, ScenarioMetrics scenario, String trigger) {
+        NavigationWatch watch = watches.get(driver);
+        if (watch != null) {
+            watch.loadPending = false;
+        }
+        try {
+            Map<String, Object> metrics = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(COLLECT_SCRIPT);
+            Object timeOrigin = metrics.get("timeOrigin");
+            if (timeOrigin != null && timeOrigin.equals(scenario.lastTimeOrigin)) {
+                return;
+            }
+            scenario.lastTimeOrigin = timeOrigin;
+
+            List<Map<String, Object>> longTasks = (List<Map<String, Object>>) metrics.remove("longTasks");
+            double longTaskTotal = 0;
+            if (longTasks != null) {
+                for (Map<String, Object> longTask : longTasks) {
+                    longTaskTotal += ((Number) longTask.get("duration")).doubleValue();
+                }
+            }
+
+            Map<String, Object> transition = new LinkedHashMap<>();
+            transition.put("scenario", scenario.scenarioName);
+            transition.put("trigger", trigger != null ? trigger : "unknown");
+            transition.putAll(metrics);
+            transition.put("longTaskCount", longTasks != null ? longTasks.size() : 0);
+            transition.put("longTaskTotal", longTaskTotal);
+            scenario.transitions.add(transition);
+            logger.debug("Captured page metrics: {}", transition);
+        } catch (Exception e) {
+            logger.debug("Failed to capture page metrics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Write metrics of the current scenario to its file and stop collecting
+     * @return path to the metrics file, or null if nothing was captured
+     */
+    public static String finishScenario() {
+        ScenarioMetrics scenario = currentScenario.get();
+        currentScenario.remove();
+        if (scenario == null || scenario.transitions.isEmpty()) {
+            return null;
+        }
+        try {
+            Path directory = Paths.get(config.getProperty("performance.metrics.path", "reports/performance/"));
+            Files.createDirectories(directory);
+            Path file = directory.resolve(scenario.fileName + ".jsonl");
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (Map<String, Object> transition : scenario.transitions) {
+                    writer.write(json.toJson(transition).replaceAll("\\s*\\n\\s*", " "));
+                    writer.write(System.lineSeparator());
+                }
+            }
+            logger.info("Performance metrics for {} page transitions saved: {}", scenario.transitions.size(), file);
+            return file.toString();
+        } catch (IOException e) {
+            logger.error("Failed to write performance metrics: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.automation.utils;
 
 import com.automation.config.ConfigManager;
+import com.automation.jfr.ScreenshotEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
@@ -36,13 +37,14 @@ public class ScreenshotUtils {
             return null;
         }
 
+        ScreenshotEvent event = ScreenshotEvent.begin("file");
         try {
             // Create screenshots directory if it doesn't exist
             String screenshotPath = config.getProperty("screenshot.path", "screenshots/");
             Path directory = Paths.get(screenshotPath);
             if (!Files.exists(directory)) {
                 Files.createDirectories(directory);
-                logger.info("Created screenshots directory: " + directory);
+                logger.info("Created screenshots directory: {}", directory);
             }
 
             // Generate filename with timestamp
@@ -58,15 +60,20 @@ public class ScreenshotUtils {
             Path targetPath = Paths.get(fullPath);
             Files.move(screenshot.toPath(), targetPath);
 
-            logger.info("Screenshot saved: " + fullPath);
+            event.written(Files.size(targetPath), fullPath);
+            logger.info("Screenshot saved: {}", fullPath);
             return fullPath;
 
         } catch (IOException e) {
-            logger.error("Failed to take screenshot: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to take screenshot: {}", e.getMessage());
             return null;
         } catch (Exception e) {
-            logger.error("Unexpected error while taking screenshot: " + e.getMessage());
+            event.failed(e);
+            logger.error("Unexpected error while taking screenshot: {}", e.getMessage());
             return null;
+        } finally {
+            event.finish();
         }
     }
 
@@ -83,13 +90,14 @@ public class ScreenshotUtils {
             return null;
         }
 
+        ScreenshotEvent event = ScreenshotEvent.begin("file");
         try {
             // Create screenshots directory if it doesn't exist
             String screenshotPath = config.getProperty("screenshot.path", "screenshots/");
             Path directory = Paths.get(screenshotPath);
             if (!Files.exists(directory)) {
                 Files.createDirectories(directory);
-                logger.info("Created screenshots directory: " + directory);
+                logger.info("Created screenshots directory: {}", directory);
             }
 
             // Generate filename with timestamp and description
@@ -105,15 +113,20 @@ public class ScreenshotUtils {
             Path targetPath = Paths.get(fullPath);
             Files.move(screenshot.toPath(), targetPath);
 
-            logger.info("Screenshot saved: " + fullPath);
+            event.written(Files.size(targetPath), fullPath);
+            logger.info("Screenshot saved: {}", fullPath);
             return fullPath;
 
         } catch (IOException e) {
-            logger.error("Failed to take screenshot: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to take screenshot: {}", e.getMessage());
             return null;
         } catch (Exception e) {
-            logger.error("Unexpected error while taking screenshot: " + e.getMessage());
+            event.failed(e);
+            logger.error("Unexpected error while taking screenshot: {}", e.getMessage());
             return null;
+        } finally {
+            event.finish();
         }
     }
 
@@ -128,14 +141,19 @@ public class ScreenshotUtils {
             return new byte[0];
         }
 
+        ScreenshotEvent event = ScreenshotEvent.begin("bytes");
         try {
             TakesScreenshot ts = (TakesScreenshot) driver;
             byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
+            event.written(screenshot.length, null);
             logger.debug("Screenshot captured as bytes");
             return screenshot;
         } catch (Exception e) {
-            logger.error("Failed to take screenshot as bytes: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to take screenshot as bytes: {}", e.getMessage());
             return new byte[0];
+        } finally {
+            event.finish();
         }
     }
 
@@ -150,14 +168,19 @@ public class ScreenshotUtils {
             return "";
         }
 
+        ScreenshotEvent event = ScreenshotEvent.begin("base64");
         try {
             TakesScreenshot ts = (TakesScreenshot) driver;
             String screenshot = ts.getScreenshotAs(OutputType.BASE64);
+            event.written(screenshot.length(), null);
             logger.debug("Screenshot captured as base64");
             return screenshot;
         } catch (Exception e) {
-            logger.error("Failed to take screenshot as base64: " + e.getMessage());
+            event.failed(e);
+            logger.error("Failed to take screenshot as base64: {}", e.getMessage());
             return "";
+        } finally {
+            event.finish();
         }
     }
 
@@ -189,7 +212,7 @@ public class ScreenshotUtils {
                         );
                         return fileTime.isBefore(cutoffDate);
                     } catch (Exception e) {
-                        logger.warn("Could not parse date from filename: " + path.getFileName());
+                        logger.warn("Could not parse date from filename: {}", path.getFileName());
                         return false;
                     }
                 })
@@ -197,16 +220,16 @@ public class ScreenshotUtils {
                     try {
                         Files.delete(path);
                         deletedCount.incrementAndGet();
-                        logger.debug("Deleted old screenshot: " + path.getFileName());
+                        logger.debug("Deleted old screenshot: {}", path.getFileName());
                     } catch (IOException e) {
-                        logger.error("Failed to delete old screenshot: " + path.getFileName());
+                        logger.error("Failed to delete old screenshot: {}", path.getFileName());
                     }
                 });
 
-            logger.info("Cleanup completed. Deleted " + deletedCount.get() + " old screenshots");
+            logger.info("Cleanup completed. Deleted {} old screenshots", deletedCount.get());
 
         } catch (Exception e) {
-            logger.error("Error during screenshot cleanup: " + e.getMessage());
+            logger.error("Error during screenshot cleanup: {}", e.getMessage());
         }
     }
 
@@ -1,6 +1,8 @@
 package com.automation.utils;
 
 import com.automation.config.ConfigManager;
+import com.automation.jfr.WaitEvent;
+import com.automation.network.NetworkActivityTracker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
@@ -39,14 +41,18 @@ public class WaitUtils {
      * @return WebElement if found and visible
      */
     public static WebElement waitForElementVisible(WebDriver driver, By locator, int timeout) {
+        WaitEvent event = WaitEvent.begin("visible", locator, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-            logger.debug("Element visible: " + locator);
+            logger.debug("Element visible: {}", locator);
             return element;
         } catch (TimeoutException e) {
-            logger.debug("Element not visible within " + timeout + " seconds: " + locator);
+            event.failed(e);
+            logger.debug("Element not visible within {} seconds: {}", timeout, locator);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -68,14 +74,18 @@ public class WaitUtils {
      * @return WebElement if found and clickable
      */
     public static WebElement waitForElementClickable(WebDriver driver, By locator, int timeout) {
+        WaitEvent event = WaitEvent.begin("clickable", locator, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
-            logger.debug("Element clickable: " + locator);
+            logger.debug("Element clickable: {}", locator);
             return element;
         } catch (TimeoutException e) {
-            logger.error("Element not clickable within " + timeout + " seconds: " + locator);
+            event.failed(e);
+            logger.error("Element not clickable within {} seconds: {}", timeout, locator);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -97,14 +107,18 @@ public class WaitUtils {
      * @return WebElement if found
      */
     public static WebElement waitForElementPresent(WebDriver driver, By locator, int timeout) {
+        WaitEvent event = WaitEvent.begin("present", locator, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            logger.debug("Element present: " + locator);
+            logger.debug("Element present: {}", locator);
             return element;
         } catch (TimeoutException e) {
-            logger.error("Element not present within " + timeout + " seconds: " + locator);
+            event.failed(e);
+            logger.error("Element not present within {} seconds: {}", timeout, locator);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -126,14 +140,18 @@ public class WaitUtils {
      * @return List of WebElements if found and visible
      */
     public static List<WebElement> waitForAllElementsVisible(WebDriver driver, By locator, int timeout) {
+        WaitEvent event = WaitEvent.begin("all visible", locator, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             List<WebElement> elements = wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
-            logger.debug("All elements visible: " + locator + " (count: " + elements.size() + ")");
+            logger.debug("All elements visible: {} (count: {})", locator, elements.size());
             return elements;
         } catch (TimeoutException e) {
-            logger.error("Elements not visible within " + timeout + " seconds: " + locator);
+            event.failed(e);
+            logger.error("Elements not visible within {} seconds: {}", timeout, locator);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -155,14 +173,18 @@ public class WaitUtils {
      * @return true if element disappeared
      */
     public static boolean waitForElementToDisappear(WebDriver driver, By locator, int timeout) {
+        WaitEvent event = WaitEvent.begin("invisible", locator, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             boolean disappeared = wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
-            logger.debug("Element disappeared: " + locator);
+            logger.debug("Element disappeared: {}", locator);
             return disappeared;
         } catch (TimeoutException e) {
-            logger.error("Element did not disappear within " + timeout + " seconds: " + locator);
+            event.failed(e);
+            logger.error("Element did not disappear within {} seconds: {}", timeout, locator);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -184,14 +206,18 @@ public class WaitUtils {
      * @return true if title contains the text
      */
     public static boolean waitForPageTitleContains(WebDriver driver, String title, int timeout) {
+        WaitEvent event = WaitEvent.begin("title contains", title, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             boolean titleContains = wait.until(ExpectedConditions.titleContains(title));
-            logger.debug("Page title contains: " + title);
+            logger.debug("Page title contains: {}", title);
             return titleContains;
         } catch (TimeoutException e) {
-            logger.error("Page title does not contain '" + title + "' within " + timeout + " seconds");
+            event.failed(e);
+            logger.error("Page title does not contain '{}' within {} seconds", title, timeout);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -213,14 +239,18 @@ public class WaitUtils {
      * @return true if URL contains the text
      */
     public static boolean waitForUrlContains(WebDriver driver, String url, int timeout) {
+        WaitEvent event = WaitEvent.begin("url contains", url, timeout);
         try {
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
             boolean urlContains = wait.until(ExpectedConditions.urlContains(url));
-            logger.debug("URL contains: " + url);
+            logger.debug("URL contains: {}", url);
             return urlContains;
         } catch (TimeoutException e) {
-            logger.error("URL does not contain '" + url + "' within " + timeout + " seconds");
+            event.failed(e);
+            logger.error("URL does not contain '{}' within {} seconds", url, timeout);
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -234,16 +264,30 @@ public class WaitUtils {
      */
     public static <T> T waitForCondition(WebDriver driver, ExpectedCondition<T> condition, int timeout) {
         try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-            T result = wait.until(condition);
+            T result = waitUntil(driver, "condition", condition, condition, timeout);
             logger.debug("Custom condition met");
             return result;
         } catch (TimeoutException e) {
-            logger.error("Custom condition not met within " + timeout + " seconds");
+            logger.error("Custom condition not met within {} seconds", timeout);
             throw e;
         }
     }
 
+    /**
+     * Wait for a condition, recorded as exactly one wait event of the given kind
+     */
+    private static <T> T waitUntil(WebDriver driver, String kind, Object target, ExpectedCondition<T> condition, int timeout) {
+        WaitEvent event = WaitEvent.begin(kind, target, timeout);
+        try {
+            return new WebDriverWait(driver, Duration.ofSeconds(timeout)).until(condition);
+        } catch (TimeoutException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish();
+        }
+    }
+
     /**
      * Static wait (not recommended, use only when necessary)
      * @param seconds seconds to wait
@@ -251,10 +295,10 @@ public class WaitUtils {
     public static void staticWait(int seconds) {
         try {
             Thread.sleep(seconds * 1000L);
-            logger.debug("Static wait completed: " + seconds + " seconds");
+            logger.debug("Static wait completed: {} seconds", seconds);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            logger.error("Static wait interrupted: " + e.getMessage());
+            logger.error("Static wait interrupted: {}", e.getMessage());
         }
     }
 
@@ -269,9 +313,9 @@ public class WaitUtils {
         try {
             WebElement element = waitForElementClickable(driver, locator);
             element.click();
-            logger.debug("Clicked element: " + locator);
+            logger.debug("Clicked element: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to click element " + locator + ": " + e.getMessage());
+            logger.error("Failed to click element {}: {}", locator, e.getMessage());
             throw e;
         }
     }
@@ -286,9 +330,9 @@ public class WaitUtils {
             WebElement element = waitForElementVisible(driver, locator);
             JavascriptExecutor js = (JavascriptExecutor) driver;
             js.executeScript("arguments[0].click();", element);
-            logger.debug("Clicked element with JavaScript: " + locator);
+            logger.debug("Clicked element with JavaScript: {}", locator);
         } catch (Exception e) {
-            logger.error("Failed to click element with JavaScript " + locator + ": " + e.getMessage());
+            logger.error("Failed to click element with JavaScript {}: {}", locator, e.getMessage());
             throw e;
         }
     }
@@ -304,9 +348,9 @@ public class WaitUtils {
             WebElement element = waitForElementVisible(driver, locator);
             element.clear();
             element.sendKeys(text);
-            logger.debug("Typed text '" + text + "' into element: " + locator);
+            logger.debug("Typed text '{}' into element: {}", text, locator);
         } catch (Exception e) {
-            logger.error("Failed to type text into element " + locator + ": " + e.getMessage());
+            logger.error("Failed to type text into element {}: {}", locator, e.getMessage());
             throw e;
         }
     }
@@ -321,10 +365,10 @@ public class WaitUtils {
         try {
             WebElement element = waitForElementVisible(driver, locator);
             String text = element.getText();
-            logger.debug("Got text '" + text + "' from element: " + locator);
+            logger.debug("Got text '{}' from element: {}", text, locator);
             return text;
         } catch (Exception e) {
-            logger.error("Failed to get text from element " + locator + ": " + e.getMessage());
+            logger.error("Failed to get text from element {}: {}", locator, e.getMessage());
             throw e;
         }
     }
@@ -340,10 +384,10 @@ public class WaitUtils {
         try {
             WebElement element = waitForElementVisible(driver, locator);
             String value = element.getAttribute(attribute);
-            logger.debug("Got attribute '" + attribute + "' = '" + value + "' from element: " + locator);
+            logger.debug("Got attribute '{}' = '{}' from element: {}", attribute, value, locator);
             return value;
         } catch (Exception e) {
-            logger.error("Failed to get attribute from element " + locator + ": " + e.getMessage());
+            logger.error("Failed to get attribute from element {}: {}", locator, e.getMessage());
             throw e;
         }
     }
@@ -358,10 +402,10 @@ public class WaitUtils {
         try {
             WebElement element = waitForElementVisible(driver, locator);
             boolean displayed = element.isDisplayed();
-            logger.debug("Element displayed: " + locator + " = " + displayed);
+            logger.debug("Element displayed: {} = {}", locator, displayed);
             return displayed;
         } catch (Exception e) {
-            logger.debug("Element not displayed: " + locator);
+            logger.debug("Element not displayed: {}", locator);
             return false;
         }
     }
@@ -376,10 +420,10 @@ public class WaitUtils {
         try {
             WebElement element = waitForElementVisible(driver, locator);
             boolean enabled = element.isEnabled();
-            logger.debug("Element enabled: " + locator + " = " + enabled);
+            logger.debug("Element enabled: {} = {}", locator, enabled);
             return enabled;
         } catch (Exception e) {
-            logger.error("Failed to check if element is enabled " + locator + ": " + e.getMessage());
+            logger.error("Failed to check if element is enabled {}: {}", locator, e.getMessage());
             return false;
         }
     }
@@ -389,15 +433,54 @@ public class WaitUtils {
      * @param driver WebDriver instance
      */
     public static void waitForPageLoad(WebDriver driver) {
+        if (NetworkActivityTracker.get(driver) != null) {
+            waitForNetworkIdle(driver,
+                config.getIntProperty("network.idle.quiet.ms", 500),
+                config.getIntProperty("network.idle.max.inflight", 0));
+            PerformanceMetrics.captureIfNavigated(driver);
+            return;
+        }
+        waitForDocumentComplete(driver);
+        PerformanceMetrics.captureIfNavigated(driver);
+    }
+
+    private static void waitForDocumentComplete(WebDriver driver) {
         try {
-            waitForCondition(driver, 
-                webDriver -> ((JavascriptExecutor) webDriver)
-                    .executeScript("return document.readyState").equals("complete"), 
+            waitUntil(driver, "page load", null,
+                webDriver -> ((JavascriptExecutor) webDriver).executeScript("return document.readyState").equals("complete"),
                 config.getPageLoadTimeout());
             logger.debug("Page loaded completely");
         } catch (Exception e) {
-            logger.error("Page did not load completely: " + e.getMessage());
+            logger.error("Page did not load completely: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Wait until the browser network is idle
+     * Completes as soon as CDP network events report the page quiescent; falls back to
+     * document.readyState when the driver has no network activity tracker attached
+     * @param driver WebDriver instance
+     * @param quietMillis time without network activity required to consider the page idle
+     * @param maxInflight number of requests allowed to stay open (e.g. long polling)
+     */
+    public static void waitForNetworkIdle(WebDriver driver, long quietMillis, int maxInflight) {
+        NetworkActivityTracker tracker = NetworkActivityTracker.get(driver);
+        if (tracker == null) {
+            logger.debug("Network activity tracking not available - waiting for document ready state");
+            waitForDocumentComplete(driver);
+            return;
+        }
+        WaitEvent event = WaitEvent.begin("network idle", null, config.getPageLoadTimeout());
+        try {
+            tracker.waitForIdle(Duration.ofMillis(quietMillis), maxInflight, Duration.ofSeconds(config.getPageLoadTimeout()));
+            logger.debug("Network idle (quiet {} ms, max in flight {})", quietMillis, maxInflight);
+        } catch (Exception e) {
+            event.failed(e);
+            logger.error("Network did not become idle: {}", e.getMessage());
             throw e;
+        } finally {
+            event.finish();
         }
     }
 
@@ -411,7 +494,7 @@ public class WaitUtils {
             try {
                 Alert alert = driver.switchTo().alert();
                 String alertText = alert.getText();
-                logger.info("Handling alert: " + alertText);
+                logger.info("Handling alert: {}", alertText);
                 
                 if (alertText.contains("Change your password") || 
                     alertText.contains("password") || 
@@ -421,7 +504,7 @@ public class WaitUtils {
                     logger.info("Accepted Chrome password popup");
                 } else {
                     alert.dismiss();
-                    logger.info("Dismissed unexpected alert: " + alertText);
+                    logger.info("Dismissed unexpected alert: {}", alertText);
                 }
             } catch (NoAlertPresentException e) {
                 // No alert present, which is fine
@@ -433,11 +516,11 @@ public class WaitUtils {
                 // Switch back to default content in case we were in a frame
                 driver.switchTo().defaultContent();
             } catch (Exception e) {
-                logger.debug("Error switching to default content: " + e.getMessage());
+                logger.debug("Error switching to default content: {}", e.getMessage());
             }
             
         } catch (Exception e) {
-            logger.warn("Error handling Chrome popups: " + e.getMessage());
+            logger.warn("Error handling Chrome popups: {}", e.getMessage());
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,463 @@
+package com.automation.benchmarks;
+
+import com.automation.config.ConfigManager;
+import com.automation.drivers.DriverRegistry;
+import com.automation.drivers.WebDriverFactory;
+import com.automation.pages.CartPage;
+import com.automation.pages.CheckoutPage;
+import com.automation.pages.InventoryPage;
+import com.automation.pages.LoginPage;
+import com.automation.stub.SauceDemoStubServer;
+import com.automation.utils.CartSeeder;
+import com.automation.utils.LatencyStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end benchmark of page object methods against the local Sauce Demo stand-in
+ * Each method runs in a headless browser for a number of iterations; latency percentiles and
+ * WebDriver round trips per call are compared with a stored baseline and regressions fail the run.
+ * Latency is only compared with a baseline recorded in the same browser; round trips do not depend on it.
+ * Without a baseline the comparison is skipped, which is logged and recorded in the results file.
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=com.automation.benchmarks.PageObjectBenchmark -Dexec.classpathScope=test
+ */
+public class PageObjectBenchmark {
+    private static final Logger logger = LogManager.getLogger(PageObjectBenchmark.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Json json = new Json();
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "navigate", "switchTo", "getWrappedDriver",
+        "getWrappedElement", "getDevTools", "maybeGetDevTools", "toString", "hashCode", "equals");
+
+    private static final String USER = "standard_user";
+    private static final String PASSWORD = "secret_sauce";
+    private static final String BACKPACK = "Sauce Labs Backpack";
+    private static final int BACKPACK_ID = 4;
+    private static final int BIKE_LIGHT_ID = 0;
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+    private final Map<String, String> errors = new LinkedHashMap<>();
+    private final int iterations;
+    private final int warmupIterations;
+    private final String browser;
+    private final String baseUrl;
+    private final WebDriver rawDriver;
+    private final WebDriver driver;
+    private final LoginPage loginPage;
+    private final InventoryPage inventoryPage;
+    private final CartPage cartPage;
+    private final CheckoutPage checkoutPage;
+
+    /**
+     * Counts WebDriver commands sent to the browser
+     */
+    private final class RoundTripCounter implements WebDriverListener {
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            if (!LOCAL_CALLS.contains(method.getName())) {
+                roundTrips.incrementAndGet();
+            }
+        }
+    }
+
+    private PageObjectBenchmark(String baseUrl, WebDriver rawDriver) {
+        this.iterations = config.getIntProperty("page.benchmark.iterations", 20);
+        this.warmupIterations = config.getIntProperty("page.benchmark.warmup", 3);
+        this.browser = config.getBrowser();
+        this.baseUrl = baseUrl;
+        this.rawDriver = rawDriver;
+        this.driver = new EventFiringDecorator<>(new RoundTripCounter()).decorate(rawDriver);
+        this.loginPage = new LoginPage(driver);
+        this.inventoryPage = new InventoryPage(driver);
+        this.cartPage = new CartPage(driver);
+        this.checkoutPage = new CheckoutPage(driver);
+    }
+
+    /**
+     * Run all page object benchmarks and compare them with the baseline
+     * @param args unused
+     */
+    public static void main(String[] args) throws IOException {
+        config.setProperty("headless", "true");
+        String baseUrl = SauceDemoStubServer.getInstance().start();
+        WebDriver rawDriver = WebDriverFactory.createDriver();
+        List<String> regressions;
+        try {
+            PageObjectBenchmark benchmark = new PageObjectBenchmark(baseUrl, rawDriver);
+            benchmark.runLoginPage();
+            benchmark.runInventoryPage();
+            benchmark.runCartPage();
+            benchmark.runCheckoutPage();
+            regressions = benchmark.report();
+        } finally {
+            DriverRegistry.quit(rawDriver);
+            SauceDemoStubServer.getInstance().stop();
+        }
+        System.exit(regressions.isEmpty() ? 0 : 1);
+    }
+
+    private void runLoginPage() {
+        read("LoginPage.isLoginPageDisplayed", this::openLogin, loginPage::isLoginPageDisplayed);
+        read("LoginPage.verifyLoginPageElements", this::openLogin, loginPage::verifyLoginPageElements);
+        read("LoginPage.waitForLoginPageToLoad", this::openLogin, loginPage::waitForLoginPageToLoad);
+        read("LoginPage.isUsernameFieldDisplayed", this::openLogin, loginPage::isUsernameFieldDisplayed);
+        read("LoginPage.isPasswordFieldDisplayed", this::openLogin, loginPage::isPasswordFieldDisplayed);
+        read("LoginPage.isLoginButtonDisplayed", this::openLogin, loginPage::isLoginButtonDisplayed);
+        read("LoginPage.isLoginButtonEnabled", this::openLogin, loginPage::isLoginButtonEnabled);
+        read("LoginPage.getLoginButtonText", this::openLogin, loginPage::getLoginButtonText);
+        read("LoginPage.getUsernameFieldPlaceholder", this::openLogin, loginPage::getUsernameFieldPlaceholder);
+        read("LoginPage.getPasswordFieldPlaceholder", this::openLogin, loginPage::getPasswordFieldPlaceholder);
+        read("LoginPage.isLoginLogoDisplayed", this::openLogin, loginPage::isLoginLogoDisplayed);
+        read("LoginPage.isBotImageDisplayed", this::openLogin, loginPage::isBotImageDisplayed);
+        read("LoginPage.getErrorMessage", this::openLoginWithError, loginPage::getErrorMessage);
+        read("LoginPage.isErrorMessageDisplayed", this::openLoginWithError, loginPage::isErrorMessageDisplayed);
+
+        action("LoginPage.navigateToLoginPage", this::openLogin, loginPage::navigateToLoginPage);
+        action("LoginPage.enterUsername", this::openLogin, () -> loginPage.enterUsername(USER));
+        action("LoginPage.enterPassword", this::openLogin, () -> loginPage.enterPassword(PASSWORD));
+        action("LoginPage.clearUsernameField", this::openLogin, loginPage::clearUsernameField);
+        action("LoginPage.clearPasswordField", this::openLogin, loginPage::clearPasswordField);
+        action("LoginPage.closeErrorMessage", this::openLoginWithError, loginPage::closeErrorMessage);
+        action("LoginPage.clickLoginButton", this::openLoginWithCredentials, loginPage::clickLoginButton);
+        action("LoginPage.login", this::openLogin, () -> loginPage.login(USER, PASSWORD));
+        action("LoginPage.loginWithStandardUser", this::openLogin, loginPage::loginWithStandardUser);
+        action("LoginPage.loginWithLockedOutUser", this::openLogin, loginPage::loginWithLockedOutUser);
+        action("LoginPage.loginWithProblemUser", this::openLogin, loginPage::loginWithProblemUser);
+        action("LoginPage.loginWithPerformanceGlitchUser", this::openLogin, loginPage::loginWithPerformanceGlitchUser);
+    }
+
+    private void runInventoryPage() {
+        Runnable inventoryWithItem = () -> open("inventory.html", BACKPACK_ID);
+        Runnable emptyInventory = () -> open("inventory.html");
+
+        read("InventoryPage.waitForInventoryPageToLoad", inventoryWithItem, inventoryPage::waitForInventoryPageToLoad);
+        read("InventoryPage.isInventoryPageDisplayed", inventoryWithItem, inventoryPage::isInventoryPageDisplayed);
+        read("InventoryPage.verifyInventoryPageElements", inventoryWithItem, inventoryPage::verifyInventoryPageElements);
+        read("InventoryPage.getPageTitle", inventoryWithItem, inventoryPage::getPageTitle);
+        read("InventoryPage.isPageTitleDisplayed", inventoryWithItem, inventoryPage::isPageTitleDisplayed);
+        read("InventoryPage.getInventoryTitle", inventoryWithItem, inventoryPage::getInventoryTitle);
+        read("InventoryPage.isCartIconDisplayed", inventoryWithItem, inventoryPage::isCartIconDisplayed);
+        read("InventoryPage.getCartBadgeCount", inventoryWithItem, inventoryPage::getCartBadgeCount);
+        read("InventoryPage.isCartBadgeDisplayed", inventoryWithItem, inventoryPage::isCartBadgeDisplayed);
+        read("InventoryPage.isMenuButtonDisplayed", inventoryWithItem, inventoryPage::isMenuButtonDisplayed);
+        read("InventoryPage.getCurrentSortOption", inventoryWithItem, inventoryPage::getCurrentSortOption);
+        read("InventoryPage.getInventoryItemCount", inventoryWithItem, inventoryPage::getInventoryItemCount);
+        read("InventoryPage.getAllProductNames", inventoryWithItem, inventoryPage::getAllProductNames);
+        read("InventoryPage.getAllProductPrices", inventoryWithItem, inventoryPage::getAllProductPrices);
+        read("InventoryPage.getAllProductDescriptions", inventoryWithItem, inventoryPage::getAllProductDescriptions);
+        read("InventoryPage.getProductButtonText", inventoryWithItem, () -> inventoryPage.getProductButtonText(BACKPACK));
+        read("InventoryPage.getProductButtonTextByIndex", inventoryWithItem, () -> inventoryPage.getProductButtonTextByIndex(0));
+        read("InventoryPage.isProductInCart", inventoryWithItem, () -> inventoryPage.isProductInCart(BACKPACK));
+        read("InventoryPage.isProductInCartByIndex", inventoryWithItem, () -> inventoryPage.isProductInCartByIndex(0));
+
+        action("InventoryPage.clickCartIcon", emptyInventory, inventoryPage::clickCartIcon);
+        action("InventoryPage.clickMenuButton", emptyInventory, inventoryPage::clickMenuButton);
+        action("InventoryPage.selectSortOption", emptyInventory, () -> inventoryPage.selectSortOption("Price (low to high)"));
+        action("InventoryPage.sortByNameAZ", emptyInventory, inventoryPage::sortByNameAZ);
+        action("InventoryPage.sortByNameZA", emptyInventory, inventoryPage::sortByNameZA);
+        action("InventoryPage.sortByPriceLowToHigh", emptyInventory, inventoryPage::sortByPriceLowToHigh);
+        action("InventoryPage.sortByPriceHighToLow", emptyInventory, inventoryPage::sortByPriceHighToLow);
+        action("InventoryPage.addProductToCart", emptyInventory, () -> inventoryPage.addProductToCart(BACKPACK));
+        action("InventoryPage.addProductToCartByIndex", emptyInventory, () -> inventoryPage.addProductToCartByIndex(0));
+        action("InventoryPage.removeProductFromCart", inventoryWithItem, () -> inventoryPage.removeProductFromCart(BACKPACK));
+        action("InventoryPage.removeProductFromCartByIndex", inventoryWithItem, () -> inventoryPage.removeProductFromCartByIndex(0));
+        action("InventoryPage.clickProductName", emptyInventory, () -> inventoryPage.clickProductName(BACKPACK));
+        action("InventoryPage.clickProductNameByIndex", emptyInventory, () -> inventoryPage.clickProductNameByIndex(0));
+        action("InventoryPage.clickProductImage", emptyInventory, () -> inventoryPage.clickProductImage(BACKPACK));
+        action("InventoryPage.clickProductImageByIndex", emptyInventory, () -> inventoryPage.clickProductImageByIndex(0));
+    }
+
+    private void runCartPage() {
+        Runnable cart = () -> open("cart.html", BACKPACK_ID, BIKE_LIGHT_ID);
+
+        read("CartPage.waitForCartPageToLoad", cart, cartPage::waitForCartPageToLoad);
+        read("CartPage.isCartPageDisplayed", cart, cartPage::isCartPageDisplayed);
+        read("CartPage.verifyCartPageElements", cart, cartPage::verifyCartPageElements);
+        read("CartPage.getPageTitle", cart, cartPage::getPageTitle);
+        read("CartPage.isPageTitleDisplayed", cart, cartPage::isPageTitleDisplayed);
+        read("CartPage.getCartTitle", cart, cartPage::getCartTitle);
+        read("CartPage.isCartIconDisplayed", cart, cartPage::isCartIconDisplayed);
+        read("CartPage.getCartBadgeCount", cart, cartPage::getCartBadgeCount);
+        read("CartPage.isCartBadgeDisplayed", cart, cartPage::isCartBadgeDisplayed);
+        read("CartPage.isMenuButtonDisplayed", cart, cartPage::isMenuButtonDisplayed);
+        read("CartPage.isContinueShoppingButtonDisplayed", cart, cartPage::isContinueShoppingButtonDisplayed);
+        read("CartPage.isCheckoutButtonDisplayed", cart, cartPage::isCheckoutButtonDisplayed);
+        read("CartPage.isCheckoutButtonEnabled", cart, cartPage::isCheckoutButtonEnabled);
+        read("CartPage.getCartItemCount", cart, cartPage::getCartItemCount);
+        read("CartPage.isCartEmpty", cart, cartPage::isCartEmpty);
+        read("CartPage.getAllCartItemNames", cart, cartPage::getAllCartItemNames);
+        read("CartPage.getAllCartItemPrices", cart, cartPage::getAllCartItemPrices);
+        read("CartPage.getAllCartItemDescriptions", cart, cartPage::getAllCartItemDescriptions);
+        read("CartPage.getTotalPrice", cart, cartPage::getTotalPrice);
+        read("CartPage.isItemInCart", cart, () -> cartPage.isItemInCart(BACKPACK));
+        read("CartPage.getRemoveButtonText", cart, () -> cartPage.getRemoveButtonText(BACKPACK));
+        read("CartPage.getRemoveButtonTextByIndex", cart, () -> cartPage.getRemoveButtonTextByIndex(0));
+        read("CartPage.getItemPrice", cart, () -> cartPage.getItemPrice(BACKPACK));
+        read("CartPage.getItemPriceByIndex", cart, () -> cartPage.getItemPriceByIndex(0));
+        read("CartPage.getItemDescription", cart, () -> cartPage.getItemDescription(BACKPACK));
+        read("CartPage.getItemDescriptionByIndex", cart, () -> cartPage.getItemDescriptionByIndex(0));
+        read("CartPage.getCartItemNameByIndex", cart, () -> cartPage.getCartItemNameByIndex(0));
+        read("CartPage.getCartItemPriceByIndex", cart, () -> cartPage.getCartItemPriceByIndex(0));
+        read("CartPage.getCartItemButtonTextByIndex", cart, () -> cartPage.getCartItemButtonTextByIndex(0));
+
+        action("CartPage.clickCartIcon", cart, cartPage::clickCartIcon);
+        action("CartPage.clickMenuButton", cart, cartPage::clickMenuButton);
+        action("CartPage.clickContinueShopping", cart, cartPage::clickContinueShopping);
+        action("CartPage.clickCheckout", cart, cartPage::clickCheckout);
+        action("CartPage.removeItemFromCart", cart, () -> cartPage.removeItemFromCart(BACKPACK));
+        action("CartPage.removeItemFromCartByIndex", cart, () -> cartPage.removeItemFromCartByIndex(0));
+        action("CartPage.clickItemName", cart, () -> cartPage.clickItemName(BACKPACK));
+        action("CartPage.clickItemNameByIndex", cart, () -> cartPage.clickItemNameByIndex(0));
+        action("CartPage.clearCart", cart, cartPage::clearCart);
+    }
+
+    private void runCheckoutPage() {
+        Runnable information = () -> open("checkout-step-one.html", BACKPACK_ID, BIKE_LIGHT_ID);
+        Runnable informationWithError = () -> {
+            information.run();
+            rawDriver.findElement(By.id("continue")).click();
+        };
+        Runnable informationFilled = () -> {
+            information.run();
+            rawDriver.findElement(By.id("first-name")).sendKeys("John");
+            rawDriver.findElement(By.id("last-name")).sendKeys("Doe");
+            rawDriver.findElement(By.id("postal-code")).sendKeys("12345");
+        };
+        Runnable overview = () -> open("checkout-step-two.html", BACKPACK_ID, BIKE_LIGHT_ID);
+        Runnable complete = () -> open("checkout-complete.html");
+
+        read("CheckoutPage.waitForCheckoutPageToLoad", information, checkoutPage::waitForCheckoutPageToLoad);
+        read("CheckoutPage.waitForCheckoutInformationPageToLoad", information, checkoutPage::waitForCheckoutInformationPageToLoad);
+        read("CheckoutPage.isCheckoutInformationPageDisplayed", information, checkoutPage::isCheckoutInformationPageDisplayed);
+        read("CheckoutPage.verifyCheckoutInformationPageElements", information, checkoutPage::verifyCheckoutInformationPageElements);
+        read("CheckoutPage.getPageTitle", information, checkoutPage::getPageTitle);
+        read("CheckoutPage.isPageTitleDisplayed", information, checkoutPage::isPageTitleDisplayed);
+        read("CheckoutPage.isCartIconDisplayed", information, checkoutPage::isCartIconDisplayed);
+        read("CheckoutPage.getCartBadgeCount", information, checkoutPage::getCartBadgeCount);
+        read("CheckoutPage.isCartBadgeDisplayed", information, checkoutPage::isCartBadgeDisplayed);
+        read("CheckoutPage.isMenuButtonDisplayed", information, checkoutPage::isMenuButtonDisplayed);
+        read("CheckoutPage.isCancelButtonDisplayed", information, checkoutPage::isCancelButtonDisplayed);
+        read("CheckoutPage.isContinueButtonDisplayed", information, checkoutPage::isContinueButtonDisplayed);
+        read("CheckoutPage.isContinueButtonEnabled", information, checkoutPage::isContinueButtonEnabled);
+        read("CheckoutPage.isFirstNameFieldDisplayed", information, checkoutPage::isFirstNameFieldDisplayed);
+        read("CheckoutPage.isLastNameFieldDisplayed", information, checkoutPage::isLastNameFieldDisplayed);
+        read("CheckoutPage.isPostalCodeFieldDisplayed", information, checkoutPage::isPostalCodeFieldDisplayed);
+        read("CheckoutPage.getFirstName", informationFilled, checkoutPage::getFirstName);
+        read("CheckoutPage.getLastName", informationFilled, checkoutPage::getLastName);
+        read("CheckoutPage.getPostalCode", informationFilled, checkoutPage::getPostalCode);
+        read("CheckoutPage.getErrorMessage", informationWithError, checkoutPage::getErrorMessage);
+        read("CheckoutPage.isErrorMessageDisplayed", informationWithError, checkoutPage::isErrorMessageDisplayed);
+
+        action("CheckoutPage.enterFirstName", information, () -> checkoutPage.enterFirstName("John"));
+        action("CheckoutPage.enterLastName", information, () -> checkoutPage.enterLastName("Doe"));
+        action("CheckoutPage.enterPostalCode", information, () -> checkoutPage.enterPostalCode("12345"));
+        action("CheckoutPage.fillCheckoutInformation", information,
+            () -> checkoutPage.fillCheckoutInformation("John", "Doe", "12345"));
+        action("CheckoutPage.clickContinue", informationFilled, checkoutPage::clickContinue);
+        action("CheckoutPage.clickCancel", information, checkoutPage::clickCancel);
+        action("CheckoutPage.clickCartIcon", information, checkoutPage::clickCartIcon);
+        action("CheckoutPage.clickMenuButton", information, checkoutPage::clickMenuButton);
+
+        read("CheckoutPage.waitForCheckoutOverviewPageToLoad", overview, checkoutPage::waitForCheckoutOverviewPageToLoad);
+        read("CheckoutPage.isCheckoutOverviewPageDisplayed", overview, checkoutPage::isCheckoutOverviewPageDisplayed);
+        read("CheckoutPage.verifyCheckoutOverviewPageElements", overview, checkoutPage::verifyCheckoutOverviewPageElements);
+        read("CheckoutPage.getCheckoutItemCount", overview, checkoutPage::getCheckoutItemCount);
+        read("CheckoutPage.getAllCheckoutItemNames", overview, checkoutPage::getAllCheckoutItemNames);
+        read("CheckoutPage.getAllCheckoutItemPrices", overview, checkoutPage::getAllCheckoutItemPrices);
+        read("CheckoutPage.getSubtotalText", overview, checkoutPage::getSubtotalText);
+        read("CheckoutPage.getTaxText", overview, checkoutPage::getTaxText);
+        read("CheckoutPage.getTotalText", overview, checkoutPage::getTotalText);
+        read("CheckoutPage.getSubtotalAmount", overview, checkoutPage::getSubtotalAmount);
+        read("CheckoutPage.getTaxAmount", overview, checkoutPage::getTaxAmount);
+        read("CheckoutPage.getTotalAmount", overview, checkoutPage::getTotalAmount);
+        read("CheckoutPage.isFinishButtonDisplayed", overview, checkoutPage::isFinishButtonDisplayed);
+        read("CheckoutPage.isFinishButtonEnabled", overview, checkoutPage::isFinishButtonEnabled);
+        action("CheckoutPage.clickFinish", overview, checkoutPage::clickFinish);
+
+        read("CheckoutPage.waitForCheckoutCompletePageToLoad", complete, checkoutPage::waitForCheckoutCompletePageToLoad);
+        read("CheckoutPage.isCheckoutComplete", complete, checkoutPage::isCheckoutComplete);
+        read("CheckoutPage.isOrderConfirmationPageDisplayed", complete, checkoutPage::isOrderConfirmationPageDisplayed);
+        read("CheckoutPage.verifyCheckoutCompletePageElements", complete, checkoutPage::verifyCheckoutCompletePageElements);
+        read("CheckoutPage.getOrderConfirmationMessage", complete, checkoutPage::getOrderConfirmationMessage);
+        read("CheckoutPage.getCompleteHeader", complete, checkoutPage::getCompleteHeader);
+        read("CheckoutPage.getCompleteText", complete, checkoutPage::getCompleteText);
+        read("CheckoutPage.isCompleteHeaderDisplayed", complete, checkoutPage::isCompleteHeaderDisplayed);
+        read("CheckoutPage.isCompleteTextDisplayed", complete, checkoutPage::isCompleteTextDisplayed);
+        read("CheckoutPage.isPonyExpressImageDisplayed", complete, checkoutPage::isPonyExpressImageDisplayed);
+        read("CheckoutPage.isBackToProductsButtonDisplayed", complete, checkoutPage::isBackToProductsButtonDisplayed);
+        action("CheckoutPage.clickBackToProducts", complete, checkoutPage::clickBackToProducts);
+    }
+
+    /**
+     * Benchmark a method that does not change page state; the page is prepared once
+     */
+    private void read(String name, Runnable prepare, Runnable method) {
+        prepare.run();
+        measure(name, () -> { }, method);
+    }
+
+    /**
+     * Benchmark a method that changes page state; the page is prepared before every iteration
+     */
+    private void action(String name, Runnable prepare, Runnable method) {
+        measure(name, prepare, method);
+    }
+
+    private void measure(String name, Runnable prepare, Runnable method) {
+        int[] tripsPerCall = new int[1];
+        Runnable counted = () -> {
+            int before = roundTrips.get();
+            method.run();
+            tripsPerCall[0] = Math.max(tripsPerCall[0], roundTrips.get() - before);
+        };
+        try {
+            LatencyStats.measure(warmupIterations, prepare, counted);
+            tripsPerCall[0] = 0;
+            LatencyStats stats = LatencyStats.measure(iterations, prepare, counted);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("roundTrips", tripsPerCall[0]);
+            result.put("p50", round(stats.getPercentileMillis(50)));
+            result.put("p95", round(stats.getPercentileMillis(95)));
+            result.put("max", round(stats.getMaxMillis()));
+            results.put(name, result);
+            logger.info("{}: {} round trips, {}", name, tripsPerCall[0], stats);
+        } catch (Exception e) {
+            errors.put(name, e.getClass().getSimpleName() + ": " + e.getMessage());
+            logger.warn("Benchmark {} failed: {}", name, e.getMessage());
+        }
+    }
+
+    private void openLogin() {
+        rawDriver.manage().deleteAllCookies();
+        rawDriver.get(baseUrl);
+    }
+
+    private void openLoginWithCredentials() {
+        openLogin();
+        rawDriver.findElement(By.id("user-name")).sendKeys(USER);
+        rawDriver.findElement(By.id("password")).sendKeys(PASSWORD);
+    }
+
+    private void openLoginWithError() {
+        openLogin();
+        rawDriver.findElement(By.id("login-button")).click();
+    }
+
+    /**
+     * Open a page as a logged in user with the given cart, without going through the UI
+     */
+    private void open(String page, int... cartProductIds) {
+        rawDriver.get(baseUrl);
+        rawDriver.manage().addCookie(new Cookie("session-username", USER, "/"));
+        CartSeeder.seedCart(rawDriver, cartProductIds);
+        rawDriver.get(baseUrl + page);
+    }
+
+    /**
+     * Write results, compare them with the baseline and print the report
+     * @return regressions found
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> report() throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("browser", browser);
+        document.put("iterations", iterations);
+        document.put("results", results);
+        document.put("errors", errors);
+
+        Path resultsFile = Paths.get(config.getProperty("page.benchmark.results", "target/page-benchmarks/results.json"));
+        Path baselineFile = Paths.get(config.getProperty("page.benchmark.baseline",
+            "src/test/resources/benchmarks/page-object-baseline.json"));
+        if (config.getBooleanProperty("page.benchmark.update.baseline", false)) {
+            writeResults(resultsFile, document);
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            Files.writeString(baselineFile, json.toJson(document), StandardCharsets.UTF_8);
+            logger.info("Baseline updated: {}", baselineFile);
+            return List.of();
+        }
+        if (!Files.exists(baselineFile)) {
+            document.put("baselineComparison", "SKIPPED: no baseline at " + baselineFile);
+            writeResults(resultsFile, document);
+            logger.warn("BASELINE COMPARISON SKIPPED - no baseline at {}; regressions are not checked. "
+                + "Run with -Dpage.benchmark.update.baseline=true to store one", baselineFile);
+            return List.of();
+        }
+
+        Map<String, Object> baseline = json.toType(Files.readString(baselineFile, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        Map<String, Map<String, Object>> baselineResults = (Map<String, Map<String, Object>>) baseline.get("results");
+        // Latency of another browser is not comparable, e.g. a baseline recorded in HtmlUnit against a Chrome run
+        boolean compareLatency = browser.equals(baseline.get("browser"));
+        if (compareLatency) {
+            document.put("baselineComparison", "round trips and p95 against " + baselineFile);
+        } else {
+            document.put("baselineComparison", "round trips only against " + baselineFile + " (recorded in "
+                + baseline.get("browser") + ")");
+            logger.warn("Baseline {} was recorded in {}, not {} - comparing round trips only",
+                baselineFile, baseline.get("browser"), browser);
+        }
+        writeResults(resultsFile, document);
+        double threshold = config.getIntProperty("page.benchmark.threshold.percent", 25) / 100.0;
+        double minRegressionMillis = config.getIntProperty("page.benchmark.min.regression.ms", 5);
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : baselineResults.entrySet()) {
+            String name = entry.getKey();
+            Map<String, Object> expected = entry.getValue();
+            Map<String, Object> actual = results.get(name);
+            if (actual == null) {
+                regressions.add(name + ": no longer runs (" + errors.getOrDefault(name, "missing") + ")");
+                continue;
+            }
+            int expectedTrips = ((Number) expected.get("roundTrips")).intValue();
+            int actualTrips = ((Number) actual.get("roundTrips")).intValue();
+            if (actualTrips > expectedTrips) {
+                regressions.add(name + ": round trips " + expectedTrips + " -> " + actualTrips);
+            }
+            if (!compareLatency || !expected.containsKey("p95")) {
+                continue;
+            }
+            double expectedP95 = ((Number) expected.get("p95")).doubleValue();
+            double actualP95 = ((Number) actual.get("p95")).doubleValue();
+            if (actualP95 > expectedP95 * (1 + threshold) && actualP95 - expectedP95 > minRegressionMillis) {
+                regressions.add(name + ": p95 " + expectedP95 + " ms -> " + actualP95 + " ms");
+            }
+        }
+
+        if (regressions.isEmpty()) {
+            logger.info("No page object regressions against baseline ({} methods)", baselineResults.size());
+        } else {
+            regressions.forEach(regression -> logger.error("Regression: {}", regression));
+        }
+        return regressions;
+    }
+
+    private static void writeResults(Path resultsFile, Map<String, Object> document) throws IOException {
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        Files.writeString(resultsFile, json.toJson(document), StandardCharsets.UTF_8);
+        logger.info("Page object benchmark results saved: {}", resultsFile);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 10) / 10.0;
+    }
+}
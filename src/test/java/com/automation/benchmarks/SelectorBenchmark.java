@@ -0,0 +1,97 @@
+package com.automation.benchmarks;
+
+import com.automation.base.LocatorTemplate;
+import com.automation.config.ConfigManager;
+import com.automation.drivers.DriverRegistry;
+import com.automation.drivers.WebDriverFactory;
+import com.automation.stub.SauceDemoStubServer;
+import com.automation.utils.CartSeeder;
+import com.automation.utils.LatencyStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Selector evaluation benchmark of the name-based XPath locators formerly built in InventoryPage and CartPage
+ * against the LocatorTemplate lookups replacing them, on the local Sauce Demo stand-in with a full cart.
+ * Both sides include one WebDriver round trip, so the difference is the selector evaluation in the browser.
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=com.automation.benchmarks.SelectorBenchmark -Dexec.classpathScope=test
+ */
+public class SelectorBenchmark {
+    private static final Logger logger = LogManager.getLogger(SelectorBenchmark.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final String PRODUCT = "Sauce Labs Fleece Jacket";
+    private static final int[] ALL_PRODUCT_IDS = {0, 1, 2, 3, 4, 5};
+
+    private static final LocatorTemplate INVENTORY_BUTTON =
+        LocatorTemplate.within(".inventory_item", ".inventory_item_name", "button.btn_inventory");
+    private static final LocatorTemplate CART_PRICE =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", ".inventory_item_price");
+    private static final LocatorTemplate CART_REMOVE_BUTTON =
+        LocatorTemplate.within(".cart_item", ".inventory_item_name", "button.btn_secondary");
+
+    private final WebDriver driver;
+    private final int iterations;
+    private final int warmupIterations;
+
+    private SelectorBenchmark(WebDriver driver) {
+        this.driver = driver;
+        this.iterations = config.getIntProperty("page.benchmark.iterations", 20) * 10;
+        this.warmupIterations = config.getIntProperty("page.benchmark.warmup", 3) * 10;
+    }
+
+    /**
+     * Compare XPath and template lookups on the inventory and cart pages
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        config.setProperty("headless", "true");
+        String baseUrl = SauceDemoStubServer.getInstance().start();
+        WebDriver driver = WebDriverFactory.createDriver();
+        try {
+            SelectorBenchmark benchmark = new SelectorBenchmark(driver);
+            driver.get(baseUrl);
+            driver.manage().addCookie(new Cookie("session-username", "standard_user", "/"));
+            CartSeeder.seedCart(driver, ALL_PRODUCT_IDS);
+
+            driver.get(baseUrl + "inventory.html");
+            benchmark.compare("inventory button by name",
+                By.xpath("//div[contains(@class, 'inventory_item') and .//div[contains(@class, 'inventory_item_name') and text()='"
+                    + PRODUCT + "']]//button[contains(@class, 'btn_inventory')]"),
+                INVENTORY_BUTTON.byName(PRODUCT));
+            benchmark.compare("inventory button by index",
+                By.xpath("(//button[contains(@class, 'btn_inventory')])[6]"),
+                INVENTORY_BUTTON.byIndex(5));
+
+            driver.get(baseUrl + "cart.html");
+            benchmark.compare("cart price by name",
+                By.xpath("//div[contains(@class, 'cart_item') and .//div[contains(@class, 'inventory_item_name') and text()='"
+                    + PRODUCT + "']]//div[contains(@class, 'inventory_item_price')]"),
+                CART_PRICE.byName(PRODUCT));
+            benchmark.compare("cart remove button by index",
+                By.xpath("(//div[contains(@class, 'cart_item')]//button[contains(@class, 'btn_secondary')])[6]"),
+                CART_REMOVE_BUTTON.byIndex(5));
+        } finally {
+            DriverRegistry.quit(driver);
+            SauceDemoStubServer.getInstance().stop();
+        }
+    }
+
+    private void compare(String name, By before, By after) {
+        if (driver.findElements(before).size() != 1 || driver.findElements(after).size() != 1) {
+            logger.error("{}: locators do not resolve to exactly one element", name);
+            return;
+        }
+        // Warm up both sides first, so the side measured first does not pay for JIT and browser caches
+        LatencyStats.measure(warmupIterations, () -> { }, () -> driver.findElements(before));
+        LatencyStats.measure(warmupIterations, () -> { }, () -> driver.findElements(after));
+        LatencyStats xpath = LatencyStats.measure(iterations, () -> { }, () -> driver.findElements(before));
+        LatencyStats template = LatencyStats.measure(iterations, () -> { }, () -> driver.findElements(after));
+        logger.info(String.format("%s: XPath p50 %.3f ms p95 %.3f ms, template p50 %.3f ms p95 %.3f ms", name,
+            xpath.getPercentileMillis(50), xpath.getPercentileMillis(95),
+            template.getPercentileMillis(50), template.getPercentileMillis(95)));
+    }
+}
@@ -1,13 +1,24 @@
 package com.automation.hooks;
 
+import com.automation.base.ElementCache;
+import com.automation.config.ConfigManager;
+import com.automation.drivers.BrowserProcessMonitor;
+import com.automation.drivers.DriverRegistry;
+import com.automation.jfr.FlightRecording;
+import com.automation.logging.ScenarioLog;
 import com.automation.stepdefinitions.TestContext;
+import com.automation.stub.SauceDemoStubServer;
+import com.automation.utils.BackendCost;
+import com.automation.utils.PerformanceMetrics;
 import com.automation.utils.ScreenshotUtils;
 import com.automation.utils.WaitUtils;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeStep;
 import io.cucumber.java.Scenario;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TakesScreenshot;
 
 /**
  * TestHooks class for Cucumber setup and teardown operations
@@ -27,10 +38,34 @@ public class TestHooks {
      */
     @Before
     public void setUp(Scenario scenario) {
+        // Buffer this scenario's log events; they are only written out if it fails
+        ScenarioLog.start(scenario.getName());
         logger.info("Starting scenario: {}", scenario.getName());
         
-        // Initialize WebDriver and navigate to application
-        testContext.initializeDriver();
+        // Record the suite with Java Flight Recorder and tag framework events with this scenario
+        if (FlightRecording.isEnabled()) {
+            FlightRecording.startSuiteRecording();
+        }
+        FlightRecording.setScenario(scenario.getName());
+        
+        // Serve the application locally when the stand-in server is enabled
+        if (SauceDemoStubServer.isEnabled()) {
+            SauceDemoStubServer.getInstance().start();
+        }
+        
+        // Collect page transition metrics and element cache counters for this scenario
+        PerformanceMetrics.startScenario(scenario.getName(), scenario.getLine());
+        ElementCache.resetStatistics();
+        
+        // Initialize WebDriver and navigate to application; @lightweight scenarios run without a rendering browser
+        String browser = chooseBrowser(scenario);
+        BackendCost.startScenario(scenario.getName(), browser);
+        long launchStart = System.nanoTime();
+        testContext.initializeDriver(browser);
+        BackendCost.driverLaunched(testContext.getDriver(), System.nanoTime() - launchStart);
+        if (testContext.getBrowserProcessMonitor() != null) {
+            testContext.getBrowserProcessMonitor().setScenario(scenario.getName());
+        }
         testContext.navigateToApplication();
         
         // Handle any Chrome popups that might appear
@@ -39,37 +74,143 @@ public class TestHooks {
         logger.info("WebDriver initialized and navigated to application");
     }
 
+    /**
+     * Remember page and session state before each step, restored if the browser crashes during it
+     * Only does work with session.recovery.enabled
+     */
+    @BeforeStep
+    public void checkpointSession() {
+        testContext.checkpointSession();
+    }
+
     /**
      * Cleanup after each scenario
      */
     @After
     public void tearDown(Scenario scenario) {
-        logger.info("Finishing scenario: {}", scenario.getName());
-        
-        // Log scenario status
-        if (scenario.isFailed()) {
-            logger.error("Scenario '{}' failed", scenario.getName());
-            
-            // Capture screenshot for failed scenarios
-            try {
-                String screenshotPath = ScreenshotUtils.takeScreenshot(testContext.getDriver(), scenario.getName());
-                logger.info("Screenshot captured for failed scenario: {}", screenshotPath);
-                
-                // Log current URL and page title for debugging
-                String currentUrl = testContext.getDriver().getCurrentUrl();
-                String pageTitle = testContext.getDriver().getTitle();
-                logger.error("Failed scenario details - URL: {}, Title: {}", currentUrl, pageTitle);
-                
-            } catch (Exception e) {
-                logger.error("Failed to capture screenshot: {}", e.getMessage());
+        try {
+            logger.info("Finishing scenario: {}", scenario.getName());
+
+            // Report browser sessions replaced after a crash
+            for (String recovery : testContext.getSessionRecoveries()) {
+                logger.warn("Browser session recovered in scenario '{}': {}", scenario.getName(), recovery);
+                scenario.log("Browser session recovered: " + recovery);
+            }
+
+            // Log scenario status
+            if (scenario.isFailed()) {
+                logger.error("Scenario '{}' failed", scenario.getName());
+
+                // Capture screenshot for failed scenarios, unless the browser is gone or cannot render
+                if (!testContext.isSessionAlive()) {
+                    logger.error("Browser session of failed scenario is not responding, no screenshot taken");
+                } else if (!(testContext.getDriver() instanceof TakesScreenshot)) {
+                    logger.error("Failed scenario details - URL: {} (backend cannot take screenshots)",
+                        testContext.getDriver().getCurrentUrl());
+                } else {
+                    try {
+                        String screenshotPath = ScreenshotUtils.takeScreenshot(testContext.getDriver(), scenario.getName());
+                        logger.info("Screenshot captured for failed scenario: {}", screenshotPath);
+
+                        // Log current URL and page title for debugging
+                        String currentUrl = testContext.getDriver().getCurrentUrl();
+                        String pageTitle = testContext.getDriver().getTitle();
+                        logger.error("Failed scenario details - URL: {}, Title: {}", currentUrl, pageTitle);
+
+                    } catch (Exception e) {
+                        logger.error("Failed to capture screenshot: {}", e.getMessage());
+                    }
+                }
+            } else {
+                logger.info("Scenario '{}' passed", scenario.getName());
+            }
+
+            // Report request blocking savings
+            if (testContext.getNetworkPolicy() != null) {
+                String networkSummary = testContext.getNetworkPolicy().getSummary();
+                logger.info("Network policy for scenario '{}': {}", scenario.getName(), networkSummary);
+                scenario.log("Network policy: " + networkSummary);
+            }
+
+            // Write page transition metrics, including a page the last step loaded without waiting for it
+            PerformanceMetrics.captureIfNavigated(testContext.getDriver());
+            String metricsPath = PerformanceMetrics.finishScenario();
+            if (metricsPath != null) {
+                scenario.log("Performance metrics: " + metricsPath);
+            }
+
+            // Report element cache hit rate
+            String cacheStatistics = ElementCache.getStatistics().toString();
+            logger.info("Element cache for scenario '{}': {}", scenario.getName(), cacheStatistics);
+            scenario.log("Element cache: " + cacheStatistics);
+
+            // Save the recorded HTTP traffic as a replay script
+            if (testContext.getTrafficRecorder() != null) {
+                String scriptPath = testContext.getTrafficRecorder().save(scenario.getName(), scenario.getLine());
+                if (scriptPath != null) {
+                    scenario.log("Traffic script: " + scriptPath);
+                }
+            }
+
+            // Report browser process resources; the timeline is written once the driver is quit or recycled
+            BrowserProcessMonitor browserMonitor = testContext.getBrowserProcessMonitor();
+            if (browserMonitor != null) {
+                String resourceSummary = browserMonitor.getSummary();
+                logger.info("Browser resources for scenario '{}': {}", scenario.getName(), resourceSummary);
+                scenario.log("Browser resources: " + resourceSummary);
+                browserMonitor.setScenario(null);
+            }
+
+            // Report driver backend cost, compared with the last run of this scenario on another backend
+            String backendCost = BackendCost.finishScenario(scenario.getStatus().name(),
+                browserMonitor != null ? browserMonitor.getPeakRssMb() : -1);
+            if (backendCost != null) {
+                logger.info("Backend cost for scenario '{}': {}", scenario.getName(), backendCost);
+                scenario.log("Backend cost: " + backendCost);
+            }
+
+            // Clean up WebDriver
+            testContext.cleanup();
+            if (browserMonitor != null && browserMonitor.getTimelinePath() != null) {
+                scenario.log("Browser resource timeline: " + browserMonitor.getTimelinePath());
+            }
+            logger.info("Test cleanup completed");
+        } finally {
+            FlightRecording.clearScenario();
+
+            // Write a one-line summary, plus the buffered scenario log for failures
+            String logFile = ScenarioLog.finish(scenario.getName(), scenario.isFailed());
+            if (logFile != null) {
+                scenario.log("Scenario log: " + logFile);
             }
-        } else {
-            logger.info("Scenario '{}' passed", scenario.getName());
         }
-        
-        // Clean up WebDriver
-        testContext.cleanup();
-        
-        logger.info("Test cleanup completed");
     }
-}
\ No newline at end of file
+
+    /**
+     * Choose the browser for a scenario; @lightweight scenarios use lightweight.browser unless routing is disabled
+     * @param scenario scenario about to start
+     * @return browser name
+     */
+    private String chooseBrowser(Scenario scenario) {
+        ConfigManager config = testContext.getConfigManager();
+        if (scenario.getSourceTagNames().contains("@lightweight") && config.getBooleanProperty("lightweight.enabled", true)) {
+            return config.getProperty("lightweight.browser", "htmlunit");
+        }
+        return config.getProperty("browser", "chrome");
+    }
+
+    /**
+     * Quit drivers the scenario left open, runs after tearDown even if it failed
+     */
+    @After(order = 0)
+    public void reapLeakedDrivers(Scenario scenario) {
+        int reaped = DriverRegistry.reapScenarioDrivers();
+        if (reaped > 0) {
+            logger.warn("Scenario '{}' leaked {} driver(s), quit them", scenario.getName(), reaped);
+            scenario.log("Leaked drivers quit: " + reaped);
+        }
+        String driverSummary = DriverRegistry.getSummary();
+        logger.info("Drivers after scenario '{}': {}", scenario.getName(), driverSummary);
+        scenario.log("Drivers: " + driverSummary);
+    }
+}
@@ -0,0 +1,373 @@
+package com.automation.load;
+
+import com.automation.config.ConfigManager;
+import com.automation.drivers.DriverRegistry;
+import com.automation.drivers.WebDriverFactory;
+import com.automation.pages.CartPage;
+import com.automation.pages.CheckoutPage;
+import com.automation.pages.InventoryPage;
+import com.automation.pages.LoginPage;
+import com.automation.stub.SauceDemoStubServer;
+import com.automation.utils.LatencyStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browser-based load generator driving the page objects with concurrent headless browsers
+ * Each virtual user owns one browser and repeatedly runs a journey picked from a weighted mix.
+ * Users start evenly spread over the ramp-up phase, all run during steady state and stop evenly
+ * spread over the ramp-down phase. Latency percentiles and throughput are reported per transaction
+ * from the steady-state samples. Without load.base.url the local Sauce Demo stand-in is started.
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=com.automation.load.LoadRunner -Dexec.classpathScope=test
+ */
+public class LoadRunner {
+    private static final Logger logger = LogManager.getLogger(LoadRunner.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Json json = new Json();
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private static final String PRODUCT = "Sauce Labs Backpack";
+
+    private final String baseUrl;
+    private final int users;
+    private final long rampUpNanos;
+    private final long steadyNanos;
+    private final long rampDownNanos;
+    private final long thinkTimeMillis;
+    private final Map<Journey, Integer> mix;
+    private final int totalWeight;
+    private final Map<String, Queue<Sample>> samples = new ConcurrentHashMap<>();
+    private final Map<String, Queue<String>> errors = new ConcurrentHashMap<>();
+    private long startNanos;
+
+    /**
+     * User journeys built from page object flows; each journey starts logged out on the login page
+     */
+    enum Journey {
+        LOGIN("login"),
+        ADD_TO_CART("addToCart"),
+        CHECKOUT("checkout");
+
+        private final String key;
+
+        Journey(String key) {
+            this.key = key;
+        }
+
+        static Journey fromKey(String key) {
+            for (Journey journey : values()) {
+                if (journey.key.equalsIgnoreCase(key)) {
+                    return journey;
+                }
+            }
+            throw new IllegalArgumentException("Unknown load journey: " + key);
+        }
+    }
+
+    /**
+     * Completed transaction
+     */
+    private static final class Sample {
+        private final long endNanos;
+        private final long durationNanos;
+
+        private Sample(long endNanos, long durationNanos) {
+            this.endNanos = endNanos;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    /**
+     * Transaction of a journey that failed; the rest of the journey is skipped
+     */
+    private static final class TransactionFailure extends RuntimeException {
+        private TransactionFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Browser of one virtual user with its page objects
+     */
+    private final class VirtualUser {
+        private final WebDriver driver;
+        private final LoginPage loginPage;
+        private final InventoryPage inventoryPage;
+        private final CartPage cartPage;
+        private final CheckoutPage checkoutPage;
+
+        private VirtualUser(WebDriver driver) {
+            this.driver = driver;
+            this.loginPage = new LoginPage(driver);
+            this.inventoryPage = new InventoryPage(driver);
+            this.cartPage = new CartPage(driver);
+            this.checkoutPage = new CheckoutPage(driver);
+        }
+
+        private void run(Journey journey) {
+            resetSession();
+            long start = System.nanoTime();
+            try {
+                transaction("login", () -> {
+                    driver.get(baseUrl);
+                    loginPage.login(config.getProperty("standard.user"), config.getProperty("password"));
+                    inventoryPage.waitForInventoryPageToLoad();
+                });
+                if (journey != Journey.LOGIN) {
+                    transaction("addProductToCart", () -> inventoryPage.addProductToCart(PRODUCT));
+                }
+                if (journey == Journey.CHECKOUT) {
+                    transaction("openCart", () -> {
+                        inventoryPage.clickCartIcon();
+                        cartPage.waitForCartPageToLoad();
+                    });
+                    transaction("clickCheckout", () -> {
+                        cartPage.clickCheckout();
+                        checkoutPage.waitForCheckoutInformationPageToLoad();
+                    });
+                    transaction("fillCheckoutInformation", () -> {
+                        checkoutPage.fillCheckoutInformation("Load", "User", "12345");
+                        checkoutPage.clickContinue();
+                        checkoutPage.waitForCheckoutOverviewPageToLoad();
+                    });
+                }
+                record("journey:" + journey.key, start);
+            } catch (TransactionFailure e) {
+                error("journey:" + journey.key, e.getCause());
+            }
+        }
+
+        private void resetSession() {
+            try {
+                driver.manage().deleteAllCookies();
+                ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (RuntimeException e) {
+                logger.debug("Failed to reset session: {}", e.getMessage());
+            }
+        }
+
+        private void transaction(String name, Runnable flow) {
+            long start = System.nanoTime();
+            try {
+                flow.run();
+            } catch (RuntimeException e) {
+                error(name, e);
+                throw new TransactionFailure(e);
+            }
+            record(name, start);
+        }
+    }
+
+    private LoadRunner(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.users = Math.max(1, config.getIntProperty("load.users", 5));
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos(config.getIntProperty("load.rampup.seconds", 30));
+        this.steadyNanos = TimeUnit.SECONDS.toNanos(config.getIntProperty("load.steady.seconds", 120));
+        this.rampDownNanos = TimeUnit.SECONDS.toNanos(config.getIntProperty("load.rampdown.seconds", 30));
+        this.thinkTimeMillis = config.getIntProperty("load.think.time.ms", 1000);
+        this.mix = parseMix(config.getProperty("load.journeys", "login:5,addToCart:3,checkout:2"));
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Run the configured load profile and write the report
+     * @param args unused
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        config.setProperty("headless", "true");
+        String baseUrl = config.getProperty("load.base.url", "");
+        boolean localStandIn = baseUrl.isBlank();
+        if (localStandIn) {
+            baseUrl = SauceDemoStubServer.getInstance().start();
+        }
+        try {
+            LoadRunner runner = new LoadRunner(baseUrl);
+            runner.run();
+            runner.report();
+        } finally {
+            if (localStandIn) {
+                SauceDemoStubServer.getInstance().stop();
+            }
+        }
+    }
+
+    private void run() throws InterruptedException {
+        logger.info("Load run against {}: {} users, mix {}, ramp-up {} s, steady {} s, ramp-down {} s",
+            baseUrl, users, mix, TimeUnit.NANOSECONDS.toSeconds(rampUpNanos),
+            TimeUnit.NANOSECONDS.toSeconds(steadyNanos), TimeUnit.NANOSECONDS.toSeconds(rampDownNanos));
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        startNanos = System.nanoTime();
+        for (int i = 0; i < users; i++) {
+            // Users start in order over the ramp-up and the last started stops first during ramp-down
+            long startOffset = rampUpNanos * i / users;
+            long stopOffset = rampUpNanos + steadyNanos + rampDownNanos * (users - i) / users;
+            int user = i + 1;
+            executor.submit(() -> runUser(user, startOffset, stopOffset));
+        }
+        executor.shutdown();
+        executor.awaitTermination(rampUpNanos + steadyNanos + rampDownNanos + TimeUnit.MINUTES.toNanos(5),
+            TimeUnit.NANOSECONDS);
+    }
+
+    private void runUser(int user, long startOffset, long stopOffset) {
+        if (!sleepUntil(startOffset)) {
+            return;
+        }
+        WebDriver driver;
+        try {
+            driver = WebDriverFactory.createDriver();
+        } catch (RuntimeException e) {
+            logger.error("Virtual user {} could not start a browser: {}", user, e.getMessage());
+            error("browserStart", e);
+            return;
+        }
+        logger.info("Virtual user {} started", user);
+        try {
+            VirtualUser virtualUser = new VirtualUser(driver);
+            while (System.nanoTime() - startNanos < stopOffset) {
+                virtualUser.run(pickJourney());
+                if (!sleepUntil(System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(thinkTimeMillis))) {
+                    break;
+                }
+            }
+        } finally {
+            DriverRegistry.quit(driver);
+            logger.info("Virtual user {} stopped", user);
+        }
+    }
+
+    private Journey pickJourney() {
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Journey, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        return Journey.LOGIN;
+    }
+
+    private boolean sleepUntil(long offsetNanos) {
+        long remaining = offsetNanos - (System.nanoTime() - startNanos);
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void record(String name, long start) {
+        long end = System.nanoTime();
+        samples.computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>()).add(new Sample(end - startNanos, end - start));
+    }
+
+    private void error(String name, Throwable e) {
+        errors.computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>())
+            .add(e.getClass().getSimpleName() + ": " + e.getMessage());
+        logger.warn("Transaction {} failed: {}", name, e.getMessage());
+    }
+
+    /**
+     * Write per-transaction percentiles and throughput of the steady-state phase
+     */
+    private void report() throws IOException {
+        long steadyStart = rampUpNanos;
+        long steadyEnd = rampUpNanos + steadyNanos;
+        double steadySeconds = Math.max(steadyNanos / 1e9, 1e-3);
+
+        List<String> names = new ArrayList<>(samples.keySet());
+        errors.keySet().stream().filter(name -> !names.contains(name)).forEach(names::add);
+        names.sort(null);
+
+        Map<String, Object> transactions = new LinkedHashMap<>();
+        for (String name : names) {
+            List<Sample> all = new ArrayList<>(samples.getOrDefault(name, new ConcurrentLinkedQueue<>()));
+            long[] steady = all.stream()
+                .filter(sample -> sample.endNanos >= steadyStart && sample.endNanos < steadyEnd)
+                .mapToLong(sample -> sample.durationNanos).toArray();
+            int errorCount = errors.getOrDefault(name, new ConcurrentLinkedQueue<>()).size();
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", all.size());
+            result.put("errors", errorCount);
+            result.put("steadyCount", steady.length);
+            result.put("throughputPerSecond", round(steady.length / steadySeconds));
+            if (steady.length > 0) {
+                LatencyStats stats = LatencyStats.of(steady);
+                for (double percentile : PERCENTILES) {
+                    result.put("p" + (int) percentile, round(stats.getPercentileMillis(percentile)));
+                }
+                result.put("max", round(stats.getMaxMillis()));
+                result.put("mean", round(stats.getMeanMillis()));
+                logger.info("{}: {}/s, {} errors, {}", name, result.get("throughputPerSecond"), errorCount, stats);
+            } else {
+                logger.info("{}: no steady-state samples, {} errors", name, errorCount);
+            }
+            transactions.put(name, result);
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("baseUrl", baseUrl);
+        document.put("users", users);
+        document.put("mix", mix);
+        document.put("rampUpSeconds", TimeUnit.NANOSECONDS.toSeconds(rampUpNanos));
+        document.put("steadySeconds", TimeUnit.NANOSECONDS.toSeconds(steadyNanos));
+        document.put("rampDownSeconds", TimeUnit.NANOSECONDS.toSeconds(rampDownNanos));
+        document.put("transactions", transactions);
+
+        Path resultsFile = Paths.get(config.getProperty("load.results", "target/load/results.json"));
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        Files.writeString(resultsFile, json.toJson(document), StandardCharsets.UTF_8);
+        logger.info("Load run results saved: {}", resultsFile);
+    }
+
+    /**
+     * Parse a journey mix such as "login:5,addToCart:3,checkout:2"
+     */
+    private static Map<Journey, Integer> parseMix(String value) {
+        Map<Journey, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] keyWeight = part.trim().split(":");
+            int weight = keyWeight.length > 1 ? Integer.parseInt(keyWeight[1].trim()) : 1;
+            if (weight > 0) {
+                mix.put(Journey.fromKey(keyWeight[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.journeys has no journey with a positive weight: " + value);
+        }
+        return mix;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.automation.load;
+
+import com.automation.config.ConfigManager;
+import com.automation.replay.ProtocolReplay;
+import com.automation.replay.TrafficScript;
+import com.automation.stub.SauceDemoStubServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Protocol-level load generator replaying a recorded traffic script without browsers
+ * Record a script by running scenarios with -Dtraffic.recording.enabled=true, then replay it with thousands of
+ * virtual-thread users. Without replay.script the newest script in traffic.recording.path is used; without
+ * replay.base.url the local Sauce Demo stand-in is started and replaced for the recorded origin.
+ * Run with: mvn test-compile exec:java -Dexec.mainClass=com.automation.load.ProtocolLoadRunner -Dexec.classpathScope=test
+ */
+public class ProtocolLoadRunner {
+    private static final Logger logger = LogManager.getLogger(ProtocolLoadRunner.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Json json = new Json();
+
+    /**
+     * Replay the configured script and write the report
+     * @param args unused
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path scriptFile = findScript();
+        TrafficScript script = TrafficScript.load(scriptFile);
+        logger.info("Loaded traffic script {} with {} transactions", scriptFile, script.getTransactions().size());
+
+        String baseUrl = config.getProperty("replay.base.url", "");
+        boolean localStandIn = baseUrl.isBlank();
+        if (localStandIn) {
+            baseUrl = SauceDemoStubServer.getInstance().start();
+        }
+        Map<String, Object> report;
+        try {
+            URI uri = URI.create(baseUrl);
+            report = new ProtocolReplay(script, Map.of("origin", uri.getScheme() + "://" + uri.getRawAuthority())).run();
+        } finally {
+            if (localStandIn) {
+                SauceDemoStubServer.getInstance().stop();
+            }
+        }
+
+        Path resultsFile = Paths.get(config.getProperty("replay.results", "target/replay/results.json"));
+        Files.createDirectories(resultsFile.toAbsolutePath().getParent());
+        Files.writeString(resultsFile, json.toJson(report), StandardCharsets.UTF_8);
+        logger.info("Replay results saved: {}", resultsFile);
+    }
+
+    private static Path findScript() throws IOException {
+        String configured = config.getProperty("replay.script", "");
+        if (!configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        Path directory = Paths.get(config.getProperty("traffic.recording.path", "reports/traffic/"));
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                Path newest = files.filter(file -> file.toString().endsWith(".json"))
+                    .max(Comparator.comparingLong(file -> file.toFile().lastModified()))
+                    .orElse(null);
+                if (newest != null) {
+                    return newest;
+                }
+            }
+        }
+        throw new IllegalStateException("No traffic script in " + directory
+            + " - record one with -Dtraffic.recording.enabled=true or set replay.script");
+    }
+}
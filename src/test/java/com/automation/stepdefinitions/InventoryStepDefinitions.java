@@ -1,6 +1,11 @@
 package com.automation.stepdefinitions;
 
+import com.automation.network.NetworkPolicy;
 import com.automation.pages.InventoryPage;
+import com.automation.utils.CartSeeder;
+import com.automation.utils.CheckoutSummary;
+import com.automation.utils.LatencyStats;
+import com.automation.utils.Money;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import io.cucumber.java.en.Then;
@@ -11,11 +16,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
-
-import java.time.Duration;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -135,7 +136,7 @@ public class InventoryStepDefinitions {
     public void i_have_added_a_product_to_cart() {
         logger.info("Adding a product to cart");
         
-        inventoryPage.addProductToCartByIndex(0);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0);
         Assert.assertTrue("Product should be in cart", inventoryPage.isProductInCartByIndex(0));
     }
 
@@ -296,42 +297,7 @@ public class InventoryStepDefinitions {
     @When("I click the {string} button")
     public void i_click_the_button(String buttonText) {
         logger.info("Clicking {} button", buttonText);
-        WebElement button = null;
-        
-        try {
-            // Try case-insensitive button text search first
-            button = testContext.getDriver().findElement(By.xpath("//button[contains(translate(text(), 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'), '" + buttonText.toLowerCase() + "')]"));
-        } catch (Exception e) {
-            try {
-                // Try link elements with case-insensitive search
-                button = testContext.getDriver().findElement(By.xpath("//a[contains(translate(text(), 'ABCDEFGHIJKLMNOPQRSTUVWXYZ', 'abcdefghijklmnopqrstuvwxyz'), '" + buttonText.toLowerCase() + "')]"));
-            } catch (Exception e2) {
-                // Handle special cases through burger menu (like "Back to products")
-                try {
-                    // First click the burger menu using the correct selector
-                    WebElement burgerMenu = testContext.getDriver().findElement(By.xpath("//button[contains(text(), 'Open Menu')]"));
-                    burgerMenu.click();
-                    
-                    // Wait for menu to open and element to become clickable
-                    Thread.sleep(1000);
-                    
-                    // Wait for "All Items" link to be clickable
-                    WebDriverWait wait = new WebDriverWait(testContext.getDriver(), Duration.ofSeconds(10));
-                    button = wait.until(ExpectedConditions.elementToBeClickable(By.id("inventory_sidebar_link")));
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Thread was interrupted while waiting");
-                } catch (Exception ex) {
-                    throw new RuntimeException("Could not find burger menu or All Items link: " + ex.getMessage());
-                }
-            }
-        }
-        
-        if (button != null) {
-            button.click();
-        } else {
-            throw new RuntimeException("Could not find button with text: " + buttonText);
-        }
+        testContext.getClickableResolver().click(buttonText);
     }
 
 
@@ -389,8 +355,7 @@ public class InventoryStepDefinitions {
     @Given("I have added products to cart")
     public void i_have_added_products_to_cart() {
         logger.info("Adding multiple products to cart");
-        inventoryPage.addProductToCartByIndex(0);
-        inventoryPage.addProductToCartByIndex(1);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0, 1);
         Assert.assertTrue("Cart should have items", inventoryPage.getCartBadgeCount() > 0);
     }
 
@@ -431,6 +396,7 @@ public class InventoryStepDefinitions {
     @Then("each product card should have an image")
     public void each_product_card_should_have_an_image() {
         logger.info("Verifying each product card has an image");
+        allowProductImages();
         List<WebElement> productImages = testContext.getDriver().findElements(By.cssSelector(".inventory_item .inventory_item_img"));
         int productCount = inventoryPage.getInventoryItemCount();
         Assert.assertTrue("Each product should have at least one image", productImages.size() >= productCount);
@@ -482,8 +448,7 @@ public class InventoryStepDefinitions {
         logger.info("Verifying all product prices are greater than zero");
         List<String> prices = inventoryPage.getAllProductPrices();
         for (String price : prices) {
-            double priceValue = Double.parseDouble(price.replace("$", ""));
-            Assert.assertTrue("Price should be greater than zero", priceValue > 0);
+            Assert.assertTrue("Price should be greater than zero", Money.parse(price).getCents() > 0);
         }
     }
 
@@ -506,9 +471,29 @@ public class InventoryStepDefinitions {
         Assert.assertTrue("Page should load within " + seconds + " seconds", loadTime <= seconds);
     }
 
+    @Then("the inventory page should load within {int} ms at p{int} over {int} iterations")
+    public void the_inventory_page_should_load_within_ms_at_percentile(Integer budgetMillis, Integer percentile, Integer iterations) {
+        String actionName = testContext.getRepeatableActionName();
+        Assert.assertNotNull("No repeatable action recorded before the latency step", actionName);
+        logger.info("Measuring '{}' until inventory page loads over {} iterations", actionName, iterations);
+
+        Runnable action = testContext.getRepeatableAction();
+        // Stop the clock once the page is usable; the network idle quiet window is not page latency
+        LatencyStats stats = LatencyStats.measure(iterations, testContext.getRepeatableActionReset(), () -> {
+            action.run();
+            inventoryPage.waitForInventoryPageShown();
+        });
+        double measured = stats.getPercentileMillis(percentile);
+        logger.info("Latency of '{}': {}", actionName, stats);
+        Assert.assertTrue("Inventory page p" + percentile + " after '" + actionName + "' should be within "
+            + budgetMillis + " ms but was " + String.format("%.1f", measured) + " ms (" + stats + ")",
+            measured <= budgetMillis);
+    }
+
     @Then("all product images should be loaded")
     public void all_product_images_should_be_loaded() {
         logger.info("Verifying all product images are loaded");
+        allowProductImages();
         List<WebElement> images = testContext.getDriver().findElements(By.className("inventory_item_img"));
         for (WebElement image : images) {
             Assert.assertTrue("Product image should be displayed", image.isDisplayed());
@@ -520,7 +505,7 @@ public class InventoryStepDefinitions {
     public void i_have_items_in_my_cart() {
         logger.info("Ensuring items are in cart");
         if (inventoryPage.getCartBadgeCount() == 0) {
-            inventoryPage.addProductToCartByIndex(0);
+            CartSeeder.addToCartByIndex(testContext.getDriver(), 0);
         }
         Assert.assertTrue("Cart should have items", inventoryPage.getCartBadgeCount() > 0);
     }
@@ -528,8 +513,7 @@ public class InventoryStepDefinitions {
     @Given("I have multiple items in my cart")
     public void i_have_multiple_items_in_my_cart() {
         logger.info("Ensuring multiple items are in cart");
-        inventoryPage.addProductToCartByIndex(0);
-        inventoryPage.addProductToCartByIndex(1);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0, 1);
         Assert.assertTrue("Cart should have multiple items", inventoryPage.getCartBadgeCount() >= 2);
     }
 
@@ -580,24 +564,19 @@ public class InventoryStepDefinitions {
     @Given("I add all available products to cart")
     public void i_add_all_available_products_to_cart() {
         logger.info("Adding all available products to cart");
-        int productCount = inventoryPage.getInventoryItemCount();
-        for (int i = 0; i < productCount; i++) {
-            inventoryPage.addProductToCartByIndex(i);
-        }
+        CartSeeder.addAllProductsToCart(testContext.getDriver());
     }
 
     @Given("I have added specific products to cart")
     public void i_have_added_specific_products_to_cart() {
         logger.info("Adding specific products to cart");
-        inventoryPage.addProductToCartByIndex(0);
-        inventoryPage.addProductToCartByIndex(2);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0, 2);
     }
 
     @Given("I have added products with known prices to cart")
     public void i_have_added_products_with_known_prices_to_cart() {
         logger.info("Adding products with known prices to cart");
-        inventoryPage.addProductToCartByIndex(0);
-        inventoryPage.addProductToCartByIndex(1);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0, 1);
     }
 
     // Stub implementations for steps requiring cart/checkout page interactions
@@ -640,17 +619,22 @@ public class InventoryStepDefinitions {
 
     @Then("I should see the subtotal calculation")
     public void i_should_see_the_subtotal_calculation() {
-        throw new io.cucumber.java.PendingException("Cart page verification required");
+        CheckoutSummary summary = testContext.getCheckoutPage().getCheckoutSummary();
+        logger.info("Verifying item total {} against item prices", summary.getItemTotal());
+        Assert.assertEquals("Item total should be the sum of item prices", summary.getItemSum(), summary.getItemTotal());
     }
 
     @Then("I should see the tax calculation")
     public void i_should_see_the_tax_calculation() {
-        throw new io.cucumber.java.PendingException("Cart page verification required");
+        the_tax_amount_should_be_calculated_correctly();
     }
 
     @Then("I should see the total calculation")
     public void i_should_see_the_total_calculation() {
-        throw new io.cucumber.java.PendingException("Cart page verification required");
+        CheckoutSummary summary = testContext.getCheckoutPage().getCheckoutSummary();
+        logger.info("Reconciling checkout summary: {}", summary);
+        Assert.assertEquals("Checkout summary should reconcile", List.of(),
+            summary.reconcile(testContext.getConfigManager().getIntProperty("checkout.tax.basis.points", 800)));
     }
 
     // Additional stub implementations for remaining steps
@@ -790,12 +774,19 @@ public class InventoryStepDefinitions {
 
     @Then("the tax amount should be calculated correctly")
     public void the_tax_amount_should_be_calculated_correctly() {
-        throw new io.cucumber.java.PendingException("Tax calculation verification required");
+        CheckoutSummary summary = testContext.getCheckoutPage().getCheckoutSummary();
+        int taxBasisPoints = testContext.getConfigManager().getIntProperty("checkout.tax.basis.points", 800);
+        logger.info("Verifying tax {} at {} basis points of {}", summary.getTax(), taxBasisPoints, summary.getItemTotal());
+        Assert.assertEquals("Tax should be the tax rate of the item total",
+            summary.getItemTotal().percentage(taxBasisPoints), summary.getTax());
     }
 
     @Then("the total amount should be the sum of item total and tax")
     public void the_total_amount_should_be_the_sum_of_item_total_and_tax() {
-        throw new io.cucumber.java.PendingException("Total calculation verification required");
+        CheckoutSummary summary = testContext.getCheckoutPage().getCheckoutSummary();
+        logger.info("Verifying total {} against item total and tax", summary.getTotal());
+        Assert.assertEquals("Total should be item total plus tax",
+            summary.getItemTotal().plus(summary.getTax()), summary.getTotal());
     }
 
     @When("I click on a product name to view details")
@@ -960,16 +951,14 @@ public class InventoryStepDefinitions {
     @Given("I have added a product to cart from inventory")
     public void i_have_added_a_product_to_cart_from_inventory() {
         logger.info("Adding a product to cart from inventory");
-        inventoryPage.addProductToCartByIndex(0);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0);
         Assert.assertTrue("Product should be in cart", inventoryPage.getCartBadgeCount() > 0);
     }
 
     @Given("I have added multiple products to cart")
     public void i_have_added_multiple_products_to_cart() {
         logger.info("Adding multiple products to cart");
-        inventoryPage.addProductToCartByIndex(0);
-        inventoryPage.addProductToCartByIndex(1);
-        inventoryPage.addProductToCartByIndex(2);
+        CartSeeder.addToCartByIndex(testContext.getDriver(), 0, 1, 2);
         Assert.assertTrue("Cart should have multiple items", inventoryPage.getCartBadgeCount() >= 3);
     }
 
@@ -1015,4 +1004,15 @@ public class InventoryStepDefinitions {
         logger.info("Verifying cart contains correct number of items");
         Assert.assertTrue("Cart should have correct item count", inventoryPage.getCartBadgeCount() >= 0);
     }
+
+    /**
+     * Allow product images through the network policy and reload so they are actually fetched
+     */
+    private void allowProductImages() {
+        NetworkPolicy networkPolicy = testContext.getNetworkPolicy();
+        if (networkPolicy != null && networkPolicy.allowResourceTypes("Image")) {
+            testContext.getDriver().navigate().refresh();
+            inventoryPage.waitForInventoryPageToLoad();
+        }
+    }
 }
\ No newline at end of file
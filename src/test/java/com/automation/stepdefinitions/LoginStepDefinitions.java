@@ -18,6 +18,8 @@ public class LoginStepDefinitions {
     private static final Logger logger = LogManager.getLogger(LoginStepDefinitions.class);
     private final TestContext testContext;
     private final LoginPage loginPage;
+    private String enteredUsername = "";
+    private String enteredPassword = "";
 
     public LoginStepDefinitions(TestContext testContext) {
         this.testContext = testContext;
@@ -34,12 +36,14 @@ public class LoginStepDefinitions {
     public void i_enter_username(String username) {
         logger.info("Entering username: {}", username);
         loginPage.enterUsername(username);
+        enteredUsername = username;
     }
 
     @When("I enter password {string}")
     public void i_enter_password(String password) {
         logger.info("Entering password: {}", password);
         loginPage.enterPassword(password);
+        enteredPassword = password;
     }
 
     @When("I click the login button")
@@ -49,12 +53,20 @@ public class LoginStepDefinitions {
         
         // Handle any Chrome popups that might appear after login
         WaitUtils.handleChromePopups(testContext.getDriver());
+        String username = enteredUsername;
+        String password = enteredPassword;
+        rememberLoginAction(username, () -> {
+            loginPage.enterUsername(username);
+            loginPage.enterPassword(password);
+            loginPage.clickLoginButton();
+        });
     }
 
     @When("I login with valid credentials {string}")
     public void i_login_with_valid_credentials(String username) {
         logger.info("Logging in with valid credentials for user: {}", username);
         loginPage.login(username, "secret_sauce");
+        rememberLoginAction(username, () -> loginPage.login(username, "secret_sauce"));
     }
 
     @When("I enter invalid credentials {string} {string}")
@@ -140,4 +152,18 @@ public class LoginStepDefinitions {
         Assert.assertEquals("Password label should match", expectedLabel, 
             loginPage.getPasswordLabel());
     }
+
+    /**
+     * Record login so latency steps can repeat it from a logged out login page
+     * @param username user logging in
+     * @param login the same interactions the scenario used to log in
+     */
+    private void rememberLoginAction(String username, Runnable login) {
+        testContext.setRepeatableAction("login as " + username,
+            () -> {
+                testContext.getDriver().manage().deleteAllCookies();
+                loginPage.navigateToLoginPage();
+            },
+            login);
+    }
 }
\ No newline at end of file
@@ -1,44 +1,162 @@
 package com.automation.stepdefinitions;
 
+import com.automation.base.ClickableResolver;
 import com.automation.config.ConfigManager;
+import com.automation.drivers.BrowserProcessMonitor;
+import com.automation.drivers.DriverRegistry;
+import com.automation.drivers.RecoveringDriver;
 import com.automation.drivers.WebDriverFactory;
+import com.automation.network.DevToolsSupport;
+import com.automation.network.NetworkActivityTracker;
+import com.automation.network.NetworkPolicy;
 import com.automation.pages.*;
+import com.automation.replay.TrafficRecorder;
+import com.automation.utils.PerformanceMetrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
 
 /**
  * TestContext class to manage shared test data and WebDriver instance
  * across step definitions and test scenarios.
  */
 public class TestContext {
+    private static final Logger logger = LogManager.getLogger(TestContext.class);
+
+    // Driver kept for the next scenario on the same thread when driver.reuse.enabled is set
+    private static final ThreadLocal<RetainedDriver> retainedDriver = new ThreadLocal<>();
+
+    static {
+        DriverRegistry.setReaper(TestContext::quitDriver);
+    }
+
     private WebDriver driver;
+    private String browser;
     private LoginPage loginPage;
     private InventoryPage inventoryPage;
     private CartPage cartPage;
     private CheckoutPage checkoutPage;
+    private ClickableResolver clickableResolver;
     private ConfigManager configManager;
+    private NetworkPolicy networkPolicy;
+    private String repeatableActionName;
+    private Runnable repeatableActionReset;
+    private Runnable repeatableAction;
+
+    /**
+     * Driver and its per-driver state kept between scenarios
+     */
+    private static final class RetainedDriver {
+        private final WebDriver driver;
+        private final String browser;
+        private final NetworkPolicy networkPolicy;
+
+        private RetainedDriver(WebDriver driver, String browser, NetworkPolicy networkPolicy) {
+            this.driver = driver;
+            this.browser = browser;
+            this.networkPolicy = networkPolicy;
+        }
+    }
 
     public TestContext() {
         this.configManager = ConfigManager.getInstance();
     }
 
     /**
-     * Initialize WebDriver and Page Objects
+     * Initialize WebDriver for the configured browser; page objects are created on first access
      */
     public void initializeDriver() {
+        initializeDriver(configManager.getProperty("browser", "chrome"));
+    }
+
+    /**
+     * Initialize WebDriver for a browser; page objects are created on first access
+     * @param browser chrome, firefox, edge or htmlunit
+     */
+    public void initializeDriver(String browser) {
         if (driver == null) {
-            this.driver = WebDriverFactory.createDriver();
-            initializePages();
+            RetainedDriver retained = retainedDriver.get();
+            retainedDriver.remove();
+            if (retained != null && !retained.browser.equals(browser)) {
+                // The previous scenario ran in another backend
+                quitDriver(retained.driver);
+                retained = null;
+            }
+            this.browser = browser;
+            if (retained != null) {
+                this.driver = retained.driver;
+                this.networkPolicy = retained.networkPolicy;
+                resetDriverServices();
+                logger.debug("Reusing driver of the previous scenario");
+            } else {
+                this.driver = WebDriverFactory.createDriver(browser);
+                if (RecoveringDriver.isEnabled()) {
+                    this.driver = RecoveringDriver.wrap(driver, () -> WebDriverFactory.createDriver(browser));
+                }
+                attachDriverServices();
+            }
+            DriverRegistry.markInUse(driver);
+            RecoveringDriver recovery = RecoveringDriver.of(driver);
+            if (recovery != null) {
+                recovery.setRecreatedListener(recreated -> reattachDriverServices());
+            }
         }
     }
 
     /**
-     * Initialize all page objects
+     * Attach network, metrics and process monitoring to the current browser session
      */
-    private void initializePages() {
-        this.loginPage = new LoginPage(driver);
-        this.inventoryPage = new InventoryPage(driver);
-        this.cartPage = new CartPage(driver);
-        this.checkoutPage = new CheckoutPage(driver);
+    private void attachDriverServices() {
+        if (NetworkPolicy.isEnabled()) {
+            this.networkPolicy = NetworkPolicy.apply(driver);
+        }
+        if (NetworkActivityTracker.isEnabled()) {
+            NetworkActivityTracker.attach(driver);
+        }
+        if (PerformanceMetrics.isEnabled()) {
+            PerformanceMetrics.install(driver);
+        }
+        if (BrowserProcessMonitor.isEnabled()) {
+            BrowserProcessMonitor.attach(driver);
+        }
+        if (TrafficRecorder.isEnabled()) {
+            TrafficRecorder.attach(driver);
+        }
+    }
+
+    /**
+     * Clear what the previous scenario left in the services of a reused driver: allow-lists and counters
+     * of the network policy, requests in flight and page loads not yet captured
+     */
+    private void resetDriverServices() {
+        if (networkPolicy != null) {
+            networkPolicy.reset();
+        }
+        NetworkActivityTracker tracker = NetworkActivityTracker.get(driver);
+        if (tracker != null) {
+            tracker.reset();
+        }
+        PerformanceMetrics.reset(driver);
+    }
+
+    /**
+     * Move network, metrics and process monitoring to a session that replaced a crashed one
+     */
+    private void reattachDriverServices() {
+        NetworkActivityTracker.detach(driver);
+        TrafficRecorder.detach(driver);
+        BrowserProcessMonitor lostMonitor = BrowserProcessMonitor.detach(driver);
+        DevToolsSupport.close(driver);
+        attachDriverServices();
+        DriverRegistry.markInUse(driver);
+        BrowserProcessMonitor monitor = BrowserProcessMonitor.get(driver);
+        if (lostMonitor != null && monitor != null) {
+            monitor.setScenario(lostMonitor.getScenario());
+        }
     }
 
     /**
@@ -52,6 +170,9 @@ public class TestContext {
      * Get LoginPage instance
      */
     public LoginPage getLoginPage() {
+        if (loginPage == null && driver != null) {
+            loginPage = new LoginPage(driver);
+        }
         return loginPage;
     }
 
@@ -59,6 +180,9 @@ public class TestContext {
      * Get InventoryPage instance
      */
     public InventoryPage getInventoryPage() {
+        if (inventoryPage == null && driver != null) {
+            inventoryPage = new InventoryPage(driver);
+        }
         return inventoryPage;
     }
 
@@ -66,6 +190,9 @@ public class TestContext {
      * Get CartPage instance
      */
     public CartPage getCartPage() {
+        if (cartPage == null && driver != null) {
+            cartPage = new CartPage(driver);
+        }
         return cartPage;
     }
 
@@ -73,9 +200,111 @@ public class TestContext {
      * Get CheckoutPage instance
      */
     public CheckoutPage getCheckoutPage() {
+        if (checkoutPage == null && driver != null) {
+            checkoutPage = new CheckoutPage(driver);
+        }
         return checkoutPage;
     }
 
+    /**
+     * Get resolver clicking buttons and links by text, with its index cached per page
+     * @return clickable resolver of the current driver
+     */
+    public ClickableResolver getClickableResolver() {
+        if (clickableResolver == null && driver != null) {
+            clickableResolver = new ClickableResolver(driver);
+        }
+        return clickableResolver;
+    }
+
+    /**
+     * Get process monitor of the current browser
+     * @return monitor, or null if browser process monitoring is not active
+     */
+    public BrowserProcessMonitor getBrowserProcessMonitor() {
+        return BrowserProcessMonitor.get(driver);
+    }
+
+    /**
+     * Get traffic recorder of the current browser
+     * @return recorder, or null if traffic recording is not active
+     */
+    public TrafficRecorder getTrafficRecorder() {
+        return TrafficRecorder.get(driver);
+    }
+
+    /**
+     * Remember the current page and session state to restore if the browser crashes during the next step
+     */
+    public void checkpointSession() {
+        RecoveringDriver recovery = RecoveringDriver.of(driver);
+        if (recovery != null) {
+            recovery.checkpoint();
+        }
+    }
+
+    /**
+     * Check whether the browser session still responds
+     * @return true if a driver exists and answers a liveness probe
+     */
+    public boolean isSessionAlive() {
+        RecoveringDriver recovery = RecoveringDriver.of(driver);
+        return driver != null && (recovery == null || recovery.isAlive());
+    }
+
+    /**
+     * Get browser session recoveries since the last call
+     * @return recovery descriptions, empty if no session was replaced
+     */
+    public List<String> getSessionRecoveries() {
+        RecoveringDriver recovery = RecoveringDriver.of(driver);
+        return recovery != null ? recovery.drainRecoveries() : List.of();
+    }
+
+    /**
+     * Get NetworkPolicy applied to the current driver
+     * @return network policy, or null if request blocking is not active
+     */
+    public NetworkPolicy getNetworkPolicy() {
+        return networkPolicy;
+    }
+
+    /**
+     * Remember the last action of the scenario so latency steps can repeat it
+     * @param name action description for logging
+     * @param reset restores the state the action starts from
+     * @param action the action itself
+     */
+    public void setRepeatableAction(String name, Runnable reset, Runnable action) {
+        this.repeatableActionName = name;
+        this.repeatableActionReset = reset;
+        this.repeatableAction = action;
+    }
+
+    /**
+     * Get description of the last repeatable action
+     * @return action description, or null if none was recorded
+     */
+    public String getRepeatableActionName() {
+        return repeatableActionName;
+    }
+
+    /**
+     * Get reset of the last repeatable action
+     * @return reset runnable, or null if none was recorded
+     */
+    public Runnable getRepeatableActionReset() {
+        return repeatableActionReset;
+    }
+
+    /**
+     * Get the last repeatable action
+     * @return action runnable, or null if none was recorded
+     */
+    public Runnable getRepeatableAction() {
+        return repeatableAction;
+    }
+
     /**
      * Get ConfigManager instance
      */
@@ -89,15 +318,64 @@ public class TestContext {
     public void navigateToApplication() {
         String baseUrl = configManager.getProperty("base.url");
         driver.get(baseUrl);
+        PerformanceMetrics.capture(driver, "TestContext: navigate");
     }
 
     /**
-     * Clean up resources
+     * Clean up resources; with driver.reuse.enabled the driver is reset and kept for the next
+     * scenario unless it exceeds the recycle thresholds of its process monitor
      */
     public void cleanup() {
         if (driver != null) {
-            driver.quit();
+            if (!configManager.getBooleanProperty("driver.reuse.enabled", false) || !retainDriver()) {
+                quitDriver(driver);
+            }
             driver = null;
+            browser = null;
+            networkPolicy = null;
+            loginPage = null;
+            inventoryPage = null;
+            cartPage = null;
+            checkoutPage = null;
+            clickableResolver = null;
+        }
+    }
+
+    /**
+     * Reset the browser to a blank state and keep it for the next scenario on this thread
+     * @return true if the driver was retained
+     */
+    private boolean retainDriver() {
+        BrowserProcessMonitor monitor = BrowserProcessMonitor.get(driver);
+        String recycleReason = monitor != null ? monitor.getRecycleReason() : null;
+        if (recycleReason != null) {
+            logger.info("Recycling driver: {}", recycleReason);
+            return false;
+        }
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+        } catch (WebDriverException e) {
+            logger.warn("Failed to reset driver for reuse, quitting it: {}", e.getMessage());
+            return false;
+        }
+        retainedDriver.set(new RetainedDriver(driver, browser, networkPolicy));
+        DriverRegistry.markIdle(driver);
+        return true;
+    }
+
+    private static void quitDriver(WebDriver driver) {
+        NetworkActivityTracker.detach(driver);
+        TrafficRecorder.detach(driver);
+        BrowserProcessMonitor.detach(driver);
+        DevToolsSupport.close(driver);
+        try {
+            DriverRegistry.quit(driver);
+        } catch (WebDriverException e) {
+            // A crashed browser cannot be quit cleanly; its driver service is stopped regardless
+            logger.warn("Failed to quit driver: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,289 @@
+package com.automation.stub;
+
+import com.automation.config.ConfigManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local stand-in for saucedemo.com served by the JDK HttpServer
+ * Serves a static replica of the login, inventory, cart and checkout pages with the same ids and classes
+ * the page objects target, plus a configurable latency profile that mimics performance_glitch_user.
+ * Used for hermetic offline runs and as the target for repeatable performance numbers.
+ */
+public class SauceDemoStubServer {
+    private static final Logger logger = LogManager.getLogger(SauceDemoStubServer.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final String RESOURCE_ROOT = "stub/saucedemo/";
+    private static final String SESSION_COOKIE = "session-username";
+    private static final String GLITCH_USER = "performance_glitch_user";
+    private static SauceDemoStubServer instance;
+
+    /**
+     * Artificial latency applied to responses
+     * Every request gets the base latency plus random jitter; page documents requested
+     * by performance_glitch_user additionally get the glitch latency
+     */
+    public static final class LatencyProfile {
+        private final long baseMillis;
+        private final long jitterMillis;
+        private final long glitchMillis;
+
+        public LatencyProfile(long baseMillis, long jitterMillis, long glitchMillis) {
+            this.baseMillis = baseMillis;
+            this.jitterMillis = jitterMillis;
+            this.glitchMillis = glitchMillis;
+        }
+
+        /**
+         * Build latency profile from configuration
+         * @return configured latency profile
+         */
+        public static LatencyProfile fromConfig() {
+            return new LatencyProfile(
+                config.getIntProperty("stub.server.latency.ms", 0),
+                config.getIntProperty("stub.server.latency.jitter.ms", 0),
+                config.getIntProperty("stub.server.glitch.latency.ms", 2500));
+        }
+
+        /**
+         * Calculate delay for a request
+         * @param username logged in user or null
+         * @param document true if the request is for an HTML page
+         * @return delay in milliseconds
+         */
+        public long delayFor(String username, boolean document) {
+            long delay = baseMillis;
+            if (jitterMillis > 0) {
+                delay += ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+            }
+            if (document && GLITCH_USER.equals(username)) {
+                delay += glitchMillis;
+            }
+            return delay;
+        }
+    }
+
+    private final Map<String, byte[]> resourceCache = new ConcurrentHashMap<>();
+    private final LatencyProfile latencyProfile;
+    private final byte[] placeholderImage;
+    private HttpServer server;
+    private ExecutorService executor;
+    private String baseUrl;
+    private String previousBaseUrl;
+    private boolean shutdownHookAdded;
+
+    private SauceDemoStubServer(LatencyProfile latencyProfile) {
+        this.latencyProfile = latencyProfile;
+        this.placeholderImage = buildPlaceholderImage(config.getIntProperty("stub.server.image.bytes", 24576));
+    }
+
+    /**
+     * Get singleton instance of SauceDemoStubServer
+     * @return SauceDemoStubServer instance
+     */
+    public static synchronized SauceDemoStubServer getInstance() {
+        if (instance == null) {
+            instance = new SauceDemoStubServer(LatencyProfile.fromConfig());
+        }
+        return instance;
+    }
+
+    /**
+     * Check if the stand-in server is enabled in configuration
+     * @return true if stub.server.enabled is set
+     */
+    public static boolean isEnabled() {
+        return config.getBooleanProperty("stub.server.enabled", false);
+    }
+
+    /**
+     * Start the server if it is not running yet and switch base.url to it
+     * @return base URL of the stand-in application
+     */
+    public synchronized String start() {
+        if (server != null) {
+            return baseUrl;
+        }
+        try {
+            int port = config.getIntProperty("stub.server.port", 0);
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            executor = Executors.newCachedThreadPool();
+            server.setExecutor(executor);
+            server.createContext("/", this::handle);
+            server.start();
+
+            baseUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+            previousBaseUrl = config.getProperty("base.url");
+            config.setProperty("base.url", baseUrl);
+            if (!shutdownHookAdded) {
+                Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "stub-server-shutdown"));
+                shutdownHookAdded = true;
+            }
+            logger.info("Sauce Demo stand-in server started on {}", baseUrl);
+            return baseUrl;
+        } catch (IOException e) {
+            logger.error("Failed to start Sauce Demo stand-in server: {}", e.getMessage());
+            throw new IllegalStateException("Failed to start Sauce Demo stand-in server", e);
+        }
+    }
+
+    /**
+     * Stop the server and point base.url back at the application it replaced
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            // Leave base.url alone if something else, e.g. the recording proxy, has pointed it elsewhere since
+            if (previousBaseUrl != null && baseUrl.equals(config.getProperty("base.url"))) {
+                config.setProperty("base.url", previousBaseUrl);
+            }
+            logger.info("Sauce Demo stand-in server stopped");
+        }
+    }
+
+    /**
+     * Get base URL of the running server
+     * @return base URL or null if not started
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = URLDecoder.decode(exchange.getRequestURI().getPath(), StandardCharsets.UTF_8);
+            if (path.startsWith("/v1/")) {
+                path = path.substring(3);
+            }
+            String resource = path.equals("/") ? "index.html" : path.substring(1);
+            boolean document = resource.endsWith(".html");
+
+            simulateLatency(latencyProfile.delayFor(getSessionUser(exchange), document));
+
+            byte[] body;
+            String contentType;
+            if (resource.startsWith("img/")) {
+                body = placeholderImage;
+                contentType = "image/svg+xml";
+            } else {
+                body = loadResource(resource);
+                contentType = contentTypeFor(resource);
+            }
+
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        } catch (Exception e) {
+            logger.error("Stand-in server failed to handle {}: {}", exchange.getRequestURI(), e.getMessage());
+            // Once headers are out, a status can no longer be sent; closing the exchange ends the response
+            if (exchange.getResponseCode() == -1) {
+                exchange.sendResponseHeaders(500, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String getSessionUser(HttpExchange exchange) {
+        String cookies = exchange.getRequestHeaders().getFirst("Cookie");
+        if (cookies == null) {
+            return null;
+        }
+        for (String cookie : cookies.split(";")) {
+            String[] pair = cookie.trim().split("=", 2);
+            if (pair.length == 2 && SESSION_COOKIE.equals(pair[0])) {
+                return URLDecoder.decode(pair[1], StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void simulateLatency(long delayMillis) {
+        if (delayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private byte[] loadResource(String resource) {
+        if (resource.contains("..")) {
+            return null;
+        }
+        return resourceCache.computeIfAbsent(resource, name -> {
+            try (InputStream input = SauceDemoStubServer.class.getClassLoader().getResourceAsStream(RESOURCE_ROOT + name)) {
+                return input != null ? input.readAllBytes() : null;
+            } catch (IOException e) {
+                logger.error("Failed to read stand-in resource {}: {}", name, e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    private String contentTypeFor(String resource) {
+        if (resource.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        } else if (resource.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        } else if (resource.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        return "application/octet-stream";
+    }
+
+    /**
+     * Build an SVG placeholder padded to roughly the size of a real product image
+     * so image-blocking and byte-accounting behave like they do against the real site
+     */
+    private static byte[] buildPlaceholderImage(int targetBytes) {
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"120\" height=\"150\">"
+            + "<rect width=\"120\" height=\"150\" fill=\"#e2231a\"/></svg>";
+        int padding = Math.max(0, targetBytes - svg.length() - 7);
+        char[] filler = new char[padding];
+        Arrays.fill(filler, ' ');
+        return (svg + "<!--" + new String(filler) + "-->").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Run the stand-in server standalone, e.g. for benchmarks or manual exploration
+     * @param args unused
+     */
+    public static void main(String[] args) throws InterruptedException {
+        String url = getInstance().start();
+        System.out.println("Sauce Demo stand-in server running at " + url);
+        Thread.currentThread().join();
+    }
+}
@@ -21,7 +21,7 @@ import org.testng.annotations.DataProvider;
         "junit:target/cucumber-reports/CucumberTestReport.xml",
         "timeline:target/cucumber-reports/timeline"
     },
-    tags = "@login", // Default tags, can be overridden by system property
+    tags = "@login and not @performance", // Default tags, can be overridden by system property
     monochrome = true,
     dryRun = false,
     publish = false
@@ -0,0 +1,83 @@
+package com.automation.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for reconciling the checkout overview amounts
+ */
+public class CheckoutSummaryTest {
+    private static final long TAX_8_PERCENT = 800;
+
+    @Test
+    public void consistentSummaryHasNoMismatches() {
+        CheckoutSummary summary = CheckoutSummary.parse(List.of("$29.99", "$9.99"),
+            "Item total: $39.98", "Tax: $3.20", "Total: $43.18");
+        assertTrue(summary.reconcile(TAX_8_PERCENT).isEmpty(), summary.reconcile(TAX_8_PERCENT).toString());
+        assertEquals(summary.getItemCount(), 2);
+    }
+
+    @Test
+    public void itemPricesAddUpWithoutFloatingPointError() {
+        // 0.1 + 0.2 != 0.3 in doubles
+        CheckoutSummary summary = CheckoutSummary.parse(List.of("$0.10", "$0.20"),
+            "Item total: $0.30", "Tax: $0.00", "Total: $0.30");
+        assertTrue(summary.reconcile(-1).isEmpty());
+    }
+
+    @Test
+    public void reportsItemTotalThatIsNotTheSumOfPrices() {
+        CheckoutSummary summary = CheckoutSummary.parse(List.of("$29.99", "$9.99"),
+            "Item total: $39.99", "Tax: $3.20", "Total: $43.19");
+        List<String> mismatches = summary.reconcile(TAX_8_PERCENT);
+        assertEquals(mismatches.size(), 1, mismatches.toString());
+        assertTrue(mismatches.get(0).startsWith("item total $39.99"), mismatches.get(0));
+    }
+
+    @Test
+    public void reportsWrongTaxAndTotal() {
+        CheckoutSummary summary = CheckoutSummary.parse(List.of("$10.00"),
+            "Item total: $10.00", "Tax: $0.90", "Total: $11.00");
+        List<String> mismatches = summary.reconcile(TAX_8_PERCENT);
+        assertEquals(mismatches.size(), 2, mismatches.toString());
+        assertTrue(mismatches.get(0).startsWith("tax $0.90"), mismatches.get(0));
+        assertTrue(mismatches.get(1).startsWith("total $11.00"), mismatches.get(1));
+    }
+
+    @Test
+    public void taxRoundsHalfCentUp() {
+        // 2% of $0.25 is half a cent, shown as $0.01
+        CheckoutSummary rounded = CheckoutSummary.parse(List.of("$0.25"),
+            "Item total: $0.25", "Tax: $0.01", "Total: $0.26");
+        assertTrue(rounded.reconcile(200).isEmpty(), rounded.reconcile(200).toString());
+
+        CheckoutSummary truncated = CheckoutSummary.parse(List.of("$0.25"),
+            "Item total: $0.25", "Tax: $0.00", "Total: $0.25");
+        assertEquals(truncated.reconcile(200).size(), 1);
+    }
+
+    @Test
+    public void negativeTaxRateSkipsTaxCheck() {
+        CheckoutSummary summary = CheckoutSummary.parse(List.of("$10.00"),
+            "Item total: $10.00", "Tax: $0.90", "Total: $10.90");
+        assertTrue(summary.reconcile(-1).isEmpty());
+        assertEquals(summary.reconcile(TAX_8_PERCENT).size(), 1);
+    }
+
+    @Test
+    public void parsesSeparatorsAndOneDecimalInLabels() {
+        CheckoutSummary summary = CheckoutSummary.parse(List.of("$1,000.5", "$234"),
+            "Item total: $1,234.50", "Tax: $98.76", "Total: $1,333.26");
+        assertEquals(summary.getItemSum(), Money.ofCents(123450));
+        assertTrue(summary.reconcile(TAX_8_PERCENT).isEmpty(), summary.reconcile(TAX_8_PERCENT).toString());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsLabelWithMoreThanTwoDecimals() {
+        CheckoutSummary.parse(List.of("$10.00"), "Item total: $10.001", "Tax: $0.80", "Total: $10.80");
+    }
+}
@@ -0,0 +1,83 @@
+package com.automation.utils;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for nearest-rank latency percentiles
+ */
+public class LatencyStatsTest {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Samples of 1 to n ms, shuffled so the statistics have to sort them
+     */
+    private static LatencyStats millis(int n) {
+        long[] nanos = new long[n];
+        for (int i = 0; i < n; i++) {
+            nanos[i] = ((i * 7L) % n + 1) * 1_000_000L;
+        }
+        return LatencyStats.of(nanos);
+    }
+
+    @Test
+    public void percentilesUseNearestRank() {
+        LatencyStats stats = millis(20);
+        assertEquals(stats.getPercentileMillis(50), 10.0, DELTA);
+        assertEquals(stats.getPercentileMillis(95), 19.0, DELTA);
+        assertEquals(stats.getPercentileMillis(96), 20.0, DELTA);
+        assertEquals(stats.getPercentileMillis(100), 20.0, DELTA);
+    }
+
+    @Test
+    public void smallPercentileIsTheFastestSample() {
+        LatencyStats stats = millis(20);
+        assertEquals(stats.getPercentileMillis(0.1), 1.0, DELTA);
+        assertEquals(stats.getMinMillis(), 1.0, DELTA);
+    }
+
+    @Test
+    public void singleSampleIsEveryPercentile() {
+        LatencyStats stats = LatencyStats.of(new long[] {2_500_000L});
+        assertEquals(stats.getPercentileMillis(1), 2.5, DELTA);
+        assertEquals(stats.getPercentileMillis(95), 2.5, DELTA);
+        assertEquals(stats.getMaxMillis(), 2.5, DELTA);
+    }
+
+    @Test
+    public void summarizesSamples() {
+        LatencyStats stats = millis(4);
+        assertEquals(stats.getSampleCount(), 4);
+        assertEquals(stats.getMeanMillis(), 2.5, DELTA);
+        assertEquals(stats.getMaxMillis(), 4.0, DELTA);
+    }
+
+    @Test
+    public void measureRunsResetOutsideTheTiming() {
+        int[] resets = {0};
+        LatencyStats stats = LatencyStats.measure(3, () -> resets[0]++, () -> { });
+        assertEquals(resets[0], 3);
+        assertEquals(stats.getSampleCount(), 3);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsZeroPercentile() {
+        millis(5).getPercentileMillis(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsPercentileAboveHundred() {
+        millis(5).getPercentileMillis(100.5);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsNoSamples() {
+        LatencyStats.of(new long[0]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsNoIterations() {
+        LatencyStats.measure(0, () -> { }, () -> { });
+    }
+}
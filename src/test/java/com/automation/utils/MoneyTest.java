@@ -0,0 +1,98 @@
+package com.automation.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit tests for parsing page amounts into exact cents
+ */
+public class MoneyTest {
+
+    @Test
+    public void parsesAmountAfterDollarSign() {
+        assertEquals(Money.parseCents("Item total: $129.94"), 12994);
+        assertEquals(Money.parseCents("$0.08"), 8);
+    }
+
+    @Test
+    public void parsesAmountWithoutDollarSign() {
+        assertEquals(Money.parseCents("Tax 2.40"), 240);
+        assertEquals(Money.parseCents("7"), 700);
+    }
+
+    @Test
+    public void leadingMinusMakesAmountNegative() {
+        assertEquals(Money.parseCents("-$5.25"), -525);
+        assertEquals(Money.parseCents("Discount: -$0.50"), -50);
+        assertEquals(Money.parseCents("-3.10"), -310);
+    }
+
+    @Test
+    public void minusElsewhereIsIgnored() {
+        assertEquals(Money.parseCents("Sauce-Labs $5.25"), 525);
+    }
+
+    @Test
+    public void skipsGroupSeparators() {
+        assertEquals(Money.parseCents("$1,234.56"), 123456);
+        assertEquals(Money.parseCents("Total: $1,000,000.00"), 100000000);
+    }
+
+    @Test
+    public void commaBeforeDigitsIsSkipped() {
+        // A ',' before the first digit is not part of the amount
+        assertEquals(Money.parseCents("Items, $3.00"), 300);
+    }
+
+    @Test
+    public void oneDecimalIsTenths() {
+        assertEquals(Money.parseCents("$3.5"), 350);
+        assertEquals(Money.parseCents("$0.1"), 10);
+    }
+
+    @Test
+    public void trailingDotHasNoCents() {
+        assertEquals(Money.parseCents("$12."), 1200);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsMoreThanTwoDecimals() {
+        Money.parseCents("$1.999");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsTextWithoutAmount() {
+        Money.parseCents("Total: $");
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void rejectsDollarsOverflowingCents() {
+        // Fits in a long as dollars, but not once converted to cents
+        Money.parseCents("$92233720368547758.08");
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void rejectsDigitsOverflowingLong() {
+        Money.parseCents("$99999999999999999999");
+    }
+
+    @Test
+    public void percentageRoundsHalfCentsAwayFromZero() {
+        // 2% of 25 cents is exactly half a cent
+        assertEquals(Money.ofCents(25).percentage(200), Money.ofCents(1));
+        assertEquals(Money.ofCents(-25).percentage(200), Money.ofCents(-1));
+        // Just below half a cent rounds down
+        assertEquals(Money.ofCents(24).percentage(200), Money.ZERO);
+    }
+
+    @Test
+    public void sumsAndFormatsExactly() {
+        Money total = Money.sum(List.of("$0.10", "$0.20", "$0.30"));
+        assertEquals(total.getCents(), 60);
+        assertEquals(total.toString(), "$0.60");
+        assertEquals(Money.ofCents(-705).toString(), "-$7.05");
+    }
+}
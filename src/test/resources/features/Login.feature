@@ -27,7 +27,7 @@ Feature: User Authentication
       | problem_user     | Problem user          |
       | performance_glitch_user | Performance glitch user |
 
-  @negative
+  @negative @lightweight
   Scenario: Failed login with invalid username
     When I enter username "invalid_user"
     And I enter password "secret_sauce"
@@ -35,7 +35,7 @@ Feature: User Authentication
     Then I should see an error message
     And the error message should contain "Username and password do not match"
 
-  @negative
+  @negative @lightweight
   Scenario: Failed login with invalid password
     When I enter username "standard_user"
     And I enter password "wrong_password"
@@ -43,13 +43,13 @@ Feature: User Authentication
     Then I should see an error message
     And the error message should contain "Username and password do not match"
 
-  @negative
+  @negative @lightweight
   Scenario: Failed login with empty credentials
     When I click the login button
     Then I should see an error message
     And the error message should contain "Username is required"
 
-  @negative
+  @negative @lightweight
   Scenario: Failed login with locked out user
     When I enter username "locked_out_user"
     And I enter password "secret_sauce"
@@ -57,7 +57,7 @@ Feature: User Authentication
     Then I should see an error message
     And the error message should contain "Sorry, this user has been locked out"
 
-  @edge @validation
+  @edge @validation @lightweight
   Scenario: Login with special characters in username
     When I enter username "user@test.com"
     And I enter password "secret_sauce"
@@ -65,7 +65,7 @@ Feature: User Authentication
     Then I should see an error message
     And the error message should contain "Username and password do not match"
 
-  @edge @validation
+  @edge @validation @lightweight
   Scenario: Login with very long username
     When I enter username "very_long_username_that_exceeds_normal_length_limits_for_testing_purposes"
     And I enter password "secret_sauce"
@@ -0,0 +1,19 @@
+@performance @latency
+Feature: Page Load Latency
+  As a performance engineer
+  I want to measure how long key pages take to load over repeated logins
+  So that latency regressions are caught against a budget
+
+  Background:
+    Given I am on the login page
+
+  Scenario Outline: Inventory page load latency for different user types
+    When I enter username "<username>"
+    And I enter password "secret_sauce"
+    And I click the login button
+    Then the inventory page should load within <budget> ms at p95 over 20 iterations
+
+    Examples:
+      | username                | budget |
+      | standard_user           | 1500   |
+      | performance_glitch_user | 8000   |
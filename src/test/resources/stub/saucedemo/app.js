@@ -0,0 +1,400 @@
+/*
+ * Sauce Demo stand-in application logic.
+ * Mirrors the markup (ids, classes, data-test attributes) and storage layout of saucedemo.com
+ * so the page objects in com.automation.pages run unchanged against it.
+ */
+var SwagStub = (function () {
+    var CART_KEY = 'cart-contents';
+    var SESSION_COOKIE = 'session-username';
+    var PASSWORD = 'secret_sauce';
+    var VALID_USERS = ['standard_user', 'locked_out_user', 'problem_user', 'performance_glitch_user'];
+    var TAX_RATE = 0.08;
+
+    var PRODUCTS = [
+        {id: 0, name: 'Sauce Labs Bike Light', price: 9.99, image: 'bike-light-1200x1500.jpg',
+            desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included."},
+        {id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99, image: 'bolt-shirt-1200x1500.jpg',
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.'},
+        {id: 2, name: 'Sauce Labs Onesie', price: 7.99, image: 'red-onesie-1200x1500.jpg',
+            desc: "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel."},
+        {id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99, image: 'red-tatt-1200x1500.jpg',
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.'},
+        {id: 4, name: 'Sauce Labs Backpack', price: 29.99, image: 'sauce-backpack-1200x1500.jpg',
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.'},
+        {id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99, image: 'sauce-pullover-1200x1500.jpg',
+            desc: "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office."}
+    ];
+
+    function byId(id) {
+        for (var i = 0; i < PRODUCTS.length; i++) {
+            if (PRODUCTS[i].id === id) {
+                return PRODUCTS[i];
+            }
+        }
+        return null;
+    }
+
+    function slug(name) {
+        return name.toLowerCase().replace(/[^a-z0-9]+/g, '-').replace(/(^-|-$)/g, '');
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function escapeHtml(text) {
+        return String(text).replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;').replace(/"/g, '&quot;');
+    }
+
+    // --- Session and cart storage ---
+
+    function getSessionUser() {
+        var match = document.cookie.match(new RegExp('(?:^|; )' + SESSION_COOKIE + '=([^;]*)'));
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function setSessionUser(username) {
+        document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(username) + '; path=/';
+    }
+
+    function clearSession() {
+        document.cookie = SESSION_COOKIE + '=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+    }
+
+    function getCart() {
+        try {
+            return JSON.parse(window.localStorage.getItem(CART_KEY) || '[]');
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function setCart(ids) {
+        if (ids.length === 0) {
+            window.localStorage.removeItem(CART_KEY);
+        } else {
+            window.localStorage.setItem(CART_KEY, JSON.stringify(ids));
+        }
+        renderBadge();
+    }
+
+    function isInCart(id) {
+        return getCart().indexOf(id) >= 0;
+    }
+
+    function addToCart(id) {
+        var cart = getCart();
+        if (cart.indexOf(id) < 0) {
+            cart.push(id);
+        }
+        setCart(cart);
+    }
+
+    function removeFromCart(id) {
+        setCart(getCart().filter(function (item) { return item !== id; }));
+    }
+
+    function requireSession(page) {
+        if (!getSessionUser()) {
+            window.location.href = './index.html?error=' + encodeURIComponent(page);
+            return false;
+        }
+        return true;
+    }
+
+    // --- Shared header: burger menu and cart link ---
+
+    function renderHeader() {
+        var header = document.getElementById('header_container');
+        if (!header) {
+            return;
+        }
+        header.innerHTML =
+            '<div id="menu_button_container">' +
+            '  <div class="bm-burger-button"><button id="react-burger-menu-btn">Open Menu</button></div>' +
+            '  <div class="bm-menu-wrap" aria-hidden="true">' +
+            '    <div class="bm-menu"><nav class="bm-item-list">' +
+            '      <a id="inventory_sidebar_link" class="bm-item menu-item" href="./inventory.html">All Items</a>' +
+            '      <a id="about_sidebar_link" class="bm-item menu-item" href="https://saucelabs.com/">About</a>' +
+            '      <a id="logout_sidebar_link" class="bm-item menu-item" href="#">Logout</a>' +
+            '      <a id="reset_sidebar_link" class="bm-item menu-item" href="#">Reset App State</a>' +
+            '    </nav></div>' +
+            '    <div class="bm-cross-button"><button id="react-burger-cross-btn">Close Menu</button></div>' +
+            '  </div>' +
+            '</div>' +
+            '<div class="app_logo">Swag Labs</div>' +
+            '<div id="shopping_cart_container" class="shopping_cart_container">' +
+            '  <a href="./cart.html" class="shopping_cart_link" data-test="shopping-cart-link"></a>' +
+            '</div>';
+
+        var menu = header.querySelector('.bm-menu-wrap');
+        document.getElementById('react-burger-menu-btn').addEventListener('click', function () {
+            menu.className = 'bm-menu-wrap bm-menu-open';
+            menu.setAttribute('aria-hidden', 'false');
+        });
+        document.getElementById('react-burger-cross-btn').addEventListener('click', function () {
+            menu.className = 'bm-menu-wrap';
+            menu.setAttribute('aria-hidden', 'true');
+        });
+        document.getElementById('logout_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            clearSession();
+            window.location.href = './index.html';
+        });
+        document.getElementById('reset_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            setCart([]);
+            refreshInventoryButtons();
+        });
+        renderBadge();
+    }
+
+    function renderBadge() {
+        var link = document.querySelector('.shopping_cart_link');
+        if (!link) {
+            return;
+        }
+        var count = getCart().length;
+        link.innerHTML = count > 0 ? '<span class="shopping_cart_badge" data-test="shopping-cart-badge">' + count + '</span>' : '';
+    }
+
+    function cartButtonHtml(product) {
+        var inCart = isInCart(product.id);
+        var prefix = inCart ? 'remove-' : 'add-to-cart-';
+        return '<button class="btn_inventory ' + (inCart ? 'btn_secondary' : 'btn_primary') + '"' +
+            ' id="' + prefix + slug(product.name) + '" data-test="' + prefix + slug(product.name) + '"' +
+            ' data-product-id="' + product.id + '">' + (inCart ? 'REMOVE' : 'ADD TO CART') + '</button>';
+    }
+
+    function bindCartButtons(root) {
+        var buttons = root.querySelectorAll('button.btn_inventory');
+        for (var i = 0; i < buttons.length; i++) {
+            buttons[i].addEventListener('click', onCartButtonClick);
+        }
+    }
+
+    function onCartButtonClick(event) {
+        var button = event.currentTarget;
+        var id = Number(button.getAttribute('data-product-id'));
+        if (isInCart(id)) {
+            removeFromCart(id);
+        } else {
+            addToCart(id);
+        }
+        var wrapper = document.createElement('div');
+        wrapper.innerHTML = cartButtonHtml(byId(id));
+        var replacement = wrapper.firstChild;
+        button.parentNode.replaceChild(replacement, button);
+        replacement.addEventListener('click', onCartButtonClick);
+    }
+
+    function refreshInventoryButtons() {
+        var buttons = document.querySelectorAll('button.btn_inventory');
+        for (var i = 0; i < buttons.length; i++) {
+            var wrapper = document.createElement('div');
+            wrapper.innerHTML = cartButtonHtml(byId(Number(buttons[i].getAttribute('data-product-id'))));
+            buttons[i].parentNode.replaceChild(wrapper.firstChild, buttons[i]);
+        }
+        bindCartButtons(document);
+    }
+
+    function cartItemHtml(product, withButton) {
+        return '<div class="cart_item">' +
+            '<div class="cart_quantity">1</div>' +
+            '<div class="cart_item_label">' +
+            '  <a href="./inventory-item.html?id=' + product.id + '" id="item_' + product.id + '_title_link">' +
+            '    <div class="inventory_item_name">' + escapeHtml(product.name) + '</div></a>' +
+            '  <div class="inventory_item_desc">' + escapeHtml(product.desc) + '</div>' +
+            '  <div class="item_pricebar"><div class="inventory_item_price">' + money(product.price) + '</div>' +
+            (withButton ? '<button class="btn_secondary cart_button" data-product-id="' + product.id + '">REMOVE</button>' : '') +
+            '  </div>' +
+            '</div>' +
+            '</div>';
+    }
+
+    // --- Pages ---
+
+    function initLogin() {
+        var params = new URLSearchParams(window.location.search);
+        if (params.get('error')) {
+            showError("Epic sadface: You can only access '/" + params.get('error') + "' when you are logged in.");
+        }
+        document.getElementById('login-form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            var username = document.getElementById('user-name').value;
+            var password = document.getElementById('password').value;
+            if (!username) {
+                showError('Epic sadface: Username is required');
+            } else if (!password) {
+                showError('Epic sadface: Password is required');
+            } else if (VALID_USERS.indexOf(username) < 0 || password !== PASSWORD) {
+                showError('Epic sadface: Username and password do not match any user in this service');
+            } else if (username === 'locked_out_user') {
+                showError('Epic sadface: Sorry, this user has been locked out.');
+            } else {
+                setSessionUser(username);
+                window.location.href = './inventory.html';
+            }
+        });
+    }
+
+    function showError(message) {
+        var container = document.getElementById('login-error') || document.getElementById('checkout-error');
+        container.innerHTML = '<h3 data-test="error"><button class="error-button">x</button>' + escapeHtml(message) + '</h3>';
+        container.querySelector('.error-button').addEventListener('click', function () {
+            container.innerHTML = '';
+        });
+    }
+
+    function initInventory() {
+        if (!requireSession('inventory.html')) {
+            return;
+        }
+        renderHeader();
+        var sort = document.querySelector('.product_sort_container');
+        sort.addEventListener('change', function () {
+            renderInventory(sort.value);
+        });
+        renderInventory(sort.value);
+    }
+
+    function renderInventory(sortValue) {
+        var products = PRODUCTS.slice();
+        products.sort(function (a, b) {
+            switch (sortValue) {
+                case 'za': return b.name.localeCompare(a.name);
+                case 'lohi': return a.price - b.price || a.name.localeCompare(b.name);
+                case 'hilo': return b.price - a.price || a.name.localeCompare(b.name);
+                default: return a.name.localeCompare(b.name);
+            }
+        });
+        var html = '';
+        for (var i = 0; i < products.length; i++) {
+            var product = products[i];
+            html += '<div class="inventory_item">' +
+                '<div class="inventory_item_img"><a href="./inventory-item.html?id=' + product.id + '" id="item_' + product.id + '_img_link">' +
+                '<img class="inventory_item_img" alt="' + escapeHtml(product.name) + '" src="img/' + product.image + '"></a></div>' +
+                '<div class="inventory_item_label">' +
+                '  <a href="./inventory-item.html?id=' + product.id + '" id="item_' + product.id + '_title_link">' +
+                '    <div class="inventory_item_name">' + escapeHtml(product.name) + '</div></a>' +
+                '  <div class="inventory_item_desc">' + escapeHtml(product.desc) + '</div>' +
+                '</div>' +
+                '<div class="pricebar"><div class="inventory_item_price">' + money(product.price) + '</div>' + cartButtonHtml(product) + '</div>' +
+                '</div>';
+        }
+        var list = document.querySelector('.inventory_list');
+        list.innerHTML = html;
+        bindCartButtons(list);
+    }
+
+    function initInventoryItem() {
+        if (!requireSession('inventory-item.html')) {
+            return;
+        }
+        renderHeader();
+        var id = Number(new URLSearchParams(window.location.search).get('id'));
+        var product = byId(id);
+        var container = document.getElementById('inventory_item_container');
+        if (!product) {
+            container.innerHTML = '<div class="inventory_details_name">ITEM NOT FOUND</div>';
+            return;
+        }
+        container.innerHTML =
+            '<button class="inventory_details_back_button" id="back-to-products" data-test="back-to-products"' +
+            ' onclick="window.location.href=\'./inventory.html\'">Back to products</button>' +
+            '<div class="inventory_details">' +
+            '  <img class="inventory_details_img" alt="' + escapeHtml(product.name) + '" src="img/' + product.image + '">' +
+            '  <div class="inventory_details_desc_container">' +
+            '    <div class="inventory_details_name">' + escapeHtml(product.name) + '</div>' +
+            '    <div class="inventory_details_desc">' + escapeHtml(product.desc) + '</div>' +
+            '    <div class="inventory_details_price">' + money(product.price) + '</div>' +
+            cartButtonHtml(product) +
+            '  </div>' +
+            '</div>';
+        bindCartButtons(container);
+    }
+
+    function initCart() {
+        if (!requireSession('cart.html')) {
+            return;
+        }
+        renderHeader();
+        var list = document.querySelector('.cart_list');
+        var cart = getCart();
+        for (var i = 0; i < cart.length; i++) {
+            var product = byId(cart[i]);
+            if (product) {
+                list.insertAdjacentHTML('beforeend', cartItemHtml(product, true));
+            }
+        }
+        var buttons = list.querySelectorAll('button.cart_button');
+        for (var j = 0; j < buttons.length; j++) {
+            buttons[j].addEventListener('click', function (event) {
+                var button = event.currentTarget;
+                removeFromCart(Number(button.getAttribute('data-product-id')));
+                var item = button.closest('.cart_item');
+                item.parentNode.removeChild(item);
+            });
+        }
+    }
+
+    function initCheckoutStepOne() {
+        if (!requireSession('checkout-step-one.html')) {
+            return;
+        }
+        renderHeader();
+        document.getElementById('checkout-form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            if (!document.getElementById('first-name').value) {
+                showError('Error: First Name is required');
+            } else if (!document.getElementById('last-name').value) {
+                showError('Error: Last Name is required');
+            } else if (!document.getElementById('postal-code').value) {
+                showError('Error: Postal Code is required');
+            } else {
+                window.location.href = './checkout-step-two.html';
+            }
+        });
+    }
+
+    function initCheckoutStepTwo() {
+        if (!requireSession('checkout-step-two.html')) {
+            return;
+        }
+        renderHeader();
+        var list = document.querySelector('.cart_list');
+        var cart = getCart();
+        var subtotalCents = 0;
+        for (var i = 0; i < cart.length; i++) {
+            var product = byId(cart[i]);
+            if (product) {
+                list.insertAdjacentHTML('beforeend', cartItemHtml(product, false));
+                subtotalCents += Math.round(product.price * 100);
+            }
+        }
+        var taxCents = Math.round(subtotalCents * TAX_RATE);
+        document.querySelector('.summary_subtotal_label').textContent = 'Item total: ' + money(subtotalCents / 100);
+        document.querySelector('.summary_tax_label').textContent = 'Tax: ' + money(taxCents / 100);
+        document.querySelector('.summary_total_label').textContent = 'Total: ' + money((subtotalCents + taxCents) / 100);
+        document.getElementById('finish').addEventListener('click', function () {
+            setCart([]);
+        });
+    }
+
+    function initCheckoutComplete() {
+        if (!requireSession('checkout-complete.html')) {
+            return;
+        }
+        renderHeader();
+    }
+
+    return {
+        initLogin: initLogin,
+        initInventory: initInventory,
+        initInventoryItem: initInventoryItem,
+        initCart: initCart,
+        initCheckoutStepOne: initCheckoutStepOne,
+        initCheckoutStepTwo: initCheckoutStepTwo,
+        initCheckoutComplete: initCheckoutComplete
+    };
+})();